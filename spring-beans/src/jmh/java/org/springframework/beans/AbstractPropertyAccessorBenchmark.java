@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -80,6 +80,22 @@ public class AbstractPropertyAccessorBenchmark {
 		return state.target;
 	}
 
+	@Benchmark
+	public Object getPropertyValue(BenchmarkState state) {
+		return state.propertyAccessor.getPropertyValue("array");
+	}
+
+	@State(Scope.Benchmark)
+	public static class RecordState {
+
+		public BeanWrapper propertyAccessor = new BeanWrapperImpl(new Point(1, 2));
+	}
+
+	@Benchmark
+	public Object getRecordComponentValue(RecordState state) {
+		return state.propertyAccessor.getPropertyValue("x");
+	}
+
 	@SuppressWarnings("unused")
 	private static class PrimitiveArrayBean {
 
@@ -94,4 +110,7 @@ public class AbstractPropertyAccessorBenchmark {
 		}
 	}
 
+	private record Point(int x, int y) {
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,8 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
+import org.springframework.beans.testfixture.beans.TestBean;
+
 @State(Scope.Thread)
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -34,11 +36,17 @@ public class BeanUtilsBenchmark {
 
 	private Constructor<TestClass1> noArgConstructor;
 	private Constructor<TestClass2> constructor;
+	private TestBean source;
+	private String[] noIgnoredProperties;
 
 	@Setup
-	public void setUp() throws NoSuchMethodException {
+	public void setUp() throws Exception {
 		this.noArgConstructor = TestClass1.class.getDeclaredConstructor();
 		this.constructor = TestClass2.class.getDeclaredConstructor(int.class, String.class);
+		this.source = new TestBean("juergen", 99);
+		this.source.setTouchy("touchy");
+		this.source.setSpouse(new TestBean("kerry"));
+		this.noIgnoredProperties = new String[0];
 	}
 
 	@Benchmark
@@ -51,6 +59,27 @@ public class BeanUtilsBenchmark {
 		return BeanUtils.instantiateClass(this.constructor, 1, "str");
 	}
 
+	@Benchmark
+	public Object copyProperties() {
+		TestBean target = new TestBean();
+		BeanUtils.copyProperties(this.source, target);
+		return target;
+	}
+
+	@Benchmark
+	public Object copyPropertiesWithEmptyIgnoredProperties() {
+		TestBean target = new TestBean();
+		BeanUtils.copyProperties(this.source, target, this.noIgnoredProperties);
+		return target;
+	}
+
+	@Benchmark
+	public Object copyPropertiesWithIgnoredProperties() {
+		TestBean target = new TestBean();
+		BeanUtils.copyProperties(this.source, target, "spouse", "touchy");
+		return target;
+	}
+
 	static class TestClass1 {
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,13 +28,15 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.beans.propertyeditors.CustomDateEditor;
 
 import static org.springframework.core.testfixture.io.ResourceTestUtils.qualifiedResource;
 
 /**
- * Benchmark for creating prototype beans in a concurrent fashion.
+ * Benchmark for creating prototype beans and retrieving singleton beans
+ * in a concurrent fashion.
  * This benchmark requires to customize the number of worker threads {@code -t <int>} on the
  * CLI when running this particular benchmark to leverage concurrency.
  *
@@ -67,6 +69,28 @@ public class ConcurrentBeanFactoryBenchmark {
 		bh.consume(state.factory.getBean("bean2"));
 	}
 
+	@State(Scope.Benchmark)
+	public static class SingletonState {
+
+		public DefaultListableBeanFactory factory;
+
+		@Setup
+		public void setup() {
+			this.factory = new DefaultListableBeanFactory();
+			this.factory.registerBeanDefinition("bean1", new RootBeanDefinition(ConcurrentBean.class));
+			this.factory.registerBeanDefinition("bean2", new RootBeanDefinition(ConcurrentBean.class));
+			this.factory.registerAlias("bean2", "alias2");
+			this.factory.freezeConfiguration();
+			this.factory.preInstantiateSingletons();
+		}
+	}
+
+	@Benchmark
+	public void concurrentSingletonLookup(SingletonState state, Blackhole bh) {
+		bh.consume(state.factory.getBean("bean1"));
+		bh.consume(state.factory.getBean("alias2", ConcurrentBean.class));
+	}
+
 
 	public static class ConcurrentBean {
 
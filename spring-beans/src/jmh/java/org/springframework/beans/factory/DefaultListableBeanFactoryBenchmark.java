@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.ResolvableType;
 
 /**
  * Benchmark for retrieving various bean types from the {@link DefaultListableBeanFactory}.
@@ -95,11 +96,17 @@ public class DefaultListableBeanFactoryBenchmark {
 	@State(Scope.Benchmark)
 	public static class SingletonLookupState extends Shared {
 
+		@Param({"true", "false"})
+		public boolean frozen;
+
 		@Setup
 		public void setup() {
 			this.beanFactory = new DefaultListableBeanFactory();
 			this.beanFactory.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
-			this.beanFactory.freezeConfiguration();
+			this.beanFactory.registerAlias("test", "alias");
+			if (this.frozen) {
+				this.beanFactory.freezeConfiguration();
+			}
 		}
 	}
 
@@ -108,6 +115,11 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean("test");
 	}
 
+	@Benchmark
+	public Object singletLookupByAlias(SingletonLookupState state) {
+		return state.beanFactory.getBean("alias");
+	}
+
 	@Benchmark
 	public Object singletLookupByType(SingletonLookupState state) {
 		return state.beanFactory.getBean(TestBean.class);
@@ -133,10 +145,76 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class TypeLookupManyBeansState extends Shared {
+
+		@Param({"true", "false"})
+		public boolean frozen;
+
+		@Param({"1000", "5000"})
+		public int beanCount;
+
+		public ResolvableType type = ResolvableType.forClassWithGenerics(Holder.class, B.class);
+
+		@Setup
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				Class<?> beanClass = (i % 100 == 0 ? BHolder.class : A.class);
+				this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(beanClass));
+			}
+			if (this.frozen) {
+				this.beanFactory.freezeConfiguration();
+			}
+			this.beanFactory.preInstantiateSingletons();
+		}
+	}
+
+	@Benchmark
+	public String[] genericTypeLookupManyBeans(TypeLookupManyBeansState state) {
+		return state.beanFactory.getBeanNamesForType(state.type);
+	}
+
+	@State(Scope.Thread)
+	public static class StartupState {
+
+		@Param({"true", "false"})
+		public boolean frozen;
+
+		@Param({"1000"})
+		public int beanCount;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	public DefaultListableBeanFactory startupWithGenericLookups(StartupState state) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		for (int i = 0; i < state.beanCount; i++) {
+			Class<?> beanClass = (i % 10 == 0 ? BHolder.class : A.class);
+			beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(beanClass));
+		}
+		if (state.frozen) {
+			beanFactory.freezeConfiguration();
+		}
+		beanFactory.preInstantiateSingletons();
+		// Generic lookups are not cached, e.g. for ObjectProvider injection points
+		ResolvableType type = ResolvableType.forClassWithGenerics(Holder.class, B.class);
+		for (int i = 0; i < state.beanCount; i += 10) {
+			beanFactory.getBeanProvider(type).orderedStream().count();
+		}
+		return beanFactory;
+	}
+
 	static class A {
 	}
 
 	static class B {
 	}
 
+	interface Holder<T> {
+	}
+
+	static class BHolder implements Holder<B> {
+	}
+
 }
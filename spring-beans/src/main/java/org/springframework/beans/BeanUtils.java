@@ -24,6 +24,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -49,6 +50,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -76,6 +78,9 @@ public abstract class BeanUtils {
 	private static final Set<Class<?>> unknownEditorTypes =
 			Collections.newSetFromMap(new ConcurrentReferenceHashMap<>(64));
 
+	private static final Map<PropertyCopyKey, PropertyCopyPlan> propertyCopyPlans =
+			new ConcurrentReferenceHashMap<>(64);
+
 	private static final Map<Class<?>, Object> DEFAULT_TYPE_VALUES = Map.of(
 			boolean.class, false,
 			byte.class, (byte) 0,
@@ -720,6 +725,9 @@ public abstract class BeanUtils {
 	 * <tr><td>{@code List<Integer>}</td><td>{@code List<Long>}</td><td>no</td></tr>
 	 * <tr><td>{@code List<Integer>}</td><td>{@code List<Number>}</td><td>no</td></tr>
 	 * </table>
+	 * <p>As of Spring Framework 6.2, the matching properties are determined once
+	 * per combination of source class, target class and ignored properties, with
+	 * subsequent calls reusing the cached accessors.
 	 * @param source the source bean
 	 * @param target the target bean
 	 * @throws BeansException if the copying failed
@@ -800,35 +808,15 @@ public abstract class BeanUtils {
 			}
 			actualEditable = editable;
 		}
-		PropertyDescriptor[] targetPds = getPropertyDescriptors(actualEditable);
-		Set<String> ignoredProps = (ignoreProperties != null ? new HashSet<>(Arrays.asList(ignoreProperties)) : null);
-		CachedIntrospectionResults sourceResults = (actualEditable != source.getClass() ?
-				CachedIntrospectionResults.forClass(source.getClass()) : null);
-
-		for (PropertyDescriptor targetPd : targetPds) {
-			Method writeMethod = targetPd.getWriteMethod();
-			if (writeMethod != null && (ignoredProps == null || !ignoredProps.contains(targetPd.getName()))) {
-				PropertyDescriptor sourcePd = (sourceResults != null ?
-						sourceResults.getPropertyDescriptor(targetPd.getName()) : targetPd);
-				if (sourcePd != null) {
-					Method readMethod = sourcePd.getReadMethod();
-					if (readMethod != null) {
-						if (isAssignable(writeMethod, readMethod, sourcePd, targetPd)) {
-							try {
-								ReflectionUtils.makeAccessible(readMethod);
-								Object value = readMethod.invoke(source);
-								ReflectionUtils.makeAccessible(writeMethod);
-								writeMethod.invoke(target, value);
-							}
-							catch (Throwable ex) {
-								throw new FatalBeanException(
-										"Could not copy property '" + targetPd.getName() + "' from source to target", ex);
-							}
-						}
-					}
-				}
-			}
+		Set<String> ignoredProps = (!ObjectUtils.isEmpty(ignoreProperties) ?
+				new HashSet<>(Arrays.asList(ignoreProperties)) : null);
+		PropertyCopyKey key = new PropertyCopyKey(source.getClass(), actualEditable, ignoredProps);
+		PropertyCopyPlan plan = propertyCopyPlans.get(key);
+		if (plan == null) {
+			plan = PropertyCopyPlan.forKey(key);
+			propertyCopyPlans.put(key, plan);
 		}
+		plan.copy(source, target);
 	}
 
 	private static boolean isAssignable(Method writeMethod, Method readMethod,
@@ -852,6 +840,71 @@ public abstract class BeanUtils {
 	}
 
 
+	/**
+	 * Cache key for a {@link PropertyCopyPlan}.
+	 */
+	private record PropertyCopyKey(Class<?> sourceClass, Class<?> editableClass, @Nullable Set<String> ignoredProperties) {
+	}
+
+
+	/**
+	 * Pre-computed pairs of source read method and target write method for
+	 * {@link #copyProperties(Object, Object, Class, String...)}, determined once
+	 * per combination of source class, editable target class and ignored properties.
+	 */
+	private static final class PropertyCopyPlan {
+
+		private final GenericTypeAwarePropertyDescriptor[] sourcePds;
+
+		private final GenericTypeAwarePropertyDescriptor[] targetPds;
+
+		private PropertyCopyPlan(List<GenericTypeAwarePropertyDescriptor> sourcePds,
+				List<GenericTypeAwarePropertyDescriptor> targetPds) {
+
+			this.sourcePds = sourcePds.toArray(new GenericTypeAwarePropertyDescriptor[0]);
+			this.targetPds = targetPds.toArray(new GenericTypeAwarePropertyDescriptor[0]);
+		}
+
+		public static PropertyCopyPlan forKey(PropertyCopyKey key) {
+			Set<String> ignoredProps = key.ignoredProperties();
+			CachedIntrospectionResults sourceResults = (key.editableClass() != key.sourceClass() ?
+					CachedIntrospectionResults.forClass(key.sourceClass()) : null);
+			List<GenericTypeAwarePropertyDescriptor> sourcePds = new ArrayList<>();
+			List<GenericTypeAwarePropertyDescriptor> targetPds = new ArrayList<>();
+
+			for (PropertyDescriptor targetPd : getPropertyDescriptors(key.editableClass())) {
+				Method writeMethod = targetPd.getWriteMethod();
+				if (writeMethod != null && (ignoredProps == null || !ignoredProps.contains(targetPd.getName()))) {
+					PropertyDescriptor sourcePd = (sourceResults != null ?
+							sourceResults.getPropertyDescriptor(targetPd.getName()) : targetPd);
+					if (sourcePd != null) {
+						Method readMethod = sourcePd.getReadMethod();
+						if (readMethod != null && isAssignable(writeMethod, readMethod, sourcePd, targetPd)) {
+							sourcePds.add((GenericTypeAwarePropertyDescriptor) sourcePd);
+							targetPds.add((GenericTypeAwarePropertyDescriptor) targetPd);
+						}
+					}
+				}
+			}
+			return new PropertyCopyPlan(sourcePds, targetPds);
+		}
+
+		public void copy(Object source, Object target) throws BeansException {
+			for (int i = 0; i < this.targetPds.length; i++) {
+				GenericTypeAwarePropertyDescriptor targetPd = this.targetPds[i];
+				try {
+					Object value = this.sourcePds[i].invokeReadMethod(source);
+					targetPd.invokeWriteMethod(target, value);
+				}
+				catch (Throwable ex) {
+					throw new FatalBeanException(
+							"Could not copy property '" + targetPd.getName() + "' from source to target", ex);
+				}
+			}
+		}
+	}
+
+
 	/**
 	 * Inner class to avoid a hard dependency on Kotlin at runtime.
 	 */
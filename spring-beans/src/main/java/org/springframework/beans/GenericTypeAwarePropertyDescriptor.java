@@ -18,6 +18,10 @@ package org.springframework.beans;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Objects;
@@ -27,12 +31,14 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.NativeDetector;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.Property;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -40,11 +46,21 @@ import org.springframework.util.StringUtils;
  * overriding {@code getPropertyType()} such that a generically declared
  * type variable will be resolved against the containing bean class.
  *
+ * <p>Also provides invocation of the read and write methods through
+ * {@link MethodHandle}s which are lazily created and then cached along
+ * with this descriptor, avoiding the overhead of reflective invocation
+ * for repeated property access.
+ *
  * @author Juergen Hoeller
  * @since 2.5.2
  */
 final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 
+	private static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITE_METHOD_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+
 	private final Class<?> beanClass;
 
 	@Nullable
@@ -53,6 +69,9 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	@Nullable
 	private final Method writeMethod;
 
+	@Nullable
+	private final Class<?> writeMethodParameterType;
+
 	@Nullable
 	private Set<Method> ambiguousWriteMethods;
 
@@ -76,6 +95,14 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	@Nullable
 	private final Class<?> propertyEditorClass;
 
+	/** MethodHandle for the read method, or the Method itself if not invocable through a handle. */
+	@Nullable
+	private volatile Object readAccessor;
+
+	/** MethodHandle for the write method, or the Method itself if not invocable through a handle. */
+	@Nullable
+	private volatile Object writeAccessor;
+
 
 	public GenericTypeAwarePropertyDescriptor(Class<?> beanClass, String propertyName,
 			@Nullable Method readMethod, @Nullable Method writeMethod,
@@ -98,6 +125,7 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		}
 		this.readMethod = readMethodToUse;
 		this.writeMethod = writeMethodToUse;
+		this.writeMethodParameterType = (writeMethodToUse != null ? writeMethodToUse.getParameterTypes()[0] : null);
 
 		if (this.writeMethod != null) {
 			if (this.readMethod == null) {
@@ -183,6 +211,76 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		return (this.writeMethod != null && this.ambiguousWriteMethods == null);
 	}
 
+	/**
+	 * Invoke the read method on the given target instance.
+	 * @param target the target instance
+	 * @return the property value
+	 * @throws InvocationTargetException if the read method threw an exception
+	 */
+	@Nullable
+	public Object invokeReadMethod(Object target) throws Exception {
+		Method readMethod = getReadMethod();
+		Assert.state(readMethod != null, "No read method available");
+		Object accessor = this.readAccessor;
+		if (accessor == null) {
+			accessor = createAccessor(readMethod, READ_METHOD_TYPE);
+			this.readAccessor = accessor;
+		}
+		if (accessor instanceof MethodHandle handle) {
+			try {
+				return (Object) handle.invokeExact(target);
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		ReflectionUtils.makeAccessible(readMethod);
+		return readMethod.invoke(target, (Object[]) null);
+	}
+
+	/**
+	 * Invoke the write method for actual access on the given target instance.
+	 * @param target the target instance
+	 * @param value the property value to set
+	 * @throws InvocationTargetException if the write method threw an exception
+	 * @see #getWriteMethodForActualAccess()
+	 */
+	public void invokeWriteMethod(Object target, @Nullable Object value) throws Exception {
+		Method writeMethod = getWriteMethodForActualAccess();
+		Object accessor = this.writeAccessor;
+		if (accessor == null) {
+			accessor = createAccessor(writeMethod, WRITE_METHOD_TYPE);
+			this.writeAccessor = accessor;
+		}
+		// Reflective invocation for incompatible values, raising the common IllegalArgumentException
+		if (accessor instanceof MethodHandle handle &&
+				this.writeMethodParameterType != null &&
+				ClassUtils.isAssignableValue(this.writeMethodParameterType, value)) {
+			try {
+				handle.invokeExact(target, value);
+				return;
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		ReflectionUtils.makeAccessible(writeMethod);
+		writeMethod.invoke(target, value);
+	}
+
+	private static Object createAccessor(Method method, MethodType type) {
+		if (!NativeDetector.inNativeImage()) {
+			try {
+				ReflectionUtils.makeAccessible(method);
+				return MethodHandles.lookup().unreflect(method).asType(type);
+			}
+			catch (IllegalAccessException | RuntimeException ex) {
+				// Fall back to reflective invocation
+			}
+		}
+		return method;
+	}
+
 	public MethodParameter getWriteMethodParameter() {
 		Assert.state(this.writeMethodParameter != null, "No write method available");
 		return this.writeMethodParameter;
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of bean names by type for a frozen {@link DefaultListableBeanFactory},
+ * narrowing down the bean definitions to check for a by-type lookup.
+ *
+ * <p>Fully initialized singletons are indexed by all superclasses and interfaces
+ * of their instance class, which is what a by-type match against an existing
+ * singleton instance comes down to. All other beans (not yet created, non-singleton,
+ * {@code FactoryBean} or otherwise not indexable) remain candidates for every
+ * type, to be checked against their bean definition as usual. Candidates are
+ * returned in bean definition registration order.
+ *
+ * @since 6.2
+ * @see DefaultListableBeanFactory#freezeConfiguration()
+ */
+final class BeanTypeIndex {
+
+	private final String[] beanNames;
+
+	private final Map<String, Integer> positions;
+
+	/** Positions of beans that need to be checked for every type. */
+	private final BitSet unindexed;
+
+	/** Positions of indexed beans per superclass and interface. */
+	private final Map<Class<?>, BitSet> indexedByType = new HashMap<>();
+
+
+	BeanTypeIndex(List<String> beanNames) {
+		this.beanNames = beanNames.toArray(new String[0]);
+		this.positions = new HashMap<>(this.beanNames.length * 4 / 3 + 1);
+		for (int i = 0; i < this.beanNames.length; i++) {
+			this.positions.put(this.beanNames[i], i);
+		}
+		this.unindexed = new BitSet(this.beanNames.length);
+		this.unindexed.set(0, this.beanNames.length);
+	}
+
+
+	/**
+	 * Index the given bean by the type hierarchy of its singleton instance.
+	 * @param beanName the name of the bean
+	 * @param instanceClass the class of the fully initialized singleton instance
+	 */
+	synchronized void addSingleton(String beanName, Class<?> instanceClass) {
+		Integer position = this.positions.get(beanName);
+		if (position == null || !this.unindexed.get(position)) {
+			return;
+		}
+		for (Class<?> type : getTypeHierarchy(instanceClass)) {
+			this.indexedByType.computeIfAbsent(type, key -> new BitSet()).set(position);
+		}
+		this.unindexed.clear(position);
+	}
+
+	/**
+	 * Return the names of all beans that may match the given type,
+	 * in registration order.
+	 * @param type the raw type to match
+	 */
+	List<String> getCandidateNames(Class<?> type) {
+		BitSet candidates;
+		synchronized (this) {
+			candidates = (BitSet) this.unindexed.clone();
+			BitSet indexed = this.indexedByType.get(type);
+			if (indexed != null) {
+				candidates.or(indexed);
+			}
+		}
+		List<String> candidateNames = new ArrayList<>(candidates.cardinality());
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			candidateNames.add(this.beanNames[i]);
+		}
+		return candidateNames;
+	}
+
+	private static Set<Class<?>> getTypeHierarchy(Class<?> clazz) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+			types.add(current);
+			addInterfaces(current, types);
+		}
+		return types;
+	}
+
+	private static void addInterfaces(Class<?> clazz, Set<Class<?>> types) {
+		for (Class<?> ifc : clazz.getInterfaces()) {
+			if (types.add(ifc)) {
+				addInterfaces(ifc, types);
+			}
+		}
+	}
+
+}
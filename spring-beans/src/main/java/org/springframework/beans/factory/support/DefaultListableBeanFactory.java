@@ -30,6 +30,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -40,6 +42,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -58,6 +61,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.CannotLoadBeanClassException;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InjectionPoint;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
@@ -161,6 +165,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Nullable
 	private Executor bootstrapExecutor;
 
+	/** Whether to pre-instantiate independent singletons in parallel on the bootstrap executor. */
+	private boolean parallelBootstrap = false;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	@Nullable
 	private Comparator<Object> dependencyComparator;
@@ -199,9 +206,27 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Whether bean definition metadata may be cached for all beans. */
 	private volatile boolean configurationFrozen;
 
+	/** Fully initialized singletons by requested bean name, in case of frozen configuration. */
+	@Nullable
+	private volatile Map<String, Object> frozenSingletons;
+
+	/** Index of bean names by type, in case of frozen configuration. */
+	@Nullable
+	private volatile BeanTypeIndex beanTypeIndex;
+
+	/** Generation of the by-type index, incremented whenever the index gets discarded. */
+	private int beanTypeIndexGeneration;
+
+	/** Synchronization monitor for publishing and discarding the by-type index. */
+	private final Object beanTypeIndexMonitor = new Object();
+
 	private final NamedThreadLocal<PreInstantiation> preInstantiationThread =
 			new NamedThreadLocal<>("Pre-instantiation thread marker");
 
+	/** Claims on singletons in creation during parallel pre-instantiation. */
+	@Nullable
+	private volatile SingletonCreationClaims singletonCreationClaims;
+
 
 	/**
 	 * Create a new DefaultListableBeanFactory.
@@ -297,6 +322,36 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.bootstrapExecutor;
 	}
 
+	/**
+	 * Set whether to pre-instantiate independent singleton beans in parallel
+	 * on the {@linkplain #setBootstrapExecutor bootstrap executor}.
+	 * <p>Default is "false". Turn this flag on to let {@link #preInstantiateSingletons()}
+	 * derive a dependency graph between eager singletons from their merged bean
+	 * definitions, their depends-on declarations and the signatures of their
+	 * constructors or factory methods, and create each bean with dependencies
+	 * determined that way as soon as its dependencies are available. Remaining
+	 * beans are created in the mainline thread afterwards, in registration order.
+	 * <p>A dependency that is not expressed by the bean definition, e.g. a lookup
+	 * in an init method, is created by the thread that requests it, with other
+	 * threads waiting for its completion; circular waits between threads fall
+	 * back to regular circular reference resolution.
+	 * <p>Note that independent beans are not created in registration order then.
+	 * This flag has no effect without a bootstrap executor.
+	 * @since 6.2
+	 * @see #setBootstrapExecutor
+	 */
+	public void setParallelBootstrap(boolean parallelBootstrap) {
+		this.parallelBootstrap = parallelBootstrap;
+	}
+
+	/**
+	 * Return whether to pre-instantiate independent singleton beans in parallel.
+	 * @since 6.2
+	 */
+	public boolean isParallelBootstrap() {
+		return this.parallelBootstrap;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -344,6 +399,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.parallelBootstrap = otherListableFactory.parallelBootstrap;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -357,6 +413,79 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	// Implementation of remaining BeanFactory methods
 	//---------------------------------------------------------------------
 
+	/**
+	 * Overridden to serve fully initialized singletons from a read-optimized
+	 * cache once the configuration has been frozen, bypassing bean name
+	 * transformation and {@code FactoryBean} checks on repeated lookups.
+	 * @see #freezeConfiguration()
+	 */
+	@Override
+	public Object getBean(String name) throws BeansException {
+		Map<String, Object> frozenSingletons = this.frozenSingletons;
+		if (frozenSingletons != null) {
+			Object bean = frozenSingletons.get(name);
+			if (bean == null) {
+				bean = super.getBean(name);
+				cacheFrozenSingleton(frozenSingletons, name, bean);
+			}
+			return bean;
+		}
+		return super.getBean(name);
+	}
+
+	/**
+	 * Overridden to serve fully initialized singletons from a read-optimized
+	 * cache once the configuration has been frozen, bypassing bean name
+	 * transformation and {@code FactoryBean} checks on repeated lookups.
+	 * @see #freezeConfiguration()
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T getBean(String name, Class<T> requiredType) throws BeansException {
+		Map<String, Object> frozenSingletons = this.frozenSingletons;
+		if (frozenSingletons != null) {
+			Object bean = frozenSingletons.get(name);
+			if (bean != null && requiredType != null && requiredType.isInstance(bean)) {
+				return (T) bean;
+			}
+			T result = super.getBean(name, requiredType);
+			if (bean == null) {
+				cacheFrozenSingleton(frozenSingletons, name, result);
+			}
+			return result;
+		}
+		return super.getBean(name, requiredType);
+	}
+
+	/**
+	 * Add the given bean to the frozen singleton cache if it is the fully
+	 * initialized singleton instance (or cached {@code FactoryBean} object)
+	 * for the given name.
+	 */
+	private void cacheFrozenSingleton(Map<String, Object> frozenSingletons, String name, @Nullable Object bean) {
+		if (bean == null || bean instanceof NullBean || BeanFactoryUtils.isFactoryDereference(name)) {
+			return;
+		}
+		String beanName = transformedBeanName(name);
+		Object singleton = getSingleton(beanName, false);
+		if (singleton != null && !isSingletonCurrentlyInCreation(beanName) && (singleton == bean ||
+				(singleton instanceof FactoryBean && bean == getCachedObjectForFactoryBean(beanName)))) {
+			frozenSingletons.put(name, bean);
+		}
+	}
+
+	/**
+	 * Discard the frozen singleton cache, if any, after a change of singleton
+	 * instances, bean definitions or aliases.
+	 * <p>The cache gets replaced rather than cleared, so that a concurrent lookup
+	 * cannot re-populate it with an instance retrieved before the change.
+	 */
+	private void resetFrozenSingletons() {
+		if (this.frozenSingletons != null) {
+			this.frozenSingletons = new ConcurrentHashMap<>(64);
+		}
+	}
+
 	@Override
 	public <T> T getBean(Class<T> requiredType) throws BeansException {
 		return getBean(requiredType, (Object[]) null);
@@ -577,8 +706,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
 		List<String> result = new ArrayList<>();
 
-		// Check all bean definitions.
-		for (String beanName : this.beanDefinitionNames) {
+		// Check all bean definitions (or the candidates among them, in case of a frozen configuration).
+		for (String beanName : getBeanDefinitionNamesToCheck(type)) {
 			// Only consider bean as eligible if the bean name is not defined as alias for some other bean.
 			if (!isAlias(beanName)) {
 				try {
@@ -665,6 +794,93 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return (dbd != null ? mbd.isSingleton() : isSingleton(beanName));
 	}
 
+	/**
+	 * Determine the bean definition names to check for the given type:
+	 * all bean definition names, or the candidates from the by-type index
+	 * in case of a frozen configuration.
+	 * @see BeanTypeIndex
+	 */
+	private List<String> getBeanDefinitionNamesToCheck(ResolvableType type) {
+		Class<?> rawType = type.resolve();
+		if (!this.configurationFrozen || rawType == null) {
+			return this.beanDefinitionNames;
+		}
+		BeanTypeIndex index = this.beanTypeIndex;
+		if (index == null) {
+			index = buildBeanTypeIndex();
+		}
+		return index.getCandidateNames(rawType);
+	}
+
+	private BeanTypeIndex buildBeanTypeIndex() {
+		int generation;
+		synchronized (this.beanTypeIndexMonitor) {
+			generation = this.beanTypeIndexGeneration;
+		}
+		BeanTypeIndex index = new BeanTypeIndex(this.beanDefinitionNames);
+		for (String beanName : this.beanDefinitionNames) {
+			Object singleton = getSingleton(beanName, false);
+			if (singleton != null) {
+				addToBeanTypeIndex(index, beanName, singleton);
+			}
+		}
+		synchronized (this.beanTypeIndexMonitor) {
+			// Only publish the index if nothing changed in the meantime.
+			if (generation == this.beanTypeIndexGeneration) {
+				this.beanTypeIndex = index;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Add the given singleton to the given by-type index, provided that a type
+	 * match against it is fully determined by its instance class: that is, a
+	 * fully initialized singleton that is not a {@code FactoryBean}, with the
+	 * target type and factory method return type of its bean definition (which
+	 * are considered for generic matches) being implemented by the instance.
+	 */
+	private void addToBeanTypeIndex(BeanTypeIndex index, String beanName, Object singleton) {
+		if (singleton instanceof FactoryBean || singleton instanceof NullBean ||
+				isSingletonCurrentlyInCreation(beanName)) {
+			return;
+		}
+		try {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (isFactoryBean(beanName, mbd)) {
+				return;
+			}
+			ResolvableType targetType = mbd.targetType;
+			if (targetType != null && !targetType.toClass().isInstance(singleton)) {
+				return;
+			}
+			Class<?> resolvedTargetType = mbd.getTargetType();
+			if (resolvedTargetType != null && !resolvedTargetType.isInstance(singleton)) {
+				return;
+			}
+			ResolvableType returnType = mbd.factoryMethodReturnType;
+			if (returnType != null && !returnType.toClass().isInstance(singleton)) {
+				return;
+			}
+		}
+		catch (BeansException ex) {
+			// Not indexable -> remains a candidate for every type.
+			return;
+		}
+		index.addSingleton(beanName, singleton.getClass());
+	}
+
+	/**
+	 * Discard the by-type index, if any, after a change of singleton instances
+	 * or bean definitions.
+	 */
+	private void resetBeanTypeIndex() {
+		synchronized (this.beanTypeIndexMonitor) {
+			this.beanTypeIndexGeneration++;
+			this.beanTypeIndex = null;
+		}
+	}
+
 	/**
 	 * Check whether the specified bean would need to be eagerly initialized
 	 * in order to determine its type.
@@ -855,6 +1071,19 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return isAutowireCandidate(beanName, descriptor, getAutowireCandidateResolver());
 	}
 
+	/**
+	 * Determine whether the given type is satisfied by a registered
+	 * {@linkplain #registerResolvableDependency resolvable dependency}.
+	 */
+	boolean isResolvableDependencyType(Class<?> requiredType) {
+		for (Class<?> autowiringType : this.resolvableDependencies.keySet()) {
+			if (autowiringType.isAssignableFrom(requiredType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Determine whether the specified bean definition qualifies as an autowire candidate,
 	 * to be injected into other beans which declare a dependency of matching type.
@@ -951,6 +1180,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		clearMetadataCache();
 		this.configurationFrozen = true;
 		this.frozenBeanDefinitionNames = StringUtils.toStringArray(this.beanDefinitionNames);
+		this.frozenSingletons = new ConcurrentHashMap<>(64);
 	}
 
 	@Override
@@ -1002,7 +1232,27 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	@Override
 	protected boolean isCurrentThreadAllowedToHoldSingletonLock() {
-		return (this.preInstantiationThread.get() != PreInstantiation.BACKGROUND);
+		PreInstantiation preInstantiation = this.preInstantiationThread.get();
+		return (preInstantiation != PreInstantiation.BACKGROUND && preInstantiation != PreInstantiation.PARALLEL);
+	}
+
+	@Override
+	protected <T> T doGetBean(String name, @Nullable Class<T> requiredType, @Nullable Object[] args,
+			boolean typeCheckOnly) throws BeansException {
+
+		SingletonCreationClaims claims = this.singletonCreationClaims;
+		if (claims != null && this.preInstantiationThread.get() == PreInstantiation.PARALLEL) {
+			String beanName = transformedBeanName(name);
+			if (!containsSingleton(beanName) && claims.claim(beanName)) {
+				try {
+					return super.doGetBean(name, requiredType, args, typeCheckOnly);
+				}
+				finally {
+					claims.release(beanName);
+				}
+			}
+		}
+		return super.doGetBean(name, requiredType, args, typeCheckOnly);
 	}
 
 	@Override
@@ -1019,6 +1269,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<CompletableFuture<?>> futures = new ArrayList<>();
 		this.preInstantiationThread.set(PreInstantiation.MAIN);
 		try {
+			Executor executor = getBootstrapExecutor();
+			if (this.parallelBootstrap && executor != null) {
+				preInstantiateSingletonsInParallel(beanNames, executor);
+			}
 			for (String beanName : beanNames) {
 				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
 				if (!mbd.isAbstract() && mbd.isSingleton()) {
@@ -1053,9 +1307,52 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		SingletonDependencyGraph graph = new SingletonDependencyGraph(this, beanNames);
+		List<String> parallelBeanNames = graph.getParallelBeanNames();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Pre-instantiating " + parallelBeanNames.size() + " singletons in parallel in " + this);
+		}
+		if (parallelBeanNames.isEmpty()) {
+			return;
+		}
+
+		// Schedule each bean once its dependencies have been created
+		Map<String, CompletableFuture<Void>> futures = new HashMap<>(parallelBeanNames.size());
+		this.singletonCreationClaims = new SingletonCreationClaims();
+		try {
+			for (String beanName : parallelBeanNames) {
+				Runnable task = () -> instantiateSingletonInParallelThread(beanName);
+				CompletableFuture<?>[] dependencies = graph.getDependencies(beanName).stream()
+						.map(futures::get).toArray(CompletableFuture<?>[]::new);
+				futures.put(beanName, (dependencies.length == 0 ? CompletableFuture.runAsync(task, executor) :
+						CompletableFuture.allOf(dependencies).thenRunAsync(task, executor)));
+			}
+			try {
+				CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+			}
+			catch (CompletionException ex) {
+				ReflectionUtils.rethrowRuntimeException(ex.getCause());
+			}
+		}
+		finally {
+			this.singletonCreationClaims = null;
+		}
+	}
+
+	private void instantiateSingletonInParallelThread(String beanName) {
+		this.preInstantiationThread.set(PreInstantiation.PARALLEL);
+		try {
+			instantiateSingleton(beanName);
+		}
+		finally {
+			this.preInstantiationThread.remove();
+		}
+	}
+
 	@Nullable
 	private CompletableFuture<?> preInstantiateSingleton(String beanName, RootBeanDefinition mbd) {
-		if (mbd.isBackgroundInit()) {
+		if (mbd.isBackgroundInit() && !containsSingleton(beanName)) {
 			Executor executor = getBootstrapExecutor();
 			if (executor != null) {
 				String[] dependsOn = mbd.getDependsOn();
@@ -1344,6 +1641,41 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		clearByTypeCache();
 	}
 
+	@Override
+	protected void addSingleton(String beanName, Object singletonObject) {
+		super.addSingleton(beanName, singletonObject);
+		BeanTypeIndex index = this.beanTypeIndex;
+		if (index != null) {
+			addToBeanTypeIndex(index, beanName, singletonObject);
+		}
+	}
+
+	@Override
+	protected void removeSingleton(String beanName) {
+		super.removeSingleton(beanName);
+		resetFrozenSingletons();
+		resetBeanTypeIndex();
+	}
+
+	@Override
+	protected void clearSingletonCache() {
+		super.clearSingletonCache();
+		resetFrozenSingletons();
+		resetBeanTypeIndex();
+	}
+
+	@Override
+	public void registerAlias(String name, String alias) {
+		super.registerAlias(name, alias);
+		resetFrozenSingletons();
+	}
+
+	@Override
+	public void removeAlias(String alias) {
+		super.removeAlias(alias);
+		resetFrozenSingletons();
+	}
+
 	@Override
 	public void destroySingletons() {
 		super.destroySingletons();
@@ -1393,6 +1725,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private void clearByTypeCache() {
 		this.allBeanNamesByType.clear();
 		this.singletonBeanNamesByType.clear();
+		resetFrozenSingletons();
+		resetBeanTypeIndex();
 	}
 
 
@@ -1474,7 +1808,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private <T> NamedBeanHolder<T> resolveNamedBean(
 			String beanName, ResolvableType requiredType, @Nullable Object[] args) throws BeansException {
 
-		Object bean = getBean(beanName, null, args);
+		Object bean = (args != null ? getBean(beanName, null, args) : getBean(beanName));
 		if (bean instanceof NullBean) {
 			return null;
 		}
@@ -2541,9 +2875,94 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	}
 
 
+	/**
+	 * Claims on singleton beans that are currently created by parallel
+	 * pre-instantiation threads, letting other threads wait for their
+	 * completion rather than creating them concurrently.
+	 */
+	private class SingletonCreationClaims {
+
+		private final Map<String, Claim> claims = new ConcurrentHashMap<>();
+
+		private final Map<Thread, Claim> waitingThreads = new ConcurrentHashMap<>();
+
+		/**
+		 * Claim the given bean for the current thread, waiting for the thread
+		 * that currently holds the claim, if any.
+		 * @return {@code true} if claimed, to be followed by {@link #release};
+		 * {@code false} if the current thread holds the claim already, or if
+		 * waiting for the holding thread would result in a deadlock
+		 */
+		boolean claim(String beanName) {
+			Thread currentThread = Thread.currentThread();
+			while (true) {
+				Claim claim = this.claims.putIfAbsent(beanName, new Claim(currentThread));
+				if (claim == null) {
+					return true;
+				}
+				if (claim.thread == currentThread) {
+					return false;
+				}
+				this.waitingThreads.put(currentThread, claim);
+				try {
+					if (isCircularWait(currentThread, claim)) {
+						// Proceed with an early reference to the bean, or fail as in a single thread
+						if (logger.isInfoEnabled()) {
+							logger.info("Circular dependency on singleton bean '" + beanName + "' between thread \"" +
+									currentThread.getName() + "\" and thread \"" + claim.thread.getName() + "\"");
+						}
+						return false;
+					}
+					claim.latch.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new BeanCreationException(beanName, "Interrupted while waiting for creation in thread \"" +
+							claim.thread.getName() + "\"");
+				}
+				finally {
+					this.waitingThreads.remove(currentThread);
+				}
+			}
+		}
+
+		void release(String beanName) {
+			Claim claim = this.claims.remove(beanName);
+			if (claim != null) {
+				claim.latch.countDown();
+			}
+		}
+
+		private boolean isCircularWait(Thread currentThread, Claim claim) {
+			Set<Thread> visited = new HashSet<>();
+			Thread thread = claim.thread;
+			while (thread != null && visited.add(thread)) {
+				if (thread == currentThread) {
+					return true;
+				}
+				Claim next = this.waitingThreads.get(thread);
+				thread = (next != null ? next.thread : null);
+			}
+			return false;
+		}
+	}
+
+
+	private static final class Claim {
+
+		final Thread thread;
+
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		Claim(Thread thread) {
+			this.thread = thread;
+		}
+	}
+
+
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
 	}
 
 }
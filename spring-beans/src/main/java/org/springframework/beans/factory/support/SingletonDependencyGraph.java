@@ -0,0 +1,459 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.AutowiredPropertyMarker;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Conservative dependency graph between the eager singletons of a
+ * {@link DefaultListableBeanFactory}, for parallel pre-instantiation.
+ *
+ * <p>Dependencies are derived from merged bean definitions: depends-on
+ * declarations, factory beans, bean references in constructor arguments and
+ * property values, the parameters of the constructor or factory method to be
+ * used, and annotated injection fields and methods. Candidates for by-type
+ * dependencies are all matching beans, which may be more than the actual
+ * dependencies but never less.
+ *
+ * <p>Any bean whose dependencies cannot be determined from its definition
+ * (e.g. with several candidate constructors, inner beans, method overrides,
+ * instance suppliers, expressions, or lookups through a {@link BeanFactory}
+ * or {@link ObjectFactory}) is left for mainline pre-instantiation, as is
+ * any bean that depends on such a bean or that is part of a cycle.
+ *
+ * @since 6.2
+ * @see DefaultListableBeanFactory#setParallelBootstrap
+ */
+final class SingletonDependencyGraph {
+
+	private static final Set<String> injectionAnnotationTypes = Set.of(
+			"org.springframework.beans.factory.annotation.Autowired",
+			"org.springframework.beans.factory.annotation.Value",
+			"jakarta.inject.Inject",
+			"jakarta.annotation.Resource");
+
+	private static final String VALUE_ANNOTATION_TYPE = "org.springframework.beans.factory.annotation.Value";
+
+	private static final String RESOURCE_ANNOTATION_TYPE = "jakarta.annotation.Resource";
+
+	private static final String PROVIDER_TYPE = "jakarta.inject.Provider";
+
+
+	private final DefaultListableBeanFactory beanFactory;
+
+	private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+
+	private final List<String> parallelBeanNames = new ArrayList<>();
+
+
+	/**
+	 * Create a dependency graph for the given beans.
+	 * @param beanFactory the bean factory that defines the beans
+	 * @param beanNames the names of the beans to pre-instantiate
+	 */
+	SingletonDependencyGraph(DefaultListableBeanFactory beanFactory, List<String> beanNames) {
+		this.beanFactory = beanFactory;
+
+		Set<String> candidateNames = new LinkedHashSet<>();
+		for (String beanName : beanNames) {
+			if (isEligible(beanName)) {
+				candidateNames.add(beanName);
+			}
+		}
+
+		// Determine dependencies between eligible beans, excluding beans with unknown dependencies
+		Map<String, List<String>> dependents = new HashMap<>();
+		for (String beanName : candidateNames) {
+			Set<String> beanDependencies = determineDependencies(beanName);
+			if (beanDependencies != null) {
+				beanDependencies.removeIf(beanFactory::containsSingleton);
+				if (candidateNames.containsAll(beanDependencies)) {
+					this.dependencies.put(beanName, beanDependencies);
+					for (String dependency : beanDependencies) {
+						dependents.computeIfAbsent(dependency, name -> new ArrayList<>()).add(beanName);
+					}
+				}
+			}
+		}
+
+		// Topological order, leaving out cycles and beans depending on excluded beans
+		Map<String, Integer> pendingCounts = new HashMap<>();
+		Deque<String> ready = new ArrayDeque<>();
+		this.dependencies.forEach((beanName, beanDependencies) -> {
+			pendingCounts.put(beanName, beanDependencies.size());
+			if (beanDependencies.isEmpty()) {
+				ready.add(beanName);
+			}
+		});
+		while (!ready.isEmpty()) {
+			String beanName = ready.poll();
+			this.parallelBeanNames.add(beanName);
+			for (String dependent : dependents.getOrDefault(beanName, Collections.emptyList())) {
+				Integer pendingCount = pendingCounts.get(dependent);
+				if (pendingCount != null) {
+					pendingCounts.put(dependent, pendingCount - 1);
+					if (pendingCount == 1) {
+						ready.add(dependent);
+					}
+				}
+			}
+		}
+		this.dependencies.keySet().retainAll(this.parallelBeanNames);
+	}
+
+
+	/**
+	 * Return the names of the beans that may be pre-instantiated in parallel,
+	 * in an order where each bean comes after its dependencies.
+	 */
+	List<String> getParallelBeanNames() {
+		return this.parallelBeanNames;
+	}
+
+	/**
+	 * Return the dependencies of the given bean among the
+	 * {@linkplain #getParallelBeanNames() parallel beans}.
+	 */
+	Set<String> getDependencies(String beanName) {
+		return this.dependencies.getOrDefault(beanName, Collections.emptySet());
+	}
+
+
+	private boolean isEligible(String beanName) {
+		try {
+			RootBeanDefinition mbd = this.beanFactory.getMergedLocalBeanDefinition(beanName);
+			return (!mbd.isAbstract() && mbd.isSingleton() && !mbd.isLazyInit() && !mbd.isBackgroundInit() &&
+					!this.beanFactory.containsSingleton(beanName) && !this.beanFactory.isFactoryBean(beanName));
+		}
+		catch (BeansException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Determine the names of all beans that the given bean may depend on.
+	 * @return the bean names, or {@code null} if they cannot be determined
+	 */
+	@Nullable
+	private Set<String> determineDependencies(String beanName) {
+		RootBeanDefinition mbd = this.beanFactory.getMergedLocalBeanDefinition(beanName);
+		int autowireMode = mbd.getResolvedAutowireMode();
+		if (mbd.hasMethodOverrides() || mbd.getInstanceSupplier() != null ||
+				autowireMode == AutowireCapableBeanFactory.AUTOWIRE_BY_NAME ||
+				autowireMode == AutowireCapableBeanFactory.AUTOWIRE_BY_TYPE) {
+			return null;
+		}
+
+		Set<String> dependencies = new LinkedHashSet<>();
+		String[] dependsOn = mbd.getDependsOn();
+		if (dependsOn != null) {
+			for (String dependency : dependsOn) {
+				dependencies.add(this.beanFactory.transformedBeanName(dependency));
+			}
+		}
+		String factoryBeanName = mbd.getFactoryBeanName();
+		if (factoryBeanName != null) {
+			dependencies.add(this.beanFactory.transformedBeanName(factoryBeanName));
+		}
+
+		ConstructorArgumentValues argumentValues = mbd.getConstructorArgumentValues();
+		for (ConstructorArgumentValues.ValueHolder valueHolder : argumentValues.getIndexedArgumentValues().values()) {
+			if (!addReferences(valueHolder.getValue(), dependencies)) {
+				return null;
+			}
+		}
+		for (ConstructorArgumentValues.ValueHolder valueHolder : argumentValues.getGenericArgumentValues()) {
+			if (!addReferences(valueHolder.getValue(), dependencies)) {
+				return null;
+			}
+		}
+		for (PropertyValue propertyValue : mbd.getPropertyValues().getPropertyValues()) {
+			if (!addReferences(propertyValue.getValue(), dependencies)) {
+				return null;
+			}
+		}
+
+		try {
+			if (argumentValues.isEmpty()) {
+				Class<?> beanClass = (factoryBeanName == null ? this.beanFactory.resolveBeanClass(mbd, beanName) : null);
+				Executable executable = (mbd.getFactoryMethodName() != null ?
+						determineFactoryMethod(mbd, beanClass) : determineConstructor(beanName, mbd, beanClass));
+				if (executable == null) {
+					return null;
+				}
+				for (int i = 0; i < executable.getParameterCount(); i++) {
+					MethodParameter parameter = MethodParameter.forExecutable(executable, i);
+					MergedAnnotations annotations = MergedAnnotations.from(parameter.getParameterAnnotations());
+					if (!addInjectionPoint(new DependencyDescriptor(parameter, true), annotations, null, dependencies)) {
+						return null;
+					}
+				}
+			}
+			else if (autowireMode == AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR) {
+				// Explicit arguments, possibly complemented by autowired arguments
+				return null;
+			}
+
+			Class<?> beanType = this.beanFactory.getType(beanName, false);
+			if (beanType == null || !addInjectionMembers(beanType, dependencies)) {
+				return null;
+			}
+		}
+		catch (BeansException | LinkageError ex) {
+			// Let the mainline thread deal with the bean
+			return null;
+		}
+
+		dependencies.remove(beanName);
+		return dependencies;
+	}
+
+	@Nullable
+	private Executable determineConstructor(String beanName, RootBeanDefinition mbd, @Nullable Class<?> beanClass) {
+		if (beanClass == null) {
+			return null;
+		}
+		Constructor<?>[] ctors = this.beanFactory.determineConstructorsFromBeanPostProcessors(beanClass, beanName);
+		if (ctors == null) {
+			ctors = mbd.getPreferredConstructors();
+		}
+		if (ctors == null) {
+			if (mbd.getResolvedAutowireMode() == AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR) {
+				return null;
+			}
+			try {
+				return beanClass.getDeclaredConstructor();
+			}
+			catch (NoSuchMethodException ex) {
+				return null;
+			}
+		}
+		return (ctors.length == 1 ? ctors[0] : null);
+	}
+
+	@Nullable
+	private Executable determineFactoryMethod(RootBeanDefinition mbd, @Nullable Class<?> beanClass) {
+		Method factoryMethod = mbd.getResolvedFactoryMethod();
+		if (factoryMethod != null) {
+			return factoryMethod;
+		}
+		String factoryBeanName = mbd.getFactoryBeanName();
+		Class<?> factoryClass = (factoryBeanName != null ? this.beanFactory.getType(factoryBeanName, false) : beanClass);
+		if (factoryClass == null) {
+			return null;
+		}
+		boolean isStatic = (factoryBeanName == null);
+		for (Method candidate : ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(factoryClass))) {
+			if (Modifier.isStatic(candidate.getModifiers()) == isStatic && mbd.isFactoryMethod(candidate)) {
+				if (factoryMethod != null) {
+					// Overloaded factory method
+					return null;
+				}
+				factoryMethod = candidate;
+			}
+		}
+		return factoryMethod;
+	}
+
+	private boolean addInjectionMembers(Class<?> beanType, Set<String> dependencies) {
+		Class<?> targetClass = ClassUtils.getUserClass(beanType);
+		while (targetClass != null && targetClass != Object.class) {
+			for (Field field : targetClass.getDeclaredFields()) {
+				MergedAnnotations annotations = MergedAnnotations.from(field);
+				if (!Modifier.isStatic(field.getModifiers()) && isInjectionPoint(annotations) &&
+						!addInjectionPoint(new DependencyDescriptor(field, true), annotations, field.getName(), dependencies)) {
+					return false;
+				}
+			}
+			for (Method method : targetClass.getDeclaredMethods()) {
+				MergedAnnotations annotations = MergedAnnotations.from(method);
+				if (!Modifier.isStatic(method.getModifiers()) && !method.isBridge() && isInjectionPoint(annotations)) {
+					String propertyName = (method.getName().startsWith("set") ?
+							StringUtils.uncapitalizeAsProperty(method.getName().substring(3)) : null);
+					for (int i = 0; i < method.getParameterCount(); i++) {
+						DependencyDescriptor descriptor = new DependencyDescriptor(new MethodParameter(method, i), true);
+						if (!addInjectionPoint(descriptor, annotations, propertyName, dependencies)) {
+							return false;
+						}
+					}
+				}
+			}
+			targetClass = targetClass.getSuperclass();
+		}
+		return true;
+	}
+
+	private boolean isInjectionPoint(MergedAnnotations annotations) {
+		for (String annotationType : injectionAnnotationTypes) {
+			if (annotations.isPresent(annotationType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean addInjectionPoint(DependencyDescriptor descriptor, MergedAnnotations annotations,
+			@Nullable String defaultName, Set<String> dependencies) {
+
+		MergedAnnotation<?> value = annotations.get(VALUE_ANNOTATION_TYPE);
+		if (value.isPresent()) {
+			return !value.getString(MergedAnnotation.VALUE).contains("#{");
+		}
+		MergedAnnotation<?> resource = annotations.get(RESOURCE_ANNOTATION_TYPE);
+		if (resource.isPresent()) {
+			String name = resource.getString("name");
+			if (!StringUtils.hasLength(name)) {
+				name = defaultName;
+			}
+			if (name != null && this.beanFactory.containsBean(name)) {
+				dependencies.add(this.beanFactory.transformedBeanName(name));
+				return true;
+			}
+		}
+		return addCandidates(descriptor, dependencies);
+	}
+
+	private boolean addCandidates(DependencyDescriptor descriptor, Set<String> dependencies) {
+		Class<?> type = descriptor.getDependencyType();
+		if (BeanFactory.class.isAssignableFrom(type) || ObjectFactory.class.isAssignableFrom(type) ||
+				type.getName().equals(PROVIDER_TYPE)) {
+			return false;
+		}
+
+		ResolvableType candidateType = descriptor.getResolvableType();
+		boolean multipleOrOptional = true;
+		if (type.isArray()) {
+			candidateType = candidateType.getComponentType();
+		}
+		else if (Collection.class.isAssignableFrom(type) && type.isInterface()) {
+			candidateType = candidateType.asCollection().getGeneric();
+		}
+		else if (Map.class == type) {
+			candidateType = candidateType.asMap().getGeneric(1);
+		}
+		else if (Optional.class == type) {
+			candidateType = candidateType.getGeneric();
+		}
+		else {
+			multipleOrOptional = false;
+		}
+		Class<?> candidateClass = candidateType.resolve();
+		if (candidateClass == null) {
+			return false;
+		}
+		if (this.beanFactory.isResolvableDependencyType(candidateClass)) {
+			return true;
+		}
+
+		String[] candidateNames = this.beanFactory.getBeanNamesForType(candidateType, true, false);
+		boolean found = false;
+		for (String candidateName : candidateNames) {
+			if (multipleOrOptional || this.beanFactory.isAutowireCandidate(candidateName, descriptor)) {
+				dependencies.add(candidateName);
+				found = true;
+			}
+		}
+		return (found || multipleOrOptional || this.beanFactory.getParentBeanFactory() != null);
+	}
+
+	private boolean addReferences(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof RuntimeBeanReference reference) {
+			if (reference.isToParent()) {
+				return true;
+			}
+			Class<?> beanType = reference.getBeanType();
+			if (beanType != null) {
+				String[] candidateNames = this.beanFactory.getBeanNamesForType(beanType, true, false);
+				Collections.addAll(dependencies, candidateNames);
+				return (candidateNames.length > 0);
+			}
+			dependencies.add(this.beanFactory.transformedBeanName(reference.getBeanName()));
+			return true;
+		}
+		else if (value instanceof BeanDefinitionHolder || value instanceof BeanDefinition ||
+				value instanceof AutowiredPropertyMarker) {
+			return false;
+		}
+		else if (value instanceof TypedStringValue typedStringValue) {
+			String stringValue = typedStringValue.getValue();
+			return (stringValue == null || !stringValue.contains("#{"));
+		}
+		else if (value instanceof String stringValue) {
+			return !stringValue.contains("#{");
+		}
+		else if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				if (!addReferences(element, dependencies)) {
+					return false;
+				}
+			}
+		}
+		else if (value instanceof Map<?, ?> map) {
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				if (!addReferences(entry.getKey(), dependencies) || !addReferences(entry.getValue(), dependencies)) {
+					return false;
+				}
+			}
+		}
+		else if (value instanceof Object[] array) {
+			for (Object element : array) {
+				if (!addReferences(element, dependencies)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+}
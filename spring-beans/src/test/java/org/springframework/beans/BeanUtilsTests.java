@@ -396,6 +396,38 @@ class BeanUtilsTests {
 		assertThat(tb2.getTouchy()).as("Touchy still empty").isNull();
 	}
 
+	@Test
+	void copyPropertiesRepeatedlyWithDifferentIgnoreAndEditableSettings() throws Exception {
+		TestBean tb = new TestBean();
+		tb.setName("rod");
+		tb.setAge(32);
+		tb.setTouchy("bla");
+
+		TestBean tb2 = new TestBean();
+		BeanUtils.copyProperties(tb, tb2, "age");
+		assertThat(tb2.getName()).isEqualTo("rod");
+		assertThat(tb2.getAge()).isEqualTo(0);
+		assertThat(tb2.getTouchy()).isEqualTo("bla");
+
+		TestBean tb3 = new TestBean();
+		BeanUtils.copyProperties(tb, tb3, "name", "touchy");
+		assertThat(tb3.getName()).isNull();
+		assertThat(tb3.getAge()).isEqualTo(32);
+		assertThat(tb3.getTouchy()).isNull();
+
+		TestBean tb4 = new TestBean();
+		BeanUtils.copyProperties(tb, tb4, ITestBean.class);
+		assertThat(tb4.getName()).isEqualTo("rod");
+		assertThat(tb4.getAge()).isEqualTo(32);
+		assertThat(tb4.getTouchy()).isNull();
+
+		TestBean tb5 = new TestBean();
+		BeanUtils.copyProperties(tb, tb5);
+		assertThat(tb5.getName()).isEqualTo("rod");
+		assertThat(tb5.getAge()).isEqualTo(32);
+		assertThat(tb5.getTouchy()).isEqualTo("bla");
+	}
+
 	@Test
 	void copyPropertiesWithIgnoredNonExistingProperty() {
 		NameAndSpecialProperty source = new NameAndSpecialProperty();
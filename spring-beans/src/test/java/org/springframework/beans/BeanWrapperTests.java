@@ -16,6 +16,7 @@
 
 package org.springframework.beans;
 
+import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
@@ -299,6 +300,37 @@ class BeanWrapperTests extends AbstractPropertyAccessorTests {
 				.satisfies(ex -> assertThat(ex.getPossibleMatches()).isNull());
 	}
 
+	@Test
+	void getterExceptionExposedAsTargetException() {
+		GetterBean target = new GetterBean();
+		BeanWrapper accessor = createAccessor(target);
+		assertThatExceptionOfType(InvalidPropertyException.class)
+				.isThrownBy(() -> accessor.getPropertyValue("name"))
+				.withCauseInstanceOf(InvocationTargetException.class)
+				.withRootCauseExactlyInstanceOf(RuntimeException.class);
+	}
+
+	@Test
+	void setterExceptionExposedAsMethodInvocationException() {
+		ValidatingBean target = new ValidatingBean();
+		BeanWrapper accessor = createAccessor(target);
+		accessor.setPropertyValue("count", "5");
+		assertThat(accessor.getPropertyValue("count")).isEqualTo(5);
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("count", -1))
+				.withCauseExactlyInstanceOf(IllegalArgumentException.class);
+		assertThat(target.getCount()).isEqualTo(5);
+	}
+
+	@Test
+	void recordComponents() {
+		Point target = new Point(1, 2);
+		BeanWrapper accessor = createAccessor(target);
+		assertThat(accessor.getPropertyValue("x")).isEqualTo(1);
+		assertThat(accessor.getPropertyValue("y")).isEqualTo(2);
+		assertThat(accessor.isWritableProperty("x")).isFalse();
+	}
+
 
 	private interface BaseProperty {
 
@@ -433,6 +465,27 @@ class BeanWrapperTests extends AbstractPropertyAccessorTests {
 	}
 
 
+	public static class ValidatingBean {
+
+		private int count;
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public void setCount(int count) {
+			if (count < 0) {
+				throw new IllegalArgumentException("count must not be negative");
+			}
+			this.count = count;
+		}
+	}
+
+
+	public record Point(int x, int y) {
+	}
+
+
 	public static class GetterWithOptional {
 
 		public TestBean value;
@@ -838,6 +838,120 @@ class DefaultListableBeanFactoryTests {
 		assertThat(factory.getBean("child")).isInstanceOf(DerivedTestBean.class);
 	}
 
+	@Test
+	void singletonLookupAfterFreezeConfiguration() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition prototype = new RootBeanDefinition(TestBean.class);
+		prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("prototype", prototype);
+		lbf.registerAlias("test", "alias");
+		lbf.freezeConfiguration();
+
+		Object bean = lbf.getBean("test");
+		assertThat(lbf.getBean("test")).isSameAs(bean);
+		assertThat(lbf.getBean("alias")).isSameAs(bean);
+		assertThat(lbf.getBean("alias", TestBean.class)).isSameAs(bean);
+		assertThat(lbf.getBean(TestBean.class)).isSameAs(bean);
+		assertThatExceptionOfType(BeanNotOfRequiredTypeException.class).isThrownBy(() ->
+				lbf.getBean("test", String.class));
+		assertThat(lbf.getBean("prototype")).isNotSameAs(lbf.getBean("prototype"));
+	}
+
+	@Test
+	void singletonLookupAfterFreezeConfigurationWithDestroyedSingleton() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		lbf.registerAlias("test", "alias");
+		lbf.freezeConfiguration();
+		Object bean = lbf.getBean("alias");
+
+		lbf.destroySingleton("test");
+		Object recreated = lbf.getBean("alias");
+		assertThat(recreated).isNotSameAs(bean);
+		assertThat(lbf.getBean("test")).isSameAs(recreated);
+
+		lbf.destroySingletons();
+		assertThat(lbf.getBean("test")).isNotSameAs(recreated);
+	}
+
+	@Test
+	void singletonLookupAfterFreezeConfigurationWithAliasChanges() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("other", new RootBeanDefinition(TestBean.class));
+		lbf.registerAlias("test", "alias");
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBean("alias")).isSameAs(lbf.getBean("test"));
+
+		lbf.removeAlias("alias");
+		assertThatExceptionOfType(NoSuchBeanDefinitionException.class).isThrownBy(() ->
+				lbf.getBean("alias"));
+		lbf.registerAlias("other", "alias");
+		assertThat(lbf.getBean("alias")).isSameAs(lbf.getBean("other"));
+	}
+
+	@Test
+	void singletonLookupAfterFreezeConfigurationWithFactoryBean() {
+		lbf.registerBeanDefinition("factory", new RootBeanDefinition(DummyFactory.class));
+		lbf.freezeConfiguration();
+
+		Object bean = lbf.getBean("factory");
+		assertThat(bean).isInstanceOf(TestBean.class);
+		assertThat(lbf.getBean("factory")).isSameAs(bean);
+		assertThat(lbf.getBean("&factory")).isInstanceOf(DummyFactory.class);
+	}
+
+	@Test
+	void beanNamesForTypeAfterFreezeConfiguration() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition prototype = new RootBeanDefinition(TestBean.class);
+		prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("prototype", prototype);
+		lbf.registerBeanDefinition("factory", new RootBeanDefinition(DummyFactory.class));
+		lbf.registerBeanDefinition("repository", new RootBeanDefinition(CityRepository.class));
+		RootBeanDefinition lazy = new RootBeanDefinition(CityRepository.class);
+		lazy.setLazyInit(true);
+		lbf.registerBeanDefinition("lazy", lazy);
+		lbf.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		lbf.freezeConfiguration();
+		ResolvableType cityRepository = ResolvableType.forClassWithGenerics(Repository.class, City.class, Long.class);
+		ResolvableType otherRepository = ResolvableType.forClassWithGenerics(Repository.class, City.class, Integer.class);
+
+		assertBeanNamesForType(TestBean.class, true, false, "test", "prototype");
+		assertThat(lbf.getBeanNamesForType(cityRepository)).containsExactly("repository", "lazy");
+		assertThat(lbf.getBeanNamesForType(otherRepository)).isEmpty();
+
+		lbf.preInstantiateSingletons();
+		assertBeanNamesForType(TestBean.class, true, false, "test", "prototype", "factory");
+		assertBeanNamesForType(TestBean.class, false, false, "test", "factory");
+		assertBeanNamesForType(DummyFactory.class, true, false, "&factory");
+		assertBeanNamesForType(NestedTestBean.class, true, false, "nested");
+		assertThat(lbf.getBeanNamesForType(cityRepository)).containsExactly("repository", "lazy");
+		assertThat(lbf.getBeanNamesForType(otherRepository)).isEmpty();
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClass(Object.class), true, false)).containsExactly(
+				"test", "prototype", "factory", "repository", "lazy", "nested");
+
+		lbf.getBean("lazy");
+		assertThat(lbf.getBeanNamesForType(cityRepository)).containsExactly("repository", "lazy");
+		assertThat(lbf.getBeanNamesForType(otherRepository)).isEmpty();
+	}
+
+	@Test
+	void beanNamesForTypeAfterFreezeConfigurationWithDestroyedSingleton() {
+		lbf.registerBeanDefinition("test", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		lbf.freezeConfiguration();
+		lbf.preInstantiateSingletons();
+		assertBeanNamesForType(TestBean.class, true, false, "test");
+
+		lbf.destroySingleton("test");
+		assertBeanNamesForType(TestBean.class, true, false, "test");
+		assertBeanNamesForType(NestedTestBean.class, true, false, "nested");
+
+		lbf.destroySingletons();
+		assertBeanNamesForType(TestBean.class, true, false, "test");
+		lbf.preInstantiateSingletons();
+		assertBeanNamesForType(TestBean.class, true, false, "test");
+	}
+
 	@Test
 	void aliasCircle() {
 		lbf.setAllowBeanDefinitionOverriding(true);
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for parallel pre-instantiation in {@link DefaultListableBeanFactory}.
+ */
+class ParallelBootstrapTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+
+	@BeforeEach
+	void setup() {
+		this.beanFactory.setBootstrapExecutor(this.executor);
+		this.beanFactory.setParallelBootstrap(true);
+	}
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	void independentBeansAreCreatedInParallel() {
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		registerBean("node1", barrier, null);
+		registerBean("node2", barrier, null);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		Node node1 = this.beanFactory.getBean("node1", Node.class);
+		Node node2 = this.beanFactory.getBean("node2", Node.class);
+		assertThat(node1.thread).isNotSameAs(Thread.currentThread()).isNotSameAs(node2.thread);
+		assertThat(node2.thread).isNotSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void dependenciesAreCreatedFirst() {
+		registerBean("child", null, "parent");
+		registerBean("grandchild", null, "child");
+		registerBean("parent", null, null);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		Node grandchild = this.beanFactory.getBean("grandchild", Node.class);
+		assertThat(grandchild.parent).isSameAs(this.beanFactory.getBean("child"));
+		assertThat(grandchild.parent.parent).isSameAs(this.beanFactory.getBean("parent"));
+		assertThat(grandchild.thread).isNotSameAs(Thread.currentThread());
+		assertThat(grandchild.parent.thread).isNotSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void beansWithUnknownDependenciesAreCreatedInMainlineThread() {
+		RootBeanDefinition inner = new RootBeanDefinition(Node.class);
+		inner.getConstructorArgumentValues().addIndexedArgumentValue(0, new CyclicBarrier(1));
+		registerBean("outer", null, null);
+		this.beanFactory.getBeanDefinition("outer").getPropertyValues().add("parent", inner);
+		registerBean("dependent", null, "outer");
+		registerBean("independent", null, null);
+
+		this.beanFactory.preInstantiateSingletons();
+
+		assertThat(this.beanFactory.getBean("outer", Node.class).thread).isSameAs(Thread.currentThread());
+		assertThat(this.beanFactory.getBean("dependent", Node.class).thread).isSameAs(Thread.currentThread());
+		assertThat(this.beanFactory.getBean("independent", Node.class).thread).isNotSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void undeclaredDependencyIsCreatedOnce() {
+		RootBeanDefinition shared = new RootBeanDefinition(CountingBean.class);
+		shared.setLazyInit(true);
+		this.beanFactory.registerBeanDefinition("shared", shared);
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		for (String beanName : new String[] {"lookup1", "lookup2"}) {
+			RootBeanDefinition lookup = new RootBeanDefinition(LookupBean.class);
+			lookup.getConstructorArgumentValues().addGenericArgumentValue(barrier);
+			lookup.getConstructorArgumentValues().addGenericArgumentValue("shared");
+			this.beanFactory.registerBeanDefinition(beanName, lookup);
+		}
+
+		this.beanFactory.preInstantiateSingletons();
+
+		CountingBean bean = this.beanFactory.getBean("shared", CountingBean.class);
+		assertThat(this.beanFactory.getBean("lookup1", LookupBean.class).target).isSameAs(bean);
+		assertThat(this.beanFactory.getBean("lookup2", LookupBean.class).target).isSameAs(bean);
+		assertThat(CountingBean.instanceCount).hasValue(1);
+	}
+
+	@Test
+	void circularWaitBetweenThreadsIsResolved() {
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		registerCircularBean("circular1", barrier, "circular2");
+		registerCircularBean("circular2", barrier, "circular1");
+		for (String beanName : new String[] {"circular1", "circular2"}) {
+			RootBeanDefinition lookup = new RootBeanDefinition(LookupBean.class);
+			lookup.getConstructorArgumentValues().addGenericArgumentValue(new CyclicBarrier(1));
+			lookup.getConstructorArgumentValues().addGenericArgumentValue(beanName);
+			this.beanFactory.registerBeanDefinition("lookup-" + beanName, lookup);
+		}
+
+		this.beanFactory.preInstantiateSingletons();
+
+		CircularBean circular1 = this.beanFactory.getBean("circular1", CircularBean.class);
+		CircularBean circular2 = this.beanFactory.getBean("circular2", CircularBean.class);
+		assertThat(circular1.other).isSameAs(circular2);
+		assertThat(circular2.other).isSameAs(circular1);
+	}
+
+
+	private void registerBean(String beanName, @Nullable CyclicBarrier barrier, @Nullable String parentName) {
+		RootBeanDefinition bd = new RootBeanDefinition(Node.class);
+		bd.getConstructorArgumentValues().addIndexedArgumentValue(0, (barrier != null ? barrier : new CyclicBarrier(1)));
+		if (parentName != null) {
+			bd.getPropertyValues().add("parent", new RuntimeBeanReference(parentName));
+		}
+		this.beanFactory.registerBeanDefinition(beanName, bd);
+	}
+
+	private void registerCircularBean(String beanName, CyclicBarrier barrier, String otherName) {
+		RootBeanDefinition bd = new RootBeanDefinition(CircularBean.class);
+		bd.setLazyInit(true);
+		bd.getConstructorArgumentValues().addGenericArgumentValue(barrier);
+		bd.getPropertyValues().add("other", new RuntimeBeanReference(otherName));
+		this.beanFactory.registerBeanDefinition(beanName, bd);
+	}
+
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await(5, TimeUnit.SECONDS);
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+
+	static class Node {
+
+		final Thread thread = Thread.currentThread();
+
+		@Nullable
+		Node parent;
+
+		public Node(CyclicBarrier barrier) {
+			await(barrier);
+		}
+
+		public void setParent(Node parent) {
+			this.parent = parent;
+		}
+	}
+
+
+	static class CountingBean {
+
+		static final AtomicInteger instanceCount = new AtomicInteger();
+
+		public CountingBean() throws InterruptedException {
+			instanceCount.incrementAndGet();
+			Thread.sleep(100);
+		}
+	}
+
+
+	static class LookupBean implements BeanFactoryAware, InitializingBean {
+
+		private final CyclicBarrier barrier;
+
+		private final String targetName;
+
+		@Nullable
+		private BeanFactory beanFactory;
+
+		@Nullable
+		Object target;
+
+		public LookupBean(CyclicBarrier barrier, String targetName) {
+			this.barrier = barrier;
+			this.targetName = targetName;
+		}
+
+		@Override
+		public void setBeanFactory(BeanFactory beanFactory) {
+			this.beanFactory = beanFactory;
+		}
+
+		@Override
+		public void afterPropertiesSet() {
+			await(this.barrier);
+			this.target = this.beanFactory.getBean(this.targetName);
+		}
+	}
+
+
+	static class CircularBean {
+
+		@Nullable
+		CircularBean other;
+
+		public CircularBean(CyclicBarrier barrier) {
+			await(barrier);
+		}
+
+		public void setOther(CircularBean other) {
+			this.other = other;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,8 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -107,6 +109,22 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	private static final boolean shouldIgnoreClassFormatException =
 			SpringProperties.getFlag(IGNORE_CLASSFORMAT_PROPERTY_NAME);
 
+	/**
+	 * System property that specifies the default number of threads to use for
+	 * parsing class files during classpath scanning, e.g. "4". By default,
+	 * class files are parsed one after another in the scanning thread.
+	 * @since 6.2
+	 * @see #setScanParallelism
+	 */
+	public static final String SCAN_PARALLELISM_PROPERTY_NAME = "spring.context.scan.parallelism";
+
+	/**
+	 * The number of class files to read ahead of candidate evaluation
+	 * in parallel scanning mode, bounding the number of metadata readers
+	 * held at any given time.
+	 */
+	private static final int PARALLEL_BATCH_SIZE = 512;
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -131,6 +149,8 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Nullable
 	private CandidateComponentsIndex componentsIndex;
 
+	private int scanParallelism = initScanParallelism();
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -337,6 +357,33 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return this.metadataReaderFactory;
 	}
 
+	/**
+	 * Set the number of threads to use for parsing class files during
+	 * classpath scanning.
+	 * <p>With a value greater than 1, class files are parsed concurrently on a
+	 * dedicated fork-join pool of the given parallelism, while filters and
+	 * conditions are still evaluated in the scanning thread in resource order,
+	 * keeping the order of the returned candidates deterministic. The configured
+	 * {@link MetadataReaderFactory} needs to be thread-safe for this purpose,
+	 * as is the default {@link CachingMetadataReaderFactory}.
+	 * <p>Default is 1, or the value of the {@value #SCAN_PARALLELISM_PROPERTY_NAME}
+	 * system property if set.
+	 * @since 6.2
+	 */
+	public void setScanParallelism(int scanParallelism) {
+		Assert.isTrue(scanParallelism > 0, "'scanParallelism' must be greater than 0");
+		this.scanParallelism = scanParallelism;
+	}
+
+	/**
+	 * Return the number of threads to use for parsing class files during
+	 * classpath scanning.
+	 * @since 6.2
+	 */
+	public int getScanParallelism() {
+		return this.scanParallelism;
+	}
+
 
 	/**
 	 * Scan the component index or class path for candidate components.
@@ -457,57 +504,67 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				String filename = resource.getFilename();
-				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
-					// Ignore CGLIB-generated classes in the classpath
-					continue;
-				}
-				if (traceEnabled) {
-					logger.trace("Scanning " + resource);
-				}
-				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
-					if (isCandidateComponent(metadataReader)) {
-						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
-						sbd.setSource(resource);
-						if (isCandidateComponent(sbd)) {
-							if (debugEnabled) {
-								logger.debug("Identified candidate component class: " + resource);
+			ParallelMetadataReading parallelReading = (this.scanParallelism > 1 && resources.length > 1 ?
+					new ParallelMetadataReading(resources, getMetadataReaderFactory(), this.scanParallelism) : null);
+			try {
+				for (int i = 0; i < resources.length; i++) {
+					Resource resource = resources[i];
+					if (isCglibClassFile(resource)) {
+						// Ignore CGLIB-generated classes in the classpath
+						continue;
+					}
+					if (traceEnabled) {
+						logger.trace("Scanning " + resource);
+					}
+					try {
+						MetadataReader metadataReader = (parallelReading != null ? parallelReading.getMetadataReader(i) :
+								getMetadataReaderFactory().getMetadataReader(resource));
+						if (isCandidateComponent(metadataReader)) {
+							ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
+							sbd.setSource(resource);
+							if (isCandidateComponent(sbd)) {
+								if (debugEnabled) {
+									logger.debug("Identified candidate component class: " + resource);
+								}
+								candidates.add(sbd);
+							}
+							else {
+								if (debugEnabled) {
+									logger.debug("Ignored because not a concrete top-level class: " + resource);
+								}
 							}
-							candidates.add(sbd);
 						}
 						else {
-							if (debugEnabled) {
-								logger.debug("Ignored because not a concrete top-level class: " + resource);
+							if (traceEnabled) {
+								logger.trace("Ignored because not matching any filter: " + resource);
 							}
 						}
 					}
-					else {
+					catch (FileNotFoundException ex) {
 						if (traceEnabled) {
-							logger.trace("Ignored because not matching any filter: " + resource);
+							logger.trace("Ignored non-readable " + resource + ": " + ex.getMessage());
 						}
 					}
-				}
-				catch (FileNotFoundException ex) {
-					if (traceEnabled) {
-						logger.trace("Ignored non-readable " + resource + ": " + ex.getMessage());
-					}
-				}
-				catch (ClassFormatException ex) {
-					if (shouldIgnoreClassFormatException) {
-						if (debugEnabled) {
-							logger.debug("Ignored incompatible class format in " + resource + ": " + ex.getMessage());
+					catch (ClassFormatException ex) {
+						if (shouldIgnoreClassFormatException) {
+							if (debugEnabled) {
+								logger.debug("Ignored incompatible class format in " + resource + ": " + ex.getMessage());
+							}
+						}
+						else {
+							throw new BeanDefinitionStoreException("Incompatible class format in " + resource +
+									": set system property 'spring.classformat.ignore' to 'true' " +
+									"if you mean to ignore such files during classpath scanning", ex);
 						}
 					}
-					else {
-						throw new BeanDefinitionStoreException("Incompatible class format in " + resource +
-								": set system property 'spring.classformat.ignore' to 'true' " +
-								"if you mean to ignore such files during classpath scanning", ex);
+					catch (Throwable ex) {
+						throw new BeanDefinitionStoreException("Failed to read candidate component class: " + resource, ex);
 					}
 				}
-				catch (Throwable ex) {
-					throw new BeanDefinitionStoreException("Failed to read candidate component class: " + resource, ex);
+			}
+			finally {
+				if (parallelReading != null) {
+					parallelReading.shutdown();
 				}
 			}
 		}
@@ -590,4 +647,108 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		}
 	}
 
+
+	private static boolean isCglibClassFile(Resource resource) {
+		String filename = resource.getFilename();
+		return (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
+	private static int initScanParallelism() {
+		String value = SpringProperties.getProperty(SCAN_PARALLELISM_PROPERTY_NAME);
+		if (value == null) {
+			return 1;
+		}
+		try {
+			return Math.max(Integer.parseInt(value.trim()), 1);
+		}
+		catch (NumberFormatException ex) {
+			throw new IllegalArgumentException(
+					"Invalid value for system property '" + SCAN_PARALLELISM_PROPERTY_NAME + "': " + value, ex);
+		}
+	}
+
+
+	/**
+	 * Reads the metadata of scanned class files ahead of candidate evaluation,
+	 * in batches of {@link #PARALLEL_BATCH_SIZE} resources that are parsed
+	 * concurrently on a fork-join pool of the given parallelism.
+	 * <p>Results are kept per resource index, with any parsing failure being
+	 * rethrown when the corresponding resource is evaluated, so that the
+	 * scanning outcome is the same as for sequential parsing.
+	 */
+	private static class ParallelMetadataReading {
+
+		private final Resource[] resources;
+
+		private final MetadataReaderFactory metadataReaderFactory;
+
+		private final ForkJoinPool pool;
+
+		private final Object[] batch = new Object[PARALLEL_BATCH_SIZE];
+
+		private int batchStart = -1;
+
+		ParallelMetadataReading(Resource[] resources, MetadataReaderFactory metadataReaderFactory, int parallelism) {
+			this.resources = resources;
+			this.metadataReaderFactory = metadataReaderFactory;
+			this.pool = new ForkJoinPool(parallelism);
+		}
+
+		MetadataReader getMetadataReader(int index) throws IOException {
+			if (this.batchStart < 0 || index < this.batchStart || index >= this.batchStart + PARALLEL_BATCH_SIZE) {
+				readBatch(index - index % PARALLEL_BATCH_SIZE);
+			}
+			Object result = this.batch[index - this.batchStart];
+			if (result instanceof MetadataReader metadataReader) {
+				return metadataReader;
+			}
+			else if (result instanceof IOException ex) {
+				throw ex;
+			}
+			else if (result instanceof RuntimeException ex) {
+				throw ex;
+			}
+			else if (result instanceof Error err) {
+				throw err;
+			}
+			// Not read ahead (CGLIB class file) -> read on demand
+			return this.metadataReaderFactory.getMetadataReader(this.resources[index]);
+		}
+
+		private void readBatch(int start) {
+			int end = Math.min(start + PARALLEL_BATCH_SIZE, this.resources.length);
+			int chunkSize = Math.max((end - start) / (this.pool.getParallelism() * 4), 1);
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int chunkStart = start; chunkStart < end; chunkStart += chunkSize) {
+				int from = chunkStart;
+				int to = Math.min(chunkStart + chunkSize, end);
+				tasks.add(() -> {
+					for (int i = from; i < to; i++) {
+						this.batch[i - start] = read(this.resources[i]);
+					}
+					return null;
+				});
+			}
+			this.pool.invokeAll(tasks);
+			this.batchStart = start;
+		}
+
+		@Nullable
+		private Object read(Resource resource) {
+			if (isCglibClassFile(resource)) {
+				return null;
+			}
+			try {
+				return this.metadataReaderFactory.getMetadataReader(resource);
+			}
+			catch (Throwable ex) {
+				return ex;
+			}
+		}
+
+		void shutdown() {
+			this.pool.shutdown();
+		}
+	}
+
 }
@@ -52,6 +52,7 @@ import org.springframework.core.type.MethodMetadata;
 import org.springframework.core.type.StandardAnnotationMetadata;
 import org.springframework.core.type.StandardMethodMetadata;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -392,6 +393,38 @@ class ConfigurationClassBeanDefinitionReader {
 	}
 
 
+	/**
+	 * Return the bean name derived from the {@code @Bean} method that the given
+	 * bean definition was created for, if any.
+	 * @param beanDefinition the bean definition to check
+	 * @return the derived bean name, or {@code null} if the bean definition was
+	 * not created for a {@code @Bean} method
+	 * @since 6.2
+	 * @see #createBeanMethodDefinition
+	 */
+	@Nullable
+	static String getDerivedBeanName(BeanDefinition beanDefinition) {
+		return (beanDefinition instanceof ConfigurationClassBeanDefinition ccbd ? ccbd.derivedBeanName : null);
+	}
+
+	/**
+	 * Create a bean definition for a {@code @Bean} method, of the same type as the
+	 * ones registered by this reader, with the settings of the given bean definition.
+	 * @param original the bean definition to copy the settings from
+	 * @param configClassMetadata the metadata of the configuration class
+	 * @param beanMethodMetadata the metadata of the {@code @Bean} method
+	 * @param derivedBeanName the bean name derived from the {@code @Bean} method
+	 * @return the bean definition
+	 * @since 6.2
+	 * @see ConfigurationClassSnapshot
+	 */
+	static RootBeanDefinition createBeanMethodDefinition(RootBeanDefinition original,
+			AnnotationMetadata configClassMetadata, MethodMetadata beanMethodMetadata, String derivedBeanName) {
+
+		return new ConfigurationClassBeanDefinition(original, configClassMetadata, beanMethodMetadata, derivedBeanName);
+	}
+
+
 	/**
 	 * {@link RootBeanDefinition} marker subclass used to signify that a bean definition
 	 * was created from a configuration class as opposed to any other configuration source.
@@ -420,8 +453,14 @@ class ConfigurationClassBeanDefinitionReader {
 		public ConfigurationClassBeanDefinition(RootBeanDefinition original,
 				ConfigurationClass configClass, MethodMetadata beanMethodMetadata, String derivedBeanName) {
 
+			this(original, configClass.getMetadata(), beanMethodMetadata, derivedBeanName);
+		}
+
+		public ConfigurationClassBeanDefinition(RootBeanDefinition original,
+				AnnotationMetadata annotationMetadata, MethodMetadata beanMethodMetadata, String derivedBeanName) {
+
 			super(original);
-			this.annotationMetadata = configClass.getMetadata();
+			this.annotationMetadata = annotationMetadata;
 			this.factoryMethodMetadata = beanMethodMetadata;
 			this.derivedBeanName = derivedBeanName;
 		}
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -83,6 +85,7 @@ import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.ConfigurationClassEnhancer.EnhancedConfiguration;
 import org.springframework.core.Ordered;
 import org.springframework.core.PriorityOrdered;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
@@ -107,6 +110,8 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.PatternMatchUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link BeanFactoryPostProcessor} used for bootstrapping processing of
@@ -143,9 +148,32 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	public static final AnnotationBeanNameGenerator IMPORT_BEAN_NAME_GENERATOR =
 			FullyQualifiedAnnotationBeanNameGenerator.INSTANCE;
 
+	/**
+	 * System property that specifies a file in which to keep a snapshot of the
+	 * bean definitions derived from configuration classes, for reuse on subsequent
+	 * runs: {@value}.
+	 * <p>This is the default for {@link #setSnapshotFile}.
+	 * @since 6.2
+	 */
+	public static final String SNAPSHOT_FILE_PROPERTY_NAME = "spring.context.config-classes.snapshot-file";
+
+	/**
+	 * System property that specifies a comma-separated list of the names of
+	 * system properties and environment variables to include in the fingerprint
+	 * of a snapshot, each possibly using "xxx*", "*xxx", "*xxx*" or "xxx*yyy"
+	 * matches: {@value}.
+	 * <p>This is the default for {@link #setSnapshotSystemPropertyFilter}.
+	 * @since 6.2
+	 * @see #SNAPSHOT_FILE_PROPERTY_NAME
+	 */
+	public static final String SNAPSHOT_SYSTEM_PROPERTIES_PROPERTY_NAME =
+			"spring.context.config-classes.snapshot-system-properties";
+
 	private static final String IMPORT_REGISTRY_BEAN_NAME =
 			ConfigurationClassPostProcessor.class.getName() + ".importRegistry";
 
+	private static final String AOT_PROCESSING = "spring.aot.processing";
+
 
 	private final Log logger = LogFactory.getLog(getClass());
 
@@ -185,6 +213,11 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 	@Nullable
 	private List<PropertySourceDescriptor> propertySourceDescriptors;
 
+	@Nullable
+	private Path snapshotFile = initSnapshotFile();
+
+	private Predicate<String> snapshotSystemPropertyFilter = initSnapshotSystemPropertyFilter();
+
 
 	@Override
 	public int getOrder() {
@@ -243,6 +276,48 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		this.importBeanNameGenerator = beanNameGenerator;
 	}
 
+	/**
+	 * Set a file in which to keep a snapshot of the bean definitions derived from
+	 * configuration classes, for regular JVM runs that do not use ahead-of-time
+	 * generated code.
+	 * <p>If the file holds a snapshot for the same initial bean definitions,
+	 * class path, profiles and application properties, the bean definitions and
+	 * {@link PropertySource @PropertySource} declarations are restored from it
+	 * instead of parsing the configuration classes. Otherwise, the configuration
+	 * classes are processed as usual and a new snapshot is written to the file,
+	 * provided that all resulting bean definitions consist of plain values and
+	 * bean references.
+	 * <p>Files outside the class path that configuration decisions depend upon
+	 * are not part of the fingerprint: remove the file to force re-processing.
+	 * <p>Default is the value of the {@value #SNAPSHOT_FILE_PROPERTY_NAME}
+	 * {@link SpringProperties Spring property}, if any.
+	 * @since 6.2
+	 * @see #setSnapshotSystemPropertyFilter
+	 */
+	public void setSnapshotFile(@Nullable Path snapshotFile) {
+		this.snapshotFile = snapshotFile;
+	}
+
+	/**
+	 * Set the filter for the names of the system properties and environment
+	 * variables that the fingerprint of a {@linkplain #setSnapshotFile snapshot}
+	 * is computed from, in addition to all properties of the application's
+	 * own property sources.
+	 * <p>System properties and environment variables are excluded by default,
+	 * since many of them, such as the process id or the working directory, change
+	 * between runs without affecting configuration. Include the ones that
+	 * {@link Conditional @Conditional} or {@link Profile @Profile} declarations
+	 * depend upon, to process the configuration classes again when they change.
+	 * <p>Default is a filter for the names specified in the
+	 * {@value #SNAPSHOT_SYSTEM_PROPERTIES_PROPERTY_NAME}
+	 * {@link SpringProperties Spring property}, if any.
+	 * @since 6.2
+	 */
+	public void setSnapshotSystemPropertyFilter(Predicate<String> snapshotSystemPropertyFilter) {
+		Assert.notNull(snapshotSystemPropertyFilter, "Snapshot system property filter must not be null");
+		this.snapshotSystemPropertyFilter = snapshotSystemPropertyFilter;
+	}
+
 	@Override
 	public void setEnvironment(Environment environment) {
 		Assert.notNull(environment, "Environment must not be null");
@@ -344,6 +419,22 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		return null;
 	}
 
+	@Nullable
+	private static Path initSnapshotFile() {
+		String snapshotFile = SpringProperties.getProperty(SNAPSHOT_FILE_PROPERTY_NAME);
+		return (StringUtils.hasText(snapshotFile) ? Paths.get(snapshotFile.trim()) : null);
+	}
+
+	private static Predicate<String> initSnapshotSystemPropertyFilter() {
+		String[] patterns = StringUtils.commaDelimitedListToStringArray(
+				SpringProperties.getProperty(SNAPSHOT_SYSTEM_PROPERTIES_PROPERTY_NAME));
+		for (int i = 0; i < patterns.length; i++) {
+			patterns[i] = patterns[i].trim();
+		}
+		return (patterns.length > 0 ? propertyName -> PatternMatchUtils.simpleMatch(patterns, propertyName) :
+				propertyName -> false);
+	}
+
 	@Nullable
 	private Resource resolvePropertySourceLocation(String location) {
 		try {
@@ -406,6 +497,20 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 			this.environment = new StandardEnvironment();
 		}
 
+		// Restore the outcome of a previous run, if a snapshot for the current input is available
+		String snapshotFingerprint = null;
+		ConfigurationClassSnapshot.Baseline snapshotBaseline = null;
+		if (this.snapshotFile != null && !SpringProperties.getFlag(AOT_PROCESSING)) {
+			snapshotFingerprint = ConfigurationClassSnapshot.fingerprint(
+					registry, this.environment, this.beanClassLoader, this.snapshotSystemPropertyFilter);
+			if (restoreSnapshot(this.snapshotFile, snapshotFingerprint, registry, singletonRegistry)) {
+				// Restored @Bean definitions have been read through the MetadataReaderFactory
+				clearMetadataReaderCache();
+				return;
+			}
+			snapshotBaseline = ConfigurationClassSnapshot.baseline(registry);
+		}
+
 		// Parse each @Configuration class
 		ConfigurationClassParser parser = new ConfigurationClassParser(
 				this.metadataReaderFactory, this.problemReporter, this.environment,
@@ -453,6 +558,11 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		}
 		while (!candidates.isEmpty());
 
+		if (this.snapshotFile != null && snapshotFingerprint != null && snapshotBaseline != null) {
+			writeSnapshot(this.snapshotFile, snapshotBaseline.capture(snapshotFingerprint,
+					parser.getImportRegistry(), parser.getPropertySourceDescriptors()));
+		}
+
 		// Register the ImportRegistry as a bean in order to support ImportAware @Configuration classes
 		if (singletonRegistry != null && !singletonRegistry.containsSingleton(IMPORT_REGISTRY_BEAN_NAME)) {
 			singletonRegistry.registerSingleton(IMPORT_REGISTRY_BEAN_NAME, parser.getImportRegistry());
@@ -461,6 +571,10 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		// Store the PropertySourceDescriptors to contribute them Ahead-of-time if necessary
 		this.propertySourceDescriptors = parser.getPropertySourceDescriptors();
 
+		clearMetadataReaderCache();
+	}
+
+	private void clearMetadataReaderCache() {
 		if (this.metadataReaderFactory instanceof CachingMetadataReaderFactory cachingMetadataReaderFactory) {
 			// Clear cache in externally provided MetadataReaderFactory; this is a no-op
 			// for a shared cache since it'll be cleared by the ApplicationContext.
@@ -468,6 +582,75 @@ public class ConfigurationClassPostProcessor implements BeanDefinitionRegistryPo
 		}
 	}
 
+	private boolean restoreSnapshot(Path snapshotFile, String fingerprint,
+			BeanDefinitionRegistry registry, @Nullable SingletonBeanRegistry singletonRegistry) {
+
+		ConfigurationClassSnapshot snapshot;
+		try {
+			snapshot = ConfigurationClassSnapshot.read(
+					snapshotFile, fingerprint, this.beanClassLoader, this.metadataReaderFactory);
+		}
+		catch (IOException | ClassNotFoundException | RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring unreadable configuration snapshot [" + snapshotFile + "]", ex);
+			}
+			return false;
+		}
+		if (snapshot == null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("No configuration snapshot for current input in [" + snapshotFile + "]");
+			}
+			return false;
+		}
+
+		List<PropertySourceDescriptor> descriptors = snapshot.getPropertySourceDescriptors();
+		if (!descriptors.isEmpty() && this.environment instanceof ConfigurableEnvironment configurableEnvironment) {
+			PropertySourceProcessor processor = new PropertySourceProcessor(configurableEnvironment, this.resourceLoader);
+			for (PropertySourceDescriptor descriptor : descriptors) {
+				try {
+					processor.processPropertySource(descriptor);
+				}
+				catch (IOException ex) {
+					throw new BeanDefinitionStoreException(
+							"Failed to process property source " + descriptor.locations(), ex);
+				}
+			}
+		}
+		snapshot.registerBeanDefinitions(registry);
+		if (singletonRegistry != null && !singletonRegistry.containsSingleton(IMPORT_REGISTRY_BEAN_NAME)) {
+			singletonRegistry.registerSingleton(IMPORT_REGISTRY_BEAN_NAME,
+					snapshot.getImportRegistry(this.metadataReaderFactory));
+		}
+		this.propertySourceDescriptors = descriptors;
+		if (logger.isDebugEnabled()) {
+			logger.debug("Restored " + snapshot.getBeanDefinitionCount() +
+					" bean definitions from configuration snapshot [" + snapshotFile + "]");
+		}
+		return true;
+	}
+
+	private void writeSnapshot(Path snapshotFile, @Nullable ConfigurationClassSnapshot snapshot) {
+		if (snapshot == null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Not writing configuration snapshot [" + snapshotFile +
+						"]: bean definitions cannot be represented in a snapshot");
+			}
+			return;
+		}
+		try {
+			snapshot.write(snapshotFile);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Wrote configuration snapshot [" + snapshotFile + "] with " +
+						snapshot.getBeanDefinitionCount() + " bean definitions");
+			}
+		}
+		catch (IOException ex) {
+			if (logger.isInfoEnabled()) {
+				logger.info("Failed to write configuration snapshot [" + snapshotFile + "]", ex);
+			}
+		}
+	}
+
 	/**
 	 * Post-processes a BeanFactory in search of Configuration class BeanDefinitions;
 	 * any candidates are then enhanced by a {@link ConfigurationClassEnhancer}.
@@ -0,0 +1,941 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
+import org.springframework.beans.factory.config.RuntimeBeanNameReference;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.PropertySourceDescriptor;
+import org.springframework.core.io.support.PropertySourceFactory;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Snapshot of the bean definitions that {@link ConfigurationClassPostProcessor}
+ * derived from the configuration classes of a registry, along with the
+ * {@code @PropertySource} declarations and the imports that were
+ * encountered, so that they can be restored on a subsequent run without parsing
+ * the configuration classes again.
+ *
+ * <p>A snapshot is keyed by a {@linkplain #fingerprint fingerprint} of the
+ * initial registry, the class path, the active and default profiles, the
+ * properties of the application's property sources, and selected system
+ * properties and environment variables. Only bean definitions that consist of plain
+ * values and bean references can be captured: if processing produces any other
+ * definition, or registers singletons as a side effect, no snapshot is taken.
+ *
+ * <p>Bean definitions for {@link Bean @Bean} methods are restored as the same
+ * type of definition as in regular processing, with the metadata of the
+ * configuration class and the {@code @Bean} method read through a
+ * {@link MetadataReaderFactory}. Other bean definitions are restored as
+ * {@link GenericBeanDefinition} or, for factory methods, {@link RootBeanDefinition}
+ * instances, without the annotation metadata that the original definitions carried.
+ *
+ * @since 6.2
+ * @see ConfigurationClassPostProcessor#setSnapshotFile
+ */
+final class ConfigurationClassSnapshot {
+
+	private static final int FORMAT_VERSION = 2;
+
+	private static final int VALUE_NULL = 0;
+
+	private static final int VALUE_STRING = 1;
+
+	private static final int VALUE_BOOLEAN = 2;
+
+	private static final int VALUE_INTEGER = 3;
+
+	private static final int VALUE_LONG = 4;
+
+	private static final int VALUE_TYPED_STRING = 5;
+
+	private static final int VALUE_BEAN_REFERENCE = 6;
+
+	private static final int VALUE_BEAN_NAME_REFERENCE = 7;
+
+
+	private final String fingerprint;
+
+	private final List<BeanDefinitionHolder> registeredDefinitions;
+
+	private final List<BeanDefinitionHolder> updatedDefinitions;
+
+	private final Map<String, String> importingClasses;
+
+	private final List<PropertySourceDescriptor> propertySourceDescriptors;
+
+
+	private ConfigurationClassSnapshot(String fingerprint, List<BeanDefinitionHolder> registeredDefinitions,
+			List<BeanDefinitionHolder> updatedDefinitions, Map<String, String> importingClasses,
+			List<PropertySourceDescriptor> propertySourceDescriptors) {
+
+		this.fingerprint = fingerprint;
+		this.registeredDefinitions = registeredDefinitions;
+		this.updatedDefinitions = updatedDefinitions;
+		this.importingClasses = importingClasses;
+		this.propertySourceDescriptors = propertySourceDescriptors;
+	}
+
+
+	/**
+	 * Return the fingerprint this snapshot was taken for.
+	 */
+	String getFingerprint() {
+		return this.fingerprint;
+	}
+
+	/**
+	 * Return the number of bean definitions that this snapshot registers or updates.
+	 */
+	int getBeanDefinitionCount() {
+		return this.registeredDefinitions.size() + this.updatedDefinitions.size();
+	}
+
+	/**
+	 * Return the {@code @PropertySource} declarations to process, in order.
+	 */
+	List<PropertySourceDescriptor> getPropertySourceDescriptors() {
+		return this.propertySourceDescriptors;
+	}
+
+	/**
+	 * Return an {@link ImportRegistry} for the recorded imports, reading the
+	 * metadata of importing classes on demand.
+	 * @param metadataReaderFactory the factory to read class metadata with
+	 */
+	ImportRegistry getImportRegistry(MetadataReaderFactory metadataReaderFactory) {
+		return new SnapshotImportRegistry(this.importingClasses, metadataReaderFactory);
+	}
+
+	/**
+	 * Apply the recorded bean definitions to the given registry: update the
+	 * definitions that configuration class processing modified in place, and
+	 * register all others.
+	 * @param registry the registry to apply the bean definitions to
+	 */
+	void registerBeanDefinitions(BeanDefinitionRegistry registry) {
+		for (BeanDefinitionHolder holder : this.updatedDefinitions) {
+			String beanName = holder.getBeanName();
+			if (registry.containsBeanDefinition(beanName) &&
+					registry.getBeanDefinition(beanName) instanceof AbstractBeanDefinition existing) {
+				existing.overrideFrom(holder.getBeanDefinition());
+			}
+			else {
+				registry.registerBeanDefinition(beanName, holder.getBeanDefinition());
+			}
+		}
+		for (BeanDefinitionHolder holder : this.registeredDefinitions) {
+			registry.registerBeanDefinition(holder.getBeanName(), holder.getBeanDefinition());
+			String[] aliases = holder.getAliases();
+			if (aliases != null) {
+				for (String alias : aliases) {
+					registry.registerAlias(holder.getBeanName(), alias);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write this snapshot to the given file, replacing any previous content.
+	 * @param file the file to write to
+	 * @throws IOException if the file could not be written
+	 */
+	void write(Path file) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+		Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+				writeTo(new DataOutputStream(out));
+			}
+			try {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private void writeTo(DataOutputStream out) throws IOException {
+		out.writeInt(FORMAT_VERSION);
+		out.writeUTF(this.fingerprint);
+		out.writeInt(this.updatedDefinitions.size());
+		for (BeanDefinitionHolder holder : this.updatedDefinitions) {
+			writeBeanDefinition(out, holder);
+		}
+		out.writeInt(this.registeredDefinitions.size());
+		for (BeanDefinitionHolder holder : this.registeredDefinitions) {
+			writeBeanDefinition(out, holder);
+		}
+		out.writeInt(this.importingClasses.size());
+		for (Map.Entry<String, String> entry : this.importingClasses.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeUTF(entry.getValue());
+		}
+		out.writeInt(this.propertySourceDescriptors.size());
+		for (PropertySourceDescriptor descriptor : this.propertySourceDescriptors) {
+			writeStrings(out, descriptor.locations().toArray(String[]::new));
+			out.writeBoolean(descriptor.ignoreResourceNotFound());
+			writeString(out, descriptor.name());
+			Class<? extends PropertySourceFactory> factory = descriptor.propertySourceFactory();
+			writeString(out, (factory != null ? factory.getName() : null));
+			writeString(out, descriptor.encoding());
+		}
+		out.flush();
+	}
+
+
+	/**
+	 * Compute the fingerprint that identifies the input of configuration class
+	 * processing against the given registry and environment.
+	 * @param registry the registry, before configuration class processing
+	 * @param environment the environment to evaluate conditions against
+	 * @param classLoader the class loader to load configuration classes with
+	 * @param systemPropertyFilter the filter for the names of the system properties
+	 * and environment variables to consider
+	 * @return a hex-encoded digest of the current input
+	 */
+	static String fingerprint(BeanDefinitionRegistry registry, Environment environment,
+			@Nullable ClassLoader classLoader, Predicate<String> systemPropertyFilter) {
+
+		Digest digest = new Digest();
+		digest.update("version", String.valueOf(FORMAT_VERSION));
+		for (String beanName : registry.getBeanDefinitionNames()) {
+			digest.update("bean", beanName, registry.getBeanDefinition(beanName).toString());
+		}
+		for (Path classPathEntry : getClassPathEntries(classLoader)) {
+			digest.updateClassPathEntry(classPathEntry);
+		}
+		digest.update("active-profiles", StringUtils.arrayToCommaDelimitedString(environment.getActiveProfiles()));
+		digest.update("default-profiles", StringUtils.arrayToCommaDelimitedString(environment.getDefaultProfiles()));
+		if (environment instanceof ConfigurableEnvironment configurableEnvironment) {
+			for (PropertySource<?> propertySource : configurableEnvironment.getPropertySources()) {
+				digest.update("property-source", propertySource.getName(), propertySource.getClass().getName());
+				if (propertySource instanceof EnumerablePropertySource<?> enumerable) {
+					boolean systemSource = isSystemPropertySource(propertySource);
+					String[] propertyNames = enumerable.getPropertyNames().clone();
+					Arrays.sort(propertyNames);
+					for (String propertyName : propertyNames) {
+						if (!systemSource || systemPropertyFilter.test(propertyName)) {
+							digest.update("property", propertyName,
+									String.valueOf(enumerable.getProperty(propertyName)));
+						}
+					}
+				}
+			}
+		}
+		return digest.toHexString();
+	}
+
+	private static boolean isSystemPropertySource(PropertySource<?> propertySource) {
+		String name = propertySource.getName();
+		return (StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME.equals(name) ||
+				StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME.equals(name));
+	}
+
+	private static Set<Path> getClassPathEntries(@Nullable ClassLoader classLoader) {
+		Set<Path> entries = new LinkedHashSet<>();
+		String classPath = System.getProperty("java.class.path");
+		if (StringUtils.hasLength(classPath)) {
+			for (String entry : StringUtils.tokenizeToStringArray(classPath, File.pathSeparator)) {
+				entries.add(Paths.get(entry).toAbsolutePath());
+			}
+		}
+		for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+			if (current instanceof URLClassLoader urlClassLoader) {
+				for (URL url : urlClassLoader.getURLs()) {
+					if ("file".equals(url.getProtocol())) {
+						try {
+							entries.add(Paths.get(url.toURI()).toAbsolutePath());
+						}
+						catch (URISyntaxException | IllegalArgumentException ex) {
+							// Not a file system location: ignore
+						}
+					}
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Read a snapshot from the given file.
+	 * @param file the file to read from
+	 * @param fingerprint the fingerprint of the current input
+	 * @param classLoader the class loader to resolve property source factories with
+	 * @param metadataReaderFactory the factory to read the metadata of
+	 * {@code @Bean} methods with
+	 * @return the snapshot, or {@code null} if the file does not exist or holds
+	 * a snapshot for a different fingerprint
+	 * @throws IOException if the file exists but could not be read
+	 * @throws ClassNotFoundException if a property source factory could not be resolved
+	 */
+	@Nullable
+	static ConfigurationClassSnapshot read(Path file, String fingerprint, @Nullable ClassLoader classLoader,
+			MetadataReaderFactory metadataReaderFactory) throws IOException, ClassNotFoundException {
+
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			DataInputStream data = new DataInputStream(in);
+			if (data.readInt() != FORMAT_VERSION || !fingerprint.equals(data.readUTF())) {
+				return null;
+			}
+			List<BeanDefinitionHolder> updatedDefinitions = readBeanDefinitions(data, metadataReaderFactory);
+			List<BeanDefinitionHolder> registeredDefinitions = readBeanDefinitions(data, metadataReaderFactory);
+			int importCount = data.readInt();
+			Map<String, String> importingClasses = new LinkedHashMap<>(importCount);
+			for (int i = 0; i < importCount; i++) {
+				importingClasses.put(data.readUTF(), data.readUTF());
+			}
+			int descriptorCount = data.readInt();
+			List<PropertySourceDescriptor> descriptors = new ArrayList<>(descriptorCount);
+			for (int i = 0; i < descriptorCount; i++) {
+				descriptors.add(readPropertySourceDescriptor(data, classLoader));
+			}
+			return new ConfigurationClassSnapshot(fingerprint, registeredDefinitions, updatedDefinitions,
+					importingClasses, Collections.unmodifiableList(descriptors));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PropertySourceDescriptor readPropertySourceDescriptor(DataInputStream in,
+			@Nullable ClassLoader classLoader) throws IOException, ClassNotFoundException {
+
+		List<String> locations = Arrays.asList(readStrings(in));
+		boolean ignoreResourceNotFound = in.readBoolean();
+		String name = readString(in);
+		String factoryName = readString(in);
+		Class<? extends PropertySourceFactory> factory = (factoryName != null ?
+				(Class<? extends PropertySourceFactory>) ClassUtils.forName(factoryName, classLoader) : null);
+		return new PropertySourceDescriptor(locations, ignoreResourceNotFound, name, factory, readString(in));
+	}
+
+	/**
+	 * Record the state of the given registry before configuration class processing.
+	 * @param registry the registry to record
+	 * @return a baseline to {@linkplain Baseline#capture capture} a snapshot against
+	 */
+	static Baseline baseline(BeanDefinitionRegistry registry) {
+		return new Baseline(registry);
+	}
+
+
+	private static void writeBeanDefinition(DataOutputStream out, BeanDefinitionHolder holder) throws IOException {
+		AbstractBeanDefinition bd = (AbstractBeanDefinition) holder.getBeanDefinition();
+		out.writeUTF(holder.getBeanName());
+		writeStrings(out, holder.getAliases());
+		writeString(out, bd.getBeanClassName());
+		writeString(out, bd.getScope());
+		out.writeBoolean(bd.isAbstract());
+		Boolean lazyInit = bd.getLazyInit();
+		out.writeByte(lazyInit != null ? (lazyInit ? 1 : 0) : -1);
+		out.writeBoolean(bd.isBackgroundInit());
+		out.writeInt(bd.getAutowireMode());
+		out.writeInt(bd.getDependencyCheck());
+		writeStrings(out, bd.getDependsOn());
+		out.writeBoolean(bd.isAutowireCandidate());
+		out.writeBoolean(bd.isDefaultCandidate());
+		out.writeBoolean(bd.isPrimary());
+		out.writeBoolean(bd.isFallback());
+		out.writeBoolean(bd.isNonPublicAccessAllowed());
+		out.writeBoolean(bd.isLenientConstructorResolution());
+		writeString(out, bd.getFactoryBeanName());
+		writeString(out, bd.getFactoryMethodName());
+		out.writeBoolean(isUniqueFactoryMethod(bd));
+		writeStrings(out, bd.getInitMethodNames());
+		out.writeBoolean(bd.isEnforceInitMethod());
+		writeStrings(out, bd.getDestroyMethodNames());
+		out.writeBoolean(bd.isEnforceDestroyMethod());
+		out.writeBoolean(bd.isSynthetic());
+		out.writeInt(bd.getRole());
+		writeString(out, bd.getDescription());
+		writeString(out, bd.getResourceDescription());
+
+		ConstructorArgumentValues args = bd.getConstructorArgumentValues();
+		out.writeInt(args.getIndexedArgumentValues().size());
+		for (Map.Entry<Integer, ValueHolder> entry : args.getIndexedArgumentValues().entrySet()) {
+			out.writeInt(entry.getKey());
+			writeValueHolder(out, entry.getValue());
+		}
+		out.writeInt(args.getGenericArgumentValues().size());
+		for (ValueHolder valueHolder : args.getGenericArgumentValues()) {
+			writeValueHolder(out, valueHolder);
+		}
+		MutablePropertyValues pvs = bd.getPropertyValues();
+		out.writeInt(pvs.size());
+		for (PropertyValue pv : pvs.getPropertyValueList()) {
+			out.writeUTF(pv.getName());
+			out.writeBoolean(pv.isOptional());
+			writeValue(out, pv.getValue());
+		}
+		String[] attributeNames = bd.attributeNames();
+		out.writeInt(attributeNames.length);
+		for (String attributeName : attributeNames) {
+			out.writeUTF(attributeName);
+			writeValue(out, bd.getAttribute(attributeName));
+		}
+
+		String derivedBeanName = ConfigurationClassBeanDefinitionReader.getDerivedBeanName(bd);
+		out.writeBoolean(derivedBeanName != null);
+		if (derivedBeanName != null) {
+			AnnotatedBeanDefinition abd = (AnnotatedBeanDefinition) bd;
+			MethodMetadata beanMethodMetadata = abd.getFactoryMethodMetadata();
+			Assert.state(beanMethodMetadata != null, "No @Bean method metadata");
+			out.writeUTF(derivedBeanName);
+			out.writeUTF(abd.getMetadata().getClassName());
+			out.writeUTF(beanMethodMetadata.getDeclaringClassName());
+			out.writeUTF(beanMethodMetadata.getMethodName());
+			out.writeUTF(beanMethodMetadata.getReturnTypeName());
+		}
+	}
+
+	private static List<BeanDefinitionHolder> readBeanDefinitions(DataInputStream in,
+			MetadataReaderFactory metadataReaderFactory) throws IOException {
+
+		int count = in.readInt();
+		List<BeanDefinitionHolder> holders = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			holders.add(readBeanDefinition(in, metadataReaderFactory));
+		}
+		return Collections.unmodifiableList(holders);
+	}
+
+	private static BeanDefinitionHolder readBeanDefinition(DataInputStream in,
+			MetadataReaderFactory metadataReaderFactory) throws IOException {
+
+		String beanName = in.readUTF();
+		String[] aliases = readStrings(in);
+		String beanClassName = readString(in);
+		String scope = readString(in);
+		boolean abstractFlag = in.readBoolean();
+		byte lazyInit = in.readByte();
+		boolean backgroundInit = in.readBoolean();
+		int autowireMode = in.readInt();
+		int dependencyCheck = in.readInt();
+		String[] dependsOn = readStrings(in);
+		boolean autowireCandidate = in.readBoolean();
+		boolean defaultCandidate = in.readBoolean();
+		boolean primary = in.readBoolean();
+		boolean fallback = in.readBoolean();
+		boolean nonPublicAccessAllowed = in.readBoolean();
+		boolean lenientConstructorResolution = in.readBoolean();
+		String factoryBeanName = readString(in);
+		String factoryMethodName = readString(in);
+		boolean uniqueFactoryMethod = in.readBoolean();
+
+		AbstractBeanDefinition bd;
+		if (factoryMethodName != null) {
+			RootBeanDefinition rbd = new RootBeanDefinition();
+			if (uniqueFactoryMethod) {
+				rbd.setUniqueFactoryMethodName(factoryMethodName);
+			}
+			else {
+				rbd.setNonUniqueFactoryMethodName(factoryMethodName);
+			}
+			bd = rbd;
+		}
+		else {
+			bd = new GenericBeanDefinition();
+		}
+		bd.setBeanClassName(beanClassName);
+		bd.setScope(scope);
+		bd.setAbstract(abstractFlag);
+		if (lazyInit >= 0) {
+			bd.setLazyInit(lazyInit == 1);
+		}
+		bd.setBackgroundInit(backgroundInit);
+		bd.setAutowireMode(autowireMode);
+		bd.setDependencyCheck(dependencyCheck);
+		bd.setDependsOn(dependsOn);
+		bd.setAutowireCandidate(autowireCandidate);
+		bd.setDefaultCandidate(defaultCandidate);
+		bd.setPrimary(primary);
+		bd.setFallback(fallback);
+		bd.setNonPublicAccessAllowed(nonPublicAccessAllowed);
+		bd.setLenientConstructorResolution(lenientConstructorResolution);
+		bd.setFactoryBeanName(factoryBeanName);
+		bd.setInitMethodNames(readStrings(in));
+		bd.setEnforceInitMethod(in.readBoolean());
+		bd.setDestroyMethodNames(readStrings(in));
+		bd.setEnforceDestroyMethod(in.readBoolean());
+		bd.setSynthetic(in.readBoolean());
+		bd.setRole(in.readInt());
+		bd.setDescription(readString(in));
+		bd.setResourceDescription(readString(in));
+
+		ConstructorArgumentValues args = bd.getConstructorArgumentValues();
+		int indexedCount = in.readInt();
+		for (int i = 0; i < indexedCount; i++) {
+			args.addIndexedArgumentValue(in.readInt(), readValueHolder(in));
+		}
+		int genericCount = in.readInt();
+		for (int i = 0; i < genericCount; i++) {
+			args.addGenericArgumentValue(readValueHolder(in));
+		}
+		MutablePropertyValues pvs = bd.getPropertyValues();
+		int propertyCount = in.readInt();
+		for (int i = 0; i < propertyCount; i++) {
+			String name = in.readUTF();
+			boolean optional = in.readBoolean();
+			PropertyValue pv = new PropertyValue(name, readValue(in));
+			pv.setOptional(optional);
+			pvs.addPropertyValue(pv);
+		}
+		int attributeCount = in.readInt();
+		for (int i = 0; i < attributeCount; i++) {
+			bd.setAttribute(in.readUTF(), readValue(in));
+		}
+
+		if (in.readBoolean()) {
+			if (!(bd instanceof RootBeanDefinition rbd)) {
+				throw new IOException("Invalid @Bean method definition in configuration snapshot: " + beanName);
+			}
+			String derivedBeanName = in.readUTF();
+			AnnotationMetadata configClassMetadata =
+					metadataReaderFactory.getMetadataReader(in.readUTF()).getAnnotationMetadata();
+			MethodMetadata beanMethodMetadata = readBeanMethodMetadata(in, metadataReaderFactory);
+			bd = ConfigurationClassBeanDefinitionReader.createBeanMethodDefinition(
+					rbd, configClassMetadata, beanMethodMetadata, derivedBeanName);
+		}
+		return new BeanDefinitionHolder(bd, beanName, aliases);
+	}
+
+	private static MethodMetadata readBeanMethodMetadata(DataInputStream in,
+			MetadataReaderFactory metadataReaderFactory) throws IOException {
+
+		String declaringClassName = in.readUTF();
+		String methodName = in.readUTF();
+		String returnTypeName = in.readUTF();
+		AnnotationMetadata declaringClass =
+				metadataReaderFactory.getMetadataReader(declaringClassName).getAnnotationMetadata();
+		MethodMetadata beanMethodMetadata = null;
+		for (MethodMetadata candidate : declaringClass.getAnnotatedMethods(Bean.class.getName())) {
+			if (candidate.getMethodName().equals(methodName)) {
+				// Prefer the same overloaded method, if its return type name matches
+				if (beanMethodMetadata == null || candidate.getReturnTypeName().equals(returnTypeName)) {
+					beanMethodMetadata = candidate;
+				}
+			}
+		}
+		if (beanMethodMetadata == null) {
+			throw new IOException("No @Bean method '" + methodName + "' on class [" + declaringClassName + "]");
+		}
+		return beanMethodMetadata;
+	}
+
+	private static boolean isUniqueFactoryMethod(AbstractBeanDefinition bd) {
+		// @Bean method: should it turn out to be overloaded, the factory method
+		// gets resolved among all candidates of the same name on demand.
+		return (bd.getFactoryMethodName() != null && bd instanceof AnnotatedBeanDefinition abd &&
+				abd.getFactoryMethodMetadata() != null);
+	}
+
+	private static void writeValueHolder(DataOutputStream out, ValueHolder valueHolder) throws IOException {
+		writeValue(out, valueHolder.getValue());
+		writeString(out, valueHolder.getType());
+		writeString(out, valueHolder.getName());
+	}
+
+	private static ValueHolder readValueHolder(DataInputStream in) throws IOException {
+		return new ValueHolder(readValue(in), readString(in), readString(in));
+	}
+
+	private static boolean isSupportedValue(@Nullable Object value) {
+		if (value == null || value instanceof String || value instanceof Boolean ||
+				value instanceof Integer || value instanceof Long) {
+			return true;
+		}
+		if (value instanceof TypedStringValue typedStringValue) {
+			return (!typedStringValue.hasTargetType() && !typedStringValue.isDynamic());
+		}
+		if (value instanceof RuntimeBeanReference reference) {
+			return (reference.getBeanType() == null && !reference.isToParent());
+		}
+		return (value instanceof RuntimeBeanNameReference);
+	}
+
+	private static void writeValue(DataOutputStream out, @Nullable Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(VALUE_NULL);
+		}
+		else if (value instanceof String string) {
+			out.writeByte(VALUE_STRING);
+			out.writeUTF(string);
+		}
+		else if (value instanceof Boolean bool) {
+			out.writeByte(VALUE_BOOLEAN);
+			out.writeBoolean(bool);
+		}
+		else if (value instanceof Integer integer) {
+			out.writeByte(VALUE_INTEGER);
+			out.writeInt(integer);
+		}
+		else if (value instanceof Long number) {
+			out.writeByte(VALUE_LONG);
+			out.writeLong(number);
+		}
+		else if (value instanceof TypedStringValue typedStringValue) {
+			out.writeByte(VALUE_TYPED_STRING);
+			writeString(out, typedStringValue.getValue());
+			writeString(out, typedStringValue.getTargetTypeName());
+			writeString(out, typedStringValue.getSpecifiedTypeName());
+		}
+		else if (value instanceof RuntimeBeanReference reference) {
+			out.writeByte(VALUE_BEAN_REFERENCE);
+			out.writeUTF(reference.getBeanName());
+		}
+		else if (value instanceof RuntimeBeanNameReference reference) {
+			out.writeByte(VALUE_BEAN_NAME_REFERENCE);
+			out.writeUTF(reference.getBeanName());
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported value in configuration snapshot: " + value);
+		}
+	}
+
+	@Nullable
+	private static Object readValue(DataInputStream in) throws IOException {
+		int type = in.readByte();
+		return switch (type) {
+			case VALUE_NULL -> null;
+			case VALUE_STRING -> in.readUTF();
+			case VALUE_BOOLEAN -> in.readBoolean();
+			case VALUE_INTEGER -> in.readInt();
+			case VALUE_LONG -> in.readLong();
+			case VALUE_TYPED_STRING -> {
+				TypedStringValue typedStringValue = new TypedStringValue(readString(in));
+				typedStringValue.setTargetTypeName(readString(in));
+				typedStringValue.setSpecifiedTypeName(readString(in));
+				yield typedStringValue;
+			}
+			case VALUE_BEAN_REFERENCE -> new RuntimeBeanReference(in.readUTF());
+			case VALUE_BEAN_NAME_REFERENCE -> new RuntimeBeanNameReference(in.readUTF());
+			default -> throw new IOException("Invalid value type in configuration snapshot: " + type);
+		};
+	}
+
+	private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	@Nullable
+	private static String readString(DataInputStream in) throws IOException {
+		return (in.readBoolean() ? in.readUTF() : null);
+	}
+
+	private static void writeStrings(DataOutputStream out, @Nullable String[] values) throws IOException {
+		if (values == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(values.length);
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+
+	@Nullable
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		String[] values = new String[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = in.readUTF();
+		}
+		return values;
+	}
+
+
+	/**
+	 * The state of a registry before configuration class processing, against
+	 * which the outcome of the processing can be captured.
+	 */
+	static final class Baseline {
+
+		private final BeanDefinitionRegistry registry;
+
+		private final Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+
+		private final Map<String, BeanDefinition> beanDefinitionCopies = new LinkedHashMap<>();
+
+		private final Set<String> singletonNames;
+
+		private Baseline(BeanDefinitionRegistry registry) {
+			this.registry = registry;
+			for (String beanName : registry.getBeanDefinitionNames()) {
+				BeanDefinition bd = registry.getBeanDefinition(beanName);
+				this.beanDefinitions.put(beanName, bd);
+				if (bd instanceof AbstractBeanDefinition abd) {
+					this.beanDefinitionCopies.put(beanName, abd.cloneBeanDefinition());
+				}
+			}
+			this.singletonNames = getSingletonNames(registry);
+		}
+
+		/**
+		 * Capture the bean definitions that configuration class processing
+		 * registered or modified since this baseline was recorded.
+		 * @param fingerprint the fingerprint of the input of the processing
+		 * @param importRegistry the import registry of the processing
+		 * @param propertySourceDescriptors the processed {@code @PropertySource} declarations
+		 * @return the snapshot, or {@code null} if the outcome of the processing
+		 * cannot be represented by a snapshot
+		 */
+		@Nullable
+		ConfigurationClassSnapshot capture(String fingerprint, ImportRegistry importRegistry,
+				List<PropertySourceDescriptor> propertySourceDescriptors) {
+
+			if (!this.singletonNames.equals(getSingletonNames(this.registry))) {
+				return null;
+			}
+			Set<String> previousNames = new LinkedHashSet<>(this.beanDefinitions.keySet());
+			List<BeanDefinitionHolder> registeredDefinitions = new ArrayList<>();
+			List<BeanDefinitionHolder> updatedDefinitions = new ArrayList<>();
+			Map<String, String> importingClasses = new LinkedHashMap<>();
+			for (String beanName : this.registry.getBeanDefinitionNames()) {
+				previousNames.remove(beanName);
+				BeanDefinition bd = this.registry.getBeanDefinition(beanName);
+				BeanDefinition previous = this.beanDefinitions.get(beanName);
+				if (bd != previous || !bd.equals(this.beanDefinitionCopies.get(beanName))) {
+					if (!isRepresentable(bd)) {
+						return null;
+					}
+					BeanDefinitionHolder holder =
+							new BeanDefinitionHolder(bd, beanName, this.registry.getAliases(beanName));
+					(bd == previous ? updatedDefinitions : registeredDefinitions).add(holder);
+				}
+				String beanClassName = bd.getBeanClassName();
+				if (beanClassName != null) {
+					AnnotationMetadata importingClass = importRegistry.getImportingClassFor(beanClassName);
+					if (importingClass != null) {
+						importingClasses.put(beanClassName, importingClass.getClassName());
+					}
+				}
+			}
+			if (!previousNames.isEmpty()) {
+				// Bean definitions got removed
+				return null;
+			}
+			return new ConfigurationClassSnapshot(fingerprint, registeredDefinitions, updatedDefinitions,
+					importingClasses, List.copyOf(propertySourceDescriptors));
+		}
+
+		private static Set<String> getSingletonNames(BeanDefinitionRegistry registry) {
+			return (registry instanceof SingletonBeanRegistry singletonRegistry ?
+					Set.of(singletonRegistry.getSingletonNames()) : Collections.emptySet());
+		}
+
+		private static boolean isRepresentable(BeanDefinition bd) {
+			if (!(bd instanceof AbstractBeanDefinition abd) || abd.getParentName() != null ||
+					abd.getInstanceSupplier() != null || abd.hasMethodOverrides() ||
+					!abd.getQualifiers().isEmpty() || abd.getOriginatingBeanDefinition() != null) {
+				return false;
+			}
+			if (abd instanceof RootBeanDefinition rbd && (rbd.getDecoratedDefinition() != null ||
+					rbd.getQualifiedElement() != null || rbd.getTargetType() != null)) {
+				return false;
+			}
+			for (ValueHolder valueHolder : abd.getConstructorArgumentValues().getIndexedArgumentValues().values()) {
+				if (!isSupportedValue(valueHolder.getValue())) {
+					return false;
+				}
+			}
+			for (ValueHolder valueHolder : abd.getConstructorArgumentValues().getGenericArgumentValues()) {
+				if (!isSupportedValue(valueHolder.getValue())) {
+					return false;
+				}
+			}
+			for (PropertyValue pv : abd.getPropertyValues().getPropertyValueList()) {
+				if (!isSupportedValue(pv.getValue())) {
+					return false;
+				}
+			}
+			for (String attributeName : abd.attributeNames()) {
+				Object attribute = abd.getAttribute(attributeName);
+				if (!(attribute instanceof String || attribute instanceof Boolean ||
+						attribute instanceof Integer || attribute instanceof Long)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+
+	/**
+	 * {@link ImportRegistry} for the imports recorded in a snapshot.
+	 */
+	private static class SnapshotImportRegistry implements ImportRegistry {
+
+		private final Map<String, String> importingClasses;
+
+		private final MetadataReaderFactory metadataReaderFactory;
+
+		SnapshotImportRegistry(Map<String, String> importingClasses, MetadataReaderFactory metadataReaderFactory) {
+			this.importingClasses = new LinkedHashMap<>(importingClasses);
+			this.metadataReaderFactory = metadataReaderFactory;
+		}
+
+		@Override
+		@Nullable
+		public AnnotationMetadata getImportingClassFor(String importedClass) {
+			String importingClass = this.importingClasses.get(importedClass);
+			if (importingClass == null) {
+				return null;
+			}
+			try {
+				return this.metadataReaderFactory.getMetadataReader(importingClass).getAnnotationMetadata();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(String.format("Failed to read metadata for '%s'", importingClass), ex);
+			}
+		}
+
+		@Override
+		public void removeImportingClass(String importingClass) {
+			this.importingClasses.values().removeIf(importingClass::equals);
+		}
+	}
+
+
+	/**
+	 * SHA-256 digest over a sequence of string records.
+	 */
+	private static class Digest {
+
+		private final MessageDigest messageDigest;
+
+		Digest() {
+			try {
+				this.messageDigest = MessageDigest.getInstance("SHA-256");
+			}
+			catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException("SHA-256 not supported on this platform", ex);
+			}
+		}
+
+		void update(String... values) {
+			for (String value : values) {
+				this.messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+				this.messageDigest.update((byte) 0);
+			}
+			this.messageDigest.update((byte) '\n');
+		}
+
+		void updateClassPathEntry(Path entry) {
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+				if (!attributes.isDirectory()) {
+					update("class-path-file", entry.toString(), String.valueOf(attributes.size()),
+							attributes.lastModifiedTime().toString());
+					return;
+				}
+				List<String> files = new ArrayList<>();
+				Files.walkFileTree(entry, new SimpleFileVisitor<>() {
+					@Override
+					public FileVisitResult visitFile(Path file, BasicFileAttributes fileAttributes) {
+						files.add(entry.relativize(file) + "\0" + fileAttributes.size() + "\0" +
+								fileAttributes.lastModifiedTime());
+						return FileVisitResult.CONTINUE;
+					}
+				});
+				Collections.sort(files);
+				update("class-path-directory", entry.toString());
+				for (String file : files) {
+					update(file);
+				}
+			}
+			catch (IOException ex) {
+				update("class-path-missing", entry.toString());
+			}
+		}
+
+		String toHexString() {
+			return HexFormat.of().formatHex(this.messageDigest.digest());
+		}
+	}
+
+}
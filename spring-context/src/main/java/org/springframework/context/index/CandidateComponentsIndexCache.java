@@ -0,0 +1,442 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Indexed;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * On-disk cache of the annotation types and supertypes of the classes in each
+ * class path entry, from which a candidate components index is derived for
+ * entries that do not provide a {@code META-INF/spring.components} file.
+ *
+ * <p>Each jar file is keyed by a checksum of its entries, and each directory by
+ * a checksum of the names, sizes and last-modified times of its class files, so
+ * that only class path entries that changed since a previous run are read
+ * again. Stereotypes are a superset of what the {@code spring-context-indexer}
+ * records: all direct and meta-annotation types of a class, along with any of
+ * its supertypes that are annotated with {@link Indexed @Indexed}.
+ *
+ * @since 6.2
+ * @see CandidateComponentsIndexLoader#CACHE_DIRECTORY
+ */
+@SuppressWarnings("removal")
+final class CandidateComponentsIndexCache {
+
+	private static final String CACHE_FILE_SUFFIX = ".components";
+
+	private static final String INDEXED_ANNOTATION = Indexed.class.getName();
+
+	private static final String OBJECT_CLASS = Object.class.getName();
+
+	private static final Log logger = LogFactory.getLog(CandidateComponentsIndexCache.class);
+
+
+	private final Path cacheDirectory;
+
+	private final ClassLoader classLoader;
+
+	private final MetadataReaderFactory metadataReaderFactory;
+
+
+	CandidateComponentsIndexCache(Path cacheDirectory, ClassLoader classLoader) {
+		this.cacheDirectory = cacheDirectory;
+		this.classLoader = classLoader;
+		this.metadataReaderFactory = new SimpleMetadataReaderFactory(classLoader);
+	}
+
+
+	/**
+	 * Load the candidate components indexes for all class path entries of the
+	 * class loader.
+	 * @return the indexes, or {@code null} if any class path entry cannot be indexed
+	 * @throws IOException if a class path entry or the cache could not be read
+	 */
+	@Nullable
+	List<Properties> loadIndexes() throws IOException {
+		Resource[] roots = new PathMatchingResourcePatternResolver(this.classLoader)
+				.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX);
+		return loadIndexes(List.of(roots));
+	}
+
+	/**
+	 * Load the candidate components indexes for the given class path entries.
+	 * @param roots the roots of the class path entries
+	 * @return the indexes, or {@code null} if any class path entry cannot be indexed
+	 * @throws IOException if a class path entry or the cache could not be read
+	 */
+	@Nullable
+	List<Properties> loadIndexes(List<Resource> roots) throws IOException {
+		List<Properties> result = new ArrayList<>();
+		Map<String, TypeEntry> types = new LinkedHashMap<>();
+		int cacheMisses = 0;
+		for (Resource root : roots) {
+			Resource componentsResource =
+					root.createRelative(CandidateComponentsIndexLoader.COMPONENTS_RESOURCE_LOCATION);
+			if (componentsResource.exists()) {
+				result.add(PropertiesLoaderUtils.loadProperties(componentsResource));
+				continue;
+			}
+			ClassPathEntry entry = ClassPathEntry.of(root);
+			if (entry == null) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Cannot index class path entry [" + root + "]: falling back to scanning");
+				}
+				return null;
+			}
+			Path cacheFile = this.cacheDirectory.resolve(entry.checksum() + CACHE_FILE_SUFFIX);
+			Properties cached = readCacheFile(cacheFile);
+			if (cached == null) {
+				cached = entry.index(this.metadataReaderFactory);
+				writeCacheFile(cacheFile, cached);
+				cacheMisses++;
+			}
+			cached.forEach((type, value) -> types.putIfAbsent((String) type, TypeEntry.parse((String) value)));
+		}
+		result.add(deriveStereotypes(types));
+		if (logger.isDebugEnabled()) {
+			logger.debug("Indexed " + roots.size() + " class path entries, " + cacheMisses +
+					" of which were not cached in [" + this.cacheDirectory + "]");
+		}
+		return result;
+	}
+
+	@Nullable
+	private static Properties readCacheFile(Path cacheFile) {
+		if (!Files.isRegularFile(cacheFile)) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(cacheFile)) {
+			properties.load(in);
+			return properties;
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring unreadable index cache file [" + cacheFile + "]", ex);
+			}
+			return null;
+		}
+	}
+
+	private void writeCacheFile(Path cacheFile, Properties properties) {
+		try {
+			Files.createDirectories(this.cacheDirectory);
+			Path tempFile = Files.createTempFile(this.cacheDirectory, cacheFile.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream out = Files.newOutputStream(tempFile)) {
+					properties.store(out, null);
+				}
+				try {
+					Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex) {
+					Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+		catch (IOException ex) {
+			// The index is rebuilt on the next run
+			if (logger.isInfoEnabled()) {
+				logger.info("Failed to write index cache file [" + cacheFile + "]", ex);
+			}
+		}
+	}
+
+	/**
+	 * Derive the stereotypes of the given types, in the format of
+	 * {@code META-INF/spring.components}.
+	 */
+	private static Properties deriveStereotypes(Map<String, TypeEntry> types) {
+		Properties properties = new Properties();
+		types.forEach((type, entry) -> {
+			Set<String> stereotypes = new LinkedHashSet<>(entry.annotationTypes());
+			Set<String> visited = new HashSet<>();
+			Deque<String> supertypes = new ArrayDeque<>(entry.supertypes());
+			while (!supertypes.isEmpty()) {
+				String supertype = supertypes.pop();
+				TypeEntry supertypeEntry = types.get(supertype);
+				if (visited.add(supertype) && supertypeEntry != null) {
+					if (supertypeEntry.annotationTypes().contains(INDEXED_ANNOTATION)) {
+						stereotypes.add(supertype);
+					}
+					supertypes.addAll(supertypeEntry.supertypes());
+				}
+			}
+			if (!stereotypes.isEmpty()) {
+				properties.put(type, StringUtils.collectionToCommaDelimitedString(stereotypes));
+			}
+		});
+		return properties;
+	}
+
+
+	/**
+	 * The annotation types and direct supertypes of a class.
+	 */
+	private record TypeEntry(List<String> annotationTypes, List<String> supertypes) {
+
+		static TypeEntry of(AnnotationMetadata metadata) {
+			Set<String> annotationTypes = new LinkedHashSet<>();
+			for (String annotationType : metadata.getAnnotationTypes()) {
+				annotationTypes.add(annotationType);
+				annotationTypes.addAll(metadata.getMetaAnnotationTypes(annotationType));
+			}
+			List<String> supertypes = new ArrayList<>();
+			String superClassName = metadata.getSuperClassName();
+			if (superClassName != null && !OBJECT_CLASS.equals(superClassName)) {
+				supertypes.add(superClassName);
+			}
+			Collections.addAll(supertypes, metadata.getInterfaceNames());
+			return new TypeEntry(List.copyOf(annotationTypes), supertypes);
+		}
+
+		static TypeEntry parse(String value) {
+			int separator = value.indexOf(';');
+			String annotationTypes = (separator != -1 ? value.substring(0, separator) : value);
+			String supertypes = (separator != -1 ? value.substring(separator + 1) : "");
+			return new TypeEntry(List.of(StringUtils.commaDelimitedListToStringArray(annotationTypes)),
+					List.of(StringUtils.commaDelimitedListToStringArray(supertypes)));
+		}
+
+		boolean isEmpty() {
+			return (this.annotationTypes.isEmpty() && this.supertypes.isEmpty());
+		}
+
+		@Override
+		public String toString() {
+			return StringUtils.collectionToCommaDelimitedString(this.annotationTypes) + ";" +
+					StringUtils.collectionToCommaDelimitedString(this.supertypes);
+		}
+	}
+
+
+	/**
+	 * A jar file or directory on the class path.
+	 */
+	private abstract static class ClassPathEntry {
+
+		@Nullable
+		static ClassPathEntry of(Resource root) throws IOException {
+			URL url = root.getURL();
+			if (ResourceUtils.isJarURL(url)) {
+				String path = url.getPath();
+				int separator = path.indexOf(ResourceUtils.JAR_URL_SEPARATOR);
+				URL jarFileUrl = ResourceUtils.extractJarFileURL(url);
+				if (separator == path.length() - ResourceUtils.JAR_URL_SEPARATOR.length() &&
+						ResourceUtils.isFileURL(jarFileUrl)) {
+					return new JarClassPathEntry(ResourceUtils.getFile(jarFileUrl));
+				}
+				return null;
+			}
+			if (ResourceUtils.isFileURL(url)) {
+				File file = ResourceUtils.getFile(url);
+				return (file.isDirectory() ? new DirectoryClassPathEntry(file.toPath()) : null);
+			}
+			return null;
+		}
+
+		/**
+		 * Return a checksum that changes whenever the classes of the entry change.
+		 */
+		abstract String checksum() throws IOException;
+
+		/**
+		 * Read the annotation types and supertypes of all classes of the entry.
+		 */
+		abstract Properties index(MetadataReaderFactory metadataReaderFactory) throws IOException;
+
+		static void index(Properties properties, String classFileName, byte[] content,
+				MetadataReaderFactory metadataReaderFactory) {
+
+			if (!classFileName.endsWith(ClassUtils.CLASS_FILE_SUFFIX) ||
+					classFileName.endsWith("module-info.class") || classFileName.endsWith("package-info.class")) {
+				return;
+			}
+			try {
+				MetadataReader metadataReader =
+						metadataReaderFactory.getMetadataReader(new ByteArrayResource(content, classFileName));
+				ClassMetadata classMetadata = metadataReader.getClassMetadata();
+				TypeEntry entry = TypeEntry.of(metadataReader.getAnnotationMetadata());
+				if (!entry.isEmpty()) {
+					properties.put(classMetadata.getClassName(), entry.toString());
+				}
+			}
+			catch (Throwable ex) {
+				// Unreadable class file: ignored by class path scanning as well
+				if (logger.isTraceEnabled()) {
+					logger.trace("Ignoring class file [" + classFileName + "] in index", ex);
+				}
+			}
+		}
+
+		static MessageDigest createDigest() {
+			try {
+				return MessageDigest.getInstance("SHA-256");
+			}
+			catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException("SHA-256 not supported on this platform", ex);
+			}
+		}
+
+		static void update(MessageDigest digest, String value) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+	}
+
+
+	private static class JarClassPathEntry extends ClassPathEntry {
+
+		private final File file;
+
+		JarClassPathEntry(File file) {
+			this.file = file;
+		}
+
+		@Override
+		String checksum() throws IOException {
+			// The central directory holds the CRC-32 of each entry: no need to inflate any
+			MessageDigest digest = createDigest();
+			update(digest, this.file.getAbsolutePath());
+			try (JarFile jarFile = new JarFile(this.file)) {
+				for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+					JarEntry entry = entries.nextElement();
+					update(digest, entry.getName());
+					update(digest, Long.toHexString(entry.getCrc()));
+					update(digest, Long.toHexString(entry.getSize()));
+				}
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		}
+
+		@Override
+		Properties index(MetadataReaderFactory metadataReaderFactory) throws IOException {
+			Properties properties = new Properties();
+			try (JarFile jarFile = new JarFile(this.file)) {
+				for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+					JarEntry entry = entries.nextElement();
+					if (!entry.isDirectory() && !entry.getName().startsWith("META-INF/")) {
+						try (InputStream in = jarFile.getInputStream(entry)) {
+							index(properties, entry.getName(), in.readAllBytes(), metadataReaderFactory);
+						}
+					}
+				}
+			}
+			return properties;
+		}
+	}
+
+
+	private static class DirectoryClassPathEntry extends ClassPathEntry {
+
+		private final Path directory;
+
+		DirectoryClassPathEntry(Path directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		String checksum() throws IOException {
+			List<String> classFiles = new ArrayList<>();
+			Files.walkFileTree(this.directory, new SimpleFileVisitor<>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					if (file.toString().endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+						classFiles.add(directory.relativize(file) + "\0" + attributes.size() + "\0" +
+								attributes.lastModifiedTime().toMillis());
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+			Collections.sort(classFiles);
+			MessageDigest digest = createDigest();
+			update(digest, this.directory.toAbsolutePath().toString());
+			for (String classFile : classFiles) {
+				update(digest, classFile);
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		}
+
+		@Override
+		Properties index(MetadataReaderFactory metadataReaderFactory) throws IOException {
+			Properties properties = new Properties();
+			Files.walkFileTree(this.directory, new SimpleFileVisitor<>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+					if (file.toString().endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+						index(properties, directory.relativize(file).toString(), Files.readAllBytes(file),
+								metadataReaderFactory);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+			return properties;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package org.springframework.context.index;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -32,6 +34,7 @@ import org.springframework.core.io.UrlResource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
 
 /**
  * Candidate components index loading mechanism for internal use within the framework.
@@ -61,9 +64,24 @@ public final class CandidateComponentsIndexLoader {
 	 */
 	public static final String IGNORE_INDEX = "spring.index.ignore";
 
+	/**
+	 * System property that specifies a directory in which to cache an index of
+	 * the class path entries that do not provide a {@value #COMPONENTS_RESOURCE_LOCATION}
+	 * file, so that such entries can be indexed at runtime rather than scanned.
+	 * <p>Each jar file is indexed once per checksum of its entries, and each
+	 * directory once per checksum of its class files. Should any class path entry
+	 * be neither a jar file nor a directory, {@link #loadIndex(ClassLoader)}
+	 * returns {@code null}, falling back to a regular class path scan.
+	 * @since 6.2
+	 */
+	public static final String CACHE_DIRECTORY = "spring.index.cache-directory";
+
 
 	private static final boolean shouldIgnoreIndex = SpringProperties.getFlag(IGNORE_INDEX);
 
+	@Nullable
+	private static final String cacheDirectory = SpringProperties.getProperty(CACHE_DIRECTORY);
+
 	private static final Log logger = LogFactory.getLog(CandidateComponentsIndexLoader.class);
 
 	private static final ConcurrentMap<ClassLoader, CandidateComponentsIndex> cache =
@@ -97,6 +115,9 @@ public final class CandidateComponentsIndexLoader {
 		if (shouldIgnoreIndex) {
 			return null;
 		}
+		if (StringUtils.hasText(cacheDirectory)) {
+			return doLoadCachedIndex(classLoader, Paths.get(cacheDirectory.trim()));
+		}
 
 		try {
 			Enumeration<URL> urls = classLoader.getResources(COMPONENTS_RESOURCE_LOCATION);
@@ -121,4 +142,18 @@ public final class CandidateComponentsIndexLoader {
 		}
 	}
 
+	@Nullable
+	private static CandidateComponentsIndex doLoadCachedIndex(ClassLoader classLoader, Path cacheDirectory) {
+		try {
+			List<Properties> result = new CandidateComponentsIndexCache(cacheDirectory, classLoader).loadIndexes();
+			return (result != null ? new CandidateComponentsIndex(result) : null);
+		}
+		catch (IOException ex) {
+			if (logger.isInfoEnabled()) {
+				logger.info("Unable to index class path in [" + cacheDirectory + "]: falling back to scanning", ex);
+			}
+			return null;
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -132,6 +132,29 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, "example", true, true, true);
 	}
 
+	@Test
+	void defaultsWithParallelScan() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setScanParallelism(4);
+		testDefault(provider, TEST_BASE_PACKAGE, true, true, false);
+	}
+
+	@Test
+	void parallelScanRetainsCandidateOrder() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		List<String> sequential = provider.findCandidateComponents(TEST_BASE_PACKAGE).stream()
+				.map(BeanDefinition::getBeanClassName).toList();
+
+		provider.setScanParallelism(4);
+		List<String> parallel = provider.findCandidateComponents(TEST_BASE_PACKAGE).stream()
+				.map(BeanDefinition::getBeanClassName).toList();
+		assertThat(parallel).isNotEmpty().isEqualTo(sequential);
+	}
+
 	private void testDefault(ClassPathScanningCandidateComponentProvider provider, String basePackage,
 			boolean includeScannedJakartaComponents, boolean includeScannedJavaxComponents, boolean includeIndexedComponents) {
 
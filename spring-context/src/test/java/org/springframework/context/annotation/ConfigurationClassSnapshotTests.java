@@ -0,0 +1,255 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConfigurationClassSnapshot} support in
+ * {@link ConfigurationClassPostProcessor}.
+ */
+class ConfigurationClassSnapshotTests {
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void snapshotIsWrittenAndRestored() {
+		Path snapshotFile = this.tempDir.resolve("config.snapshot");
+
+		try (AnnotationConfigApplicationContext context = createContext(snapshotFile, SnapshotConfig.class)) {
+			assertThat(isRestored(context)).isFalse();
+			assertBeans(context);
+		}
+		assertThat(snapshotFile).isRegularFile();
+
+		try (AnnotationConfigApplicationContext context = createContext(snapshotFile, SnapshotConfig.class)) {
+			assertThat(isRestored(context)).isTrue();
+			assertThat(context.getAliases("greeting")).containsExactly("salutation");
+			assertBeans(context);
+		}
+	}
+
+	@Test
+	void beanMethodDefinitionIsRestored() throws Exception {
+		Path snapshotFile = this.tempDir.resolve("config.snapshot");
+		createContext(snapshotFile, SnapshotConfig.class).close();
+
+		try (AnnotationConfigApplicationContext context = createContext(snapshotFile, SnapshotConfig.class)) {
+			assertThat(isRestored(context)).isTrue();
+			BeanDefinition bd = context.getBeanDefinition("greeting");
+			assertThat(bd).isInstanceOf(AnnotatedBeanDefinition.class);
+			AnnotatedBeanDefinition abd = (AnnotatedBeanDefinition) bd;
+			assertThat(abd.getMetadata().getClassName()).isEqualTo(SnapshotConfig.class.getName());
+			assertThat(abd.getFactoryMethodMetadata()).isNotNull();
+			assertThat(abd.getFactoryMethodMetadata().getMethodName()).isEqualTo("greeting");
+			RootBeanDefinition rbd = (RootBeanDefinition) bd;
+			assertThat(rbd.isFactoryMethod(SnapshotConfig.class.getDeclaredMethod("greeting"))).isTrue();
+			assertThat(rbd.isFactoryMethod(SnapshotConfig.class.getDeclaredMethod("greeting", String.class))).isFalse();
+		}
+	}
+
+	@Test
+	void metadataReaderCacheIsClearedAfterRestore() {
+		Path snapshotFile = this.tempDir.resolve("config.snapshot");
+		createContext(snapshotFile, SnapshotConfig.class).close();
+		ClearCountingMetadataReaderFactory metadataReaderFactory = new ClearCountingMetadataReaderFactory();
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+			context.getBeanDefinition(AnnotationConfigUtils.CONFIGURATION_ANNOTATION_PROCESSOR_BEAN_NAME)
+					.getPropertyValues()
+					.add("snapshotFile", snapshotFile)
+					.add("metadataReaderFactory", metadataReaderFactory);
+			context.register(SnapshotConfig.class);
+			context.refresh();
+			assertThat(isRestored(context)).isTrue();
+			assertThat(metadataReaderFactory.clearCount).isPositive();
+		}
+	}
+
+	@Test
+	void snapshotIsIgnoredForDifferentProfiles() {
+		Path snapshotFile = this.tempDir.resolve("config.snapshot");
+		createContext(snapshotFile, SnapshotConfig.class).close();
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+			context.getEnvironment().setActiveProfiles("other");
+			context.getBeanDefinition(AnnotationConfigUtils.CONFIGURATION_ANNOTATION_PROCESSOR_BEAN_NAME)
+					.getPropertyValues().add("snapshotFile", snapshotFile);
+			context.register(SnapshotConfig.class);
+			context.refresh();
+			assertThat(isRestored(context)).isFalse();
+			assertBeans(context);
+		}
+	}
+
+	@Test
+	void snapshotIsRestoredForDifferentSystemProperty() {
+		Path snapshotFile = this.tempDir.resolve("config.snapshot");
+		try {
+			System.setProperty("snapshot.test", "a");
+			createContext(snapshotFile, SnapshotConfig.class).close();
+			System.setProperty("snapshot.test", "b");
+
+			try (AnnotationConfigApplicationContext context = createContext(snapshotFile, SnapshotConfig.class)) {
+				assertThat(isRestored(context)).isTrue();
+			}
+		}
+		finally {
+			System.clearProperty("snapshot.test");
+		}
+	}
+
+	@Test
+	void snapshotIsIgnoredForDifferentFilteredSystemProperty() {
+		Path snapshotFile = this.tempDir.resolve("config.snapshot");
+		Predicate<String> filter = "snapshot.test"::equals;
+		try {
+			System.setProperty("snapshot.test", "a");
+			createContext(snapshotFile, SnapshotConfig.class, filter).close();
+			System.setProperty("snapshot.test", "b");
+
+			try (AnnotationConfigApplicationContext context = createContext(snapshotFile, SnapshotConfig.class, filter)) {
+				assertThat(isRestored(context)).isFalse();
+				assertBeans(context);
+			}
+		}
+		finally {
+			System.clearProperty("snapshot.test");
+		}
+	}
+
+	@Test
+	void snapshotIsNotWrittenForScopedProxy() {
+		Path snapshotFile = this.tempDir.resolve("config.snapshot");
+		createContext(snapshotFile, ScopedProxyConfig.class).close();
+
+		assertThat(Files.exists(snapshotFile)).isFalse();
+	}
+
+
+	private AnnotationConfigApplicationContext createContext(Path snapshotFile, Class<?> configClass) {
+		return createContext(snapshotFile, configClass, null);
+	}
+
+	private AnnotationConfigApplicationContext createContext(Path snapshotFile, Class<?> configClass,
+			@Nullable Predicate<String> systemPropertyFilter) {
+
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		BeanDefinition processor = context.getBeanDefinition(
+				AnnotationConfigUtils.CONFIGURATION_ANNOTATION_PROCESSOR_BEAN_NAME);
+		processor.getPropertyValues().add("snapshotFile", snapshotFile);
+		if (systemPropertyFilter != null) {
+			processor.getPropertyValues().add("snapshotSystemPropertyFilter", systemPropertyFilter);
+		}
+		context.register(configClass);
+		context.refresh();
+		return context;
+	}
+
+	private boolean isRestored(AnnotationConfigApplicationContext context) {
+		// Imported configuration classes are restored without annotation metadata
+		return !(context.getBeanDefinition(ImportedConfig.class.getName()) instanceof AnnotatedBeanDefinition);
+	}
+
+	private void assertBeans(AnnotationConfigApplicationContext context) {
+		SnapshotConfig config = context.getBean(SnapshotConfig.class);
+		assertThat(config.greeting()).isSameAs(context.getBean("greeting"));
+		assertThat(context.getBean("greeting", Greeting.class).name).isEqualTo("p2TestBean");
+		assertThat(context.getEnvironment().getProperty("from.p2")).isEqualTo("p2Value");
+		ImportedConfig importedConfig = context.getBean(ImportedConfig.class);
+		assertThat(importedConfig.importMetadata).isNotNull();
+		assertThat(importedConfig.importMetadata.getClassName()).isEqualTo(SnapshotConfig.class.getName());
+	}
+
+
+	@Configuration
+	@PropertySource("classpath:org/springframework/context/annotation/p2.properties")
+	@Import(ImportedConfig.class)
+	static class SnapshotConfig {
+
+		@Bean({"greeting", "salutation"})
+		Greeting greeting() {
+			return new Greeting();
+		}
+
+		Greeting greeting(String name) {
+			Greeting greeting = new Greeting();
+			greeting.name = name;
+			return greeting;
+		}
+	}
+
+
+	@Configuration
+	static class ImportedConfig implements ImportAware {
+
+		AnnotationMetadata importMetadata;
+
+		@Override
+		public void setImportMetadata(AnnotationMetadata importMetadata) {
+			this.importMetadata = importMetadata;
+		}
+	}
+
+
+	@Configuration
+	static class ScopedProxyConfig {
+
+		@Bean
+		@Scope(scopeName = "prototype", proxyMode = ScopedProxyMode.TARGET_CLASS)
+		Greeting greeting() {
+			return new Greeting();
+		}
+	}
+
+
+	static class Greeting {
+
+		@Value("${testbean.name}")
+		String name;
+	}
+
+
+	static class ClearCountingMetadataReaderFactory extends CachingMetadataReaderFactory {
+
+		int clearCount;
+
+		@Override
+		public void clearCache() {
+			this.clearCount++;
+			super.clearCache();
+		}
+	}
+
+}
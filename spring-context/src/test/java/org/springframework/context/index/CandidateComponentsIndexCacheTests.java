@@ -0,0 +1,186 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Indexed;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CandidateComponentsIndexCache}.
+ */
+@SuppressWarnings("removal")
+class CandidateComponentsIndexCacheTests {
+
+	private static final String PACKAGE_NAME = CandidateComponentsIndexCacheTests.class.getPackageName();
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void indexJar() throws IOException {
+		Path jar = createJar("sample.jar", SampleService.class, SampleRepository.class,
+				AbstractSampleRepository.class, SampleRepositoryImpl.class, Plain.class);
+		CandidateComponentsIndex index = loadIndex(jarRoot(jar));
+
+		assertThat(index.getCandidateTypes(PACKAGE_NAME, Component.class.getName()))
+				.containsExactly(SampleService.class.getName());
+		assertThat(index.getCandidateTypes(PACKAGE_NAME, SampleRepository.class.getName())).containsExactlyInAnyOrder(
+				AbstractSampleRepository.class.getName(), SampleRepositoryImpl.class.getName());
+		assertThat(index.getCandidateTypes(PACKAGE_NAME, Plain.class.getName())).isEmpty();
+	}
+
+	@Test
+	void indexDirectory() throws IOException {
+		Path directory = this.tempDir.resolve("classes");
+		copyClass(directory, SampleService.class);
+		CandidateComponentsIndex index = loadIndex(directoryRoot(directory));
+
+		assertThat(index.getCandidateTypes(PACKAGE_NAME, Service.class.getName()))
+				.containsExactly(SampleService.class.getName());
+	}
+
+	@Test
+	void indexIsCachedPerChecksum() throws IOException {
+		Path jar = createJar("sample.jar", SampleService.class);
+		loadIndex(jarRoot(jar));
+		assertThat(cacheFiles()).hasSize(1);
+		loadIndex(jarRoot(jar));
+		assertThat(cacheFiles()).hasSize(1);
+
+		createJar("sample.jar", SampleService.class, SampleRepository.class,
+				AbstractSampleRepository.class, SampleRepositoryImpl.class);
+		CandidateComponentsIndex index = loadIndex(jarRoot(jar));
+		assertThat(cacheFiles()).hasSize(2);
+		assertThat(index.getCandidateTypes(PACKAGE_NAME, SampleRepository.class.getName())).containsExactlyInAnyOrder(
+				AbstractSampleRepository.class.getName(), SampleRepositoryImpl.class.getName());
+	}
+
+	@Test
+	void componentsResourceTakesPrecedence() throws IOException {
+		Path directory = this.tempDir.resolve("classes");
+		copyClass(directory, SampleService.class);
+		Path componentsFile = directory.resolve(CandidateComponentsIndexLoader.COMPONENTS_RESOURCE_LOCATION);
+		Files.createDirectories(componentsFile.getParent());
+		Files.writeString(componentsFile, Plain.class.getName() + "=foo\n");
+		CandidateComponentsIndex index = loadIndex(directoryRoot(directory));
+
+		assertThat(index.getCandidateTypes(PACKAGE_NAME, "foo")).containsExactly(Plain.class.getName());
+		assertThat(index.getCandidateTypes(PACKAGE_NAME, Component.class.getName())).isEmpty();
+		assertThat(cacheFiles()).isEmpty();
+	}
+
+
+	private CandidateComponentsIndex loadIndex(Resource root) throws IOException {
+		CandidateComponentsIndexCache cache =
+				new CandidateComponentsIndexCache(this.tempDir.resolve("cache"), getClass().getClassLoader());
+		List<Properties> indexes = cache.loadIndexes(List.of(root));
+		assertThat(indexes).isNotNull();
+		return new CandidateComponentsIndex(indexes);
+	}
+
+	private List<Path> cacheFiles() throws IOException {
+		Path cacheDirectory = this.tempDir.resolve("cache");
+		if (!Files.isDirectory(cacheDirectory)) {
+			return List.of();
+		}
+		try (var files = Files.list(cacheDirectory)) {
+			return files.toList();
+		}
+	}
+
+	private Resource directoryRoot(Path directory) {
+		return new FileSystemResource(directory + "/");
+	}
+
+	private Resource jarRoot(Path jar) throws IOException {
+		return new UrlResource("jar:" + jar.toUri() + "!/");
+	}
+
+	private Path createJar(String name, Class<?>... classes) throws IOException {
+		Path jar = this.tempDir.resolve(name);
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+			for (Class<?> clazz : classes) {
+				out.putNextEntry(new JarEntry(ClassUtils.convertClassNameToResourcePath(clazz.getName()) +
+						ClassUtils.CLASS_FILE_SUFFIX));
+				try (InputStream in = openClassFile(clazz)) {
+					in.transferTo(out);
+				}
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+	private void copyClass(Path directory, Class<?> clazz) throws IOException {
+		Path file = directory.resolve(ClassUtils.convertClassNameToResourcePath(clazz.getName()) +
+				ClassUtils.CLASS_FILE_SUFFIX);
+		Files.createDirectories(file.getParent());
+		try (InputStream in = openClassFile(clazz); OutputStream out = Files.newOutputStream(file)) {
+			in.transferTo(out);
+		}
+	}
+
+	private InputStream openClassFile(Class<?> clazz) {
+		InputStream in = clazz.getResourceAsStream(ClassUtils.getClassFileName(clazz));
+		assertThat(in).isNotNull();
+		return in;
+	}
+
+
+	@Service
+	static class SampleService {
+	}
+
+
+	@Indexed
+	interface SampleRepository {
+	}
+
+
+	abstract static class AbstractSampleRepository implements SampleRepository {
+	}
+
+
+	static class SampleRepositoryImpl extends AbstractSampleRepository {
+	}
+
+
+	static class Plain {
+	}
+
+}
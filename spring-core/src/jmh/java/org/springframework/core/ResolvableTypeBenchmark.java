@@ -0,0 +1,102 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for generic type resolution and matching through {@link ResolvableType},
+ * as performed for by-type lookups and injection point matching.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ResolvableTypeBenchmark {
+
+	@Benchmark
+	public Class<?> forClassAsCollection() {
+		return ResolvableType.forClass(StringList.class).asCollection().resolveGeneric();
+	}
+
+	@Benchmark
+	public boolean isAssignableFromClass(BenchmarkState state) {
+		return state.listOfStrings.isAssignableFrom(StringList.class);
+	}
+
+	@Benchmark
+	public boolean isAssignableFromGenericType(BenchmarkState state) {
+		return state.collectionOfCharSequences.isAssignableFrom(state.stringList);
+	}
+
+	@Benchmark
+	public boolean isAssignableFromNestedGenericType(BenchmarkState state) {
+		return state.mapOfLists.isAssignableFrom(state.stringListMap);
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		ResolvableType listOfStrings;
+
+		ResolvableType collectionOfCharSequences;
+
+		ResolvableType stringList;
+
+		ResolvableType mapOfLists;
+
+		ResolvableType stringListMap;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.listOfStrings = ResolvableType.forField(Fields.class.getDeclaredField("listOfStrings"));
+			this.collectionOfCharSequences = ResolvableType.forField(
+					Fields.class.getDeclaredField("collectionOfCharSequences"));
+			this.stringList = ResolvableType.forClass(StringList.class);
+			this.mapOfLists = ResolvableType.forField(Fields.class.getDeclaredField("mapOfLists"));
+			this.stringListMap = ResolvableType.forField(Fields.class.getDeclaredField("stringListMap"));
+		}
+	}
+
+
+	@SuppressWarnings("unused")
+	static class Fields {
+
+		List<String> listOfStrings;
+
+		Collection<? extends CharSequence> collectionOfCharSequences;
+
+		Map<String, ? extends List<? extends CharSequence>> mapOfLists;
+
+		Map<String, StringList> stringListMap;
+	}
+
+
+	@SuppressWarnings("serial")
+	static class StringList extends ArrayList<String> {
+	}
+
+}
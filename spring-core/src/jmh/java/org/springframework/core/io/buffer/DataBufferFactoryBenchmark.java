@@ -0,0 +1,84 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for allocating, writing and releasing buffers with the
+ * {@link DataBufferFactory} implementations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Threads(4)
+public class DataBufferFactoryBenchmark {
+
+	@Benchmark
+	public void allocateWriteRelease(BufferState state, Blackhole blackhole) {
+		DataBuffer buffer = state.bufferFactory.allocateBuffer(state.size);
+		buffer.write(state.content);
+		blackhole.consume(buffer.read());
+		DataBufferUtils.release(buffer);
+	}
+
+
+	@State(Scope.Benchmark)
+	@SuppressWarnings({"NotNullFieldNotInitialized", "ConstantConditions"})
+	public static class BufferState {
+
+		@Param({"default", "pooled", "pooled-thread-local", "netty-pooled"})
+		String factory;
+
+		@Param({"512", "8192", "65536"})
+		int size;
+
+		@Param({"false", "true"})
+		boolean direct;
+
+		DataBufferFactory bufferFactory;
+
+		byte[] content;
+
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.bufferFactory = switch (this.factory) {
+				case "default" -> new DefaultDataBufferFactory(this.direct);
+				case "pooled" -> new PooledDataBufferFactory(this.direct, PooledDataBufferFactory.DEFAULT_MAX_POOLED_MEMORY);
+				case "pooled-thread-local" -> {
+					PooledDataBufferFactory bufferFactory =
+							new PooledDataBufferFactory(this.direct, PooledDataBufferFactory.DEFAULT_MAX_POOLED_MEMORY);
+					bufferFactory.setThreadLocalCacheSize(8);
+					yield bufferFactory;
+				}
+				case "netty-pooled" -> new NettyDataBufferFactory(new PooledByteBufAllocator(this.direct));
+				default -> throw new IllegalArgumentException("Unknown factory: " + this.factory);
+			};
+			this.content = new byte[this.size];
+		}
+	}
+
+}
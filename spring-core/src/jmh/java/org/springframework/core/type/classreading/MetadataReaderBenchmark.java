@@ -0,0 +1,122 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Benchmarks for reading and caching class metadata through
+ * {@link CachingMetadataReaderFactory}, over a synthetic classpath of
+ * annotated classes with common super types, interfaces and method signatures.
+ * <p>Run with {@code -prof gc} to compare the memory allocated for the
+ * metadata of all classes, which is retained by the cache during startup.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+public class MetadataReaderBenchmark {
+
+	@Benchmark
+	public List<MetadataReader> readAll(BenchmarkData data) throws IOException {
+		CachingMetadataReaderFactory factory = new CachingMetadataReaderFactory();
+		factory.setSoftReferenceCache(data.softReferenceCache);
+		List<MetadataReader> readers = new ArrayList<>(data.resources.size());
+		for (Resource resource : data.resources) {
+			readers.add(factory.getMetadataReader(resource));
+		}
+		return readers;
+	}
+
+	@Benchmark
+	public int readAllAndQueryAnnotations(BenchmarkData data) throws IOException {
+		CachingMetadataReaderFactory factory = new CachingMetadataReaderFactory();
+		factory.setSoftReferenceCache(data.softReferenceCache);
+		int count = 0;
+		for (Resource resource : data.resources) {
+			MetadataReader reader = factory.getMetadataReader(resource);
+			if (reader.getAnnotationMetadata().hasAnnotation(Order.class.getName())) {
+				count += reader.getAnnotationMetadata().getAnnotatedMethods(Order.class.getName()).size();
+			}
+		}
+		return count;
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"10000"})
+		public int classCount;
+
+		@Param({"10"})
+		public int methodCount;
+
+		@Param({"false", "true"})
+		public boolean softReferenceCache;
+
+		public List<Resource> resources;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.resources = new ArrayList<>(this.classCount);
+			for (int i = 0; i < this.classCount; i++) {
+				this.resources.add(new ByteArrayResource(generateClass(i), "synthetic class " + i));
+			}
+		}
+
+		private byte[] generateClass(int index) {
+			ClassWriter writer = new ClassWriter(0);
+			writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC, "com/example/generated/Component" + index, null,
+					"java/lang/Object", new String[] {"java/io/Serializable", "java/lang/Runnable"});
+			addOrderAnnotation(writer.visitAnnotation(Type.getDescriptor(Order.class), true), index);
+			for (int i = 0; i < this.methodCount; i++) {
+				MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT,
+						"method" + i, "(Ljava/lang/String;)Ljava/lang/String;", null, null);
+				if (i % 3 == 0) {
+					addOrderAnnotation(method.visitAnnotation(Type.getDescriptor(Order.class), true), i);
+				}
+				method.visitEnd();
+			}
+			writer.visitEnd();
+			return writer.toByteArray();
+		}
+
+		private void addOrderAnnotation(AnnotationVisitor annotation, int value) {
+			annotation.visit("value", value);
+			annotation.visitEnd();
+		}
+	}
+
+}
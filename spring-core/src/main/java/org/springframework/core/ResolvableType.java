@@ -97,6 +97,9 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	private static final ConcurrentReferenceHashMap<Class<?>, ResolvableType> classCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -128,16 +131,25 @@ public class ResolvableType implements Serializable {
 	private Class<?> resolved;
 
 	@Nullable
-	private volatile ResolvableType superType;
+	private transient volatile ResolvableType superType;
+
+	@Nullable
+	private transient volatile ResolvableType[] interfaces;
 
 	@Nullable
-	private volatile ResolvableType[] interfaces;
+	private transient volatile ResolvableType[] generics;
 
 	@Nullable
-	private volatile ResolvableType[] generics;
+	private transient volatile Boolean unresolvableGenerics;
 
 	@Nullable
-	private volatile Boolean unresolvableGenerics;
+	private transient volatile Boolean unresolvableTypeVariable;
+
+	@Nullable
+	private transient volatile ResolvableType resolvedType;
+
+	@Nullable
+	private transient volatile AsType lastAsType;
 
 
 	/**
@@ -496,6 +508,19 @@ public class ResolvableType implements Serializable {
 		if (resolved == null || resolved == type) {
 			return this;
 		}
+		AsType lastAsType = this.lastAsType;
+		if (lastAsType != null && lastAsType.type() == type) {
+			return lastAsType.result();
+		}
+		ResolvableType result = resolveAs(type);
+		if (result != NONE) {
+			// Memoize the latest successful lookup, not holding on to unrelated classes
+			this.lastAsType = new AsType(type, result);
+		}
+		return result;
+	}
+
+	private ResolvableType resolveAs(Class<?> type) {
 		for (ResolvableType interfaceType : getInterfaces()) {
 			ResolvableType interfaceAsType = interfaceType.as(type);
 			if (interfaceAsType != NONE) {
@@ -658,6 +683,15 @@ public class ResolvableType implements Serializable {
 	 * cannot be resolved through the associated variable resolver.
 	 */
 	private boolean isUnresolvableTypeVariable() {
+		Boolean unresolvableTypeVariable = this.unresolvableTypeVariable;
+		if (unresolvableTypeVariable == null) {
+			unresolvableTypeVariable = determineUnresolvableTypeVariable();
+			this.unresolvableTypeVariable = unresolvableTypeVariable;
+		}
+		return unresolvableTypeVariable;
+	}
+
+	private boolean determineUnresolvableTypeVariable() {
 		if (this.type instanceof TypeVariable<?> variable) {
 			if (this.variableResolver == null) {
 				return true;
@@ -912,6 +946,15 @@ public class ResolvableType implements Serializable {
 	 * as it cannot be serialized.
 	 */
 	ResolvableType resolveType() {
+		ResolvableType resolvedType = this.resolvedType;
+		if (resolvedType == null) {
+			resolvedType = doResolveType();
+			this.resolvedType = resolvedType;
+		}
+		return resolvedType;
+	}
+
+	private ResolvableType doResolveType() {
 		if (this.type instanceof ParameterizedType parameterizedType) {
 			return forType(parameterizedType.getRawType(), this.variableResolver);
 		}
@@ -1092,6 +1135,8 @@ public class ResolvableType implements Serializable {
 	 * Return a {@code ResolvableType} for the specified {@link Class},
 	 * using the full generic type information for assignability checks.
 	 * <p>For example: {@code ResolvableType.forClass(MyArrayList.class)}.
+	 * <p>As of 6.2, the returned instance is shared for the given class, retaining
+	 * its resolved supertypes, interfaces and generics for subsequent calls.
 	 * @param clazz the class to introspect ({@code null} is semantically
 	 * equivalent to {@code Object.class} for typical use cases here)
 	 * @return a {@code ResolvableType} for the specified class
@@ -1099,7 +1144,16 @@ public class ResolvableType implements Serializable {
 	 * @see #forClassWithGenerics(Class, Class...)
 	 */
 	public static ResolvableType forClass(@Nullable Class<?> clazz) {
-		return new ResolvableType(clazz);
+		Class<?> classToUse = (clazz != null ? clazz : Object.class);
+		ResolvableType resolvableType = classCache.get(classToUse);
+		if (resolvableType == null) {
+			resolvableType = new ResolvableType(classToUse);
+			ResolvableType existing = classCache.putIfAbsent(classToUse, resolvableType);
+			if (existing != null) {
+				resolvableType = existing;
+			}
+		}
+		return resolvableType;
 	}
 
 	/**
@@ -1518,8 +1572,10 @@ public class ResolvableType implements Serializable {
 
 		// For simple Class references, build the wrapper right away -
 		// no expensive resolution necessary, so not worth caching...
-		if (type instanceof Class) {
-			return new ResolvableType(type, null, typeProvider, variableResolver);
+		// unless there is no provider or resolver, sharing the plain Class wrapper then.
+		if (type instanceof Class<?> clazz) {
+			return (typeProvider == null && variableResolver == null ? forClass(clazz) :
+					new ResolvableType(type, null, typeProvider, variableResolver));
 		}
 
 		// Purge empty entries on access since we don't have a clean-up thread or the like.
@@ -1542,6 +1598,7 @@ public class ResolvableType implements Serializable {
 	 */
 	public static void clearCache() {
 		cache.clear();
+		classCache.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
@@ -1773,7 +1830,8 @@ public class ResolvableType implements Serializable {
 		@Nullable
 		public static WildcardBounds get(ResolvableType type) {
 			ResolvableType candidate = type;
-			while (!(candidate.getType() instanceof WildcardType || candidate.isUnresolvableTypeVariable())) {
+			// Checking the raw type: a serializable type proxy implements the same Type interface
+			while (!(candidate.type instanceof WildcardType || candidate.isUnresolvableTypeVariable())) {
 				if (candidate == NONE) {
 					return null;
 				}
@@ -1803,6 +1861,13 @@ public class ResolvableType implements Serializable {
 	}
 
 
+	/**
+	 * Memoized result of an {@link #as(Class)} lookup.
+	 */
+	private record AsType(Class<?> type, ResolvableType result) {
+	}
+
+
 	/**
 	 * Internal {@link Type} used to represent an empty value.
 	 */
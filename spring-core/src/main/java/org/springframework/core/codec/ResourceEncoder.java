@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.MappedFileCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
@@ -46,6 +47,9 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 
 	private final int bufferSize;
 
+	@Nullable
+	private MappedFileCache mappedFileCache;
+
 
 	public ResourceEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -58,6 +62,27 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	}
 
 
+	/**
+	 * Set a {@link MappedFileCache} to read file-based resources through
+	 * memory-mapped regions, rather than through
+	 * {@link DataBufferUtils#read(Resource, DataBufferFactory, int)}.
+	 * <p>By default, this is not set.
+	 * @since 6.2
+	 */
+	public void setMappedFileCache(@Nullable MappedFileCache mappedFileCache) {
+		this.mappedFileCache = mappedFileCache;
+	}
+
+	/**
+	 * Return the configured {@link MappedFileCache}, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public MappedFileCache getMappedFileCache() {
+		return this.mappedFileCache;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		Class<?> clazz = elementType.toClass();
@@ -72,6 +97,9 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 			String logPrefix = Hints.getLogPrefix(hints);
 			logger.debug(logPrefix + "Writing [" + resource + "]");
 		}
+		if (this.mappedFileCache != null) {
+			return this.mappedFileCache.read(resource, 0, bufferFactory, this.bufferSize);
+		}
 		return DataBufferUtils.read(resource, bufferFactory, this.bufferSize);
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.MappedFileCache;
 import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -58,6 +59,9 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 
 	private final int bufferSize;
 
+	@Nullable
+	private MappedFileCache mappedFileCache;
+
 
 	public ResourceRegionEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -69,6 +73,27 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 		this.bufferSize = bufferSize;
 	}
 
+
+	/**
+	 * Set a {@link MappedFileCache} to read regions of file-based resources
+	 * through memory-mapped regions, rather than through
+	 * {@link DataBufferUtils#read(Resource, long, DataBufferFactory, int)}.
+	 * <p>By default, this is not set.
+	 * @since 6.2
+	 */
+	public void setMappedFileCache(@Nullable MappedFileCache mappedFileCache) {
+		this.mappedFileCache = mappedFileCache;
+	}
+
+	/**
+	 * Return the configured {@link MappedFileCache}, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public MappedFileCache getMappedFileCache() {
+		return this.mappedFileCache;
+	}
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		return super.canEncode(elementType, mimeType)
@@ -129,7 +154,9 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 					"Writing region " + position + "-" + (position + count) + " of [" + resource + "]");
 		}
 
-		Flux<DataBuffer> in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
+		Flux<DataBuffer> in = (this.mappedFileCache != null ?
+				this.mappedFileCache.read(resource, position, bufferFactory, this.bufferSize) :
+				DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize));
 		if (logger.isDebugEnabled()) {
 			in = in.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
 		}
@@ -25,15 +25,22 @@ import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -1130,12 +1137,38 @@ public abstract class DataBufferUtils {
 	}
 
 
+	/**
+	 * Subscriber that writes to a {@link WritableByteChannel}. Buffers received
+	 * while a write is in progress, or in response to a request made by this
+	 * subscriber, are written together, with a single gathering write if the
+	 * channel is a {@link GatheringByteChannel}. Up to
+	 * {@link #MAX_GATHERING_REQUEST} buffers are requested at a time, bounded by
+	 * the demand of the downstream subscriber.
+	 */
 	private static class WritableByteChannelSubscriber extends BaseSubscriber<DataBuffer> {
 
+		private static final int MAX_GATHERING_REQUEST = 16;
+
 		private final FluxSink<DataBuffer> sink;
 
 		private final WritableByteChannel channel;
 
+		private final Queue<DataBuffer> queue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean done;
+
+		@Nullable
+		private volatile Throwable error;
+
+		private volatile boolean cancelled;
+
+		// Accessed only from drain()
+		private long outstanding;
+
+		private boolean terminated;
+
 		public WritableByteChannelSubscriber(FluxSink<DataBuffer> sink, WritableByteChannel channel) {
 			this.sink = sink;
 			this.channel = channel;
@@ -1143,35 +1176,135 @@ public abstract class DataBufferUtils {
 
 		@Override
 		protected void hookOnSubscribe(Subscription subscription) {
-			request(1);
+			drain();
 		}
 
 		@Override
 		protected void hookOnNext(DataBuffer dataBuffer) {
-			try {
-				try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
-					ByteBuffer byteBuffer = iterator.next();
-					while (byteBuffer.hasRemaining()) {
-						this.channel.write(byteBuffer);
-					}
-				}
-				this.sink.next(dataBuffer);
-				request(1);
-			}
-			catch (IOException ex) {
-				this.sink.next(dataBuffer);
-				this.sink.error(ex);
-			}
+			this.queue.offer(dataBuffer);
+			drain();
 		}
 
 		@Override
 		protected void hookOnError(Throwable throwable) {
-			this.sink.error(throwable);
+			this.error = throwable;
+			this.done = true;
+			drain();
 		}
 
 		@Override
 		protected void hookOnComplete() {
-			this.sink.complete();
+			this.done = true;
+			drain();
+		}
+
+		@Override
+		protected void hookOnCancel() {
+			this.cancelled = true;
+			drain();
+		}
+
+		private void drain() {
+			if (this.wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				for (;;) {
+					if (this.terminated || this.cancelled) {
+						DataBuffer dataBuffer;
+						while ((dataBuffer = this.queue.poll()) != null) {
+							release(dataBuffer);
+						}
+						break;
+					}
+					if (this.outstanding == 0 && !this.done) {
+						// Buffers emitted synchronously by this request are queued, and written below
+						this.outstanding = getRequestSize();
+						request(this.outstanding);
+					}
+					List<DataBuffer> dataBuffers = pollAll();
+					if (dataBuffers.isEmpty()) {
+						if (this.done) {
+							this.terminated = true;
+							Throwable throwable = this.error;
+							if (throwable != null) {
+								this.sink.error(throwable);
+							}
+							else {
+								this.sink.complete();
+							}
+						}
+						break;
+					}
+					this.outstanding -= dataBuffers.size();
+					try {
+						write(dataBuffers);
+						dataBuffers.forEach(this.sink::next);
+					}
+					catch (IOException ex) {
+						this.terminated = true;
+						dataBuffers.forEach(this.sink::next);
+						this.sink.error(ex);
+					}
+				}
+				missed = this.wip.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+
+		private long getRequestSize() {
+			if (!(this.channel instanceof GatheringByteChannel)) {
+				return 1;
+			}
+			long demand = this.sink.requestedFromDownstream();
+			return Math.max(1, Math.min(demand, MAX_GATHERING_REQUEST));
+		}
+
+		private List<DataBuffer> pollAll() {
+			DataBuffer dataBuffer = this.queue.poll();
+			if (dataBuffer == null) {
+				return Collections.emptyList();
+			}
+			List<DataBuffer> dataBuffers = new ArrayList<>();
+			do {
+				dataBuffers.add(dataBuffer);
+			}
+			while ((dataBuffer = this.queue.poll()) != null);
+			return dataBuffers;
+		}
+
+		private void write(List<DataBuffer> dataBuffers) throws IOException {
+			List<DataBuffer.ByteBufferIterator> iterators = new ArrayList<>(dataBuffers.size());
+			try {
+				List<ByteBuffer> byteBuffers = new ArrayList<>(dataBuffers.size());
+				long remaining = 0;
+				for (DataBuffer dataBuffer : dataBuffers) {
+					DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers();
+					iterators.add(iterator);
+					while (iterator.hasNext()) {
+						ByteBuffer byteBuffer = iterator.next();
+						byteBuffers.add(byteBuffer);
+						remaining += byteBuffer.remaining();
+					}
+				}
+				if (this.channel instanceof GatheringByteChannel gatheringChannel && byteBuffers.size() > 1) {
+					ByteBuffer[] array = byteBuffers.toArray(new ByteBuffer[0]);
+					while (remaining > 0) {
+						remaining -= gatheringChannel.write(array);
+					}
+				}
+				else {
+					for (ByteBuffer byteBuffer : byteBuffers) {
+						while (byteBuffer.hasRemaining()) {
+							this.channel.write(byteBuffer);
+						}
+					}
+				}
+			}
+			finally {
+				iterators.forEach(DataBuffer.ByteBufferIterator::close);
+			}
 		}
 
 		@Override
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Reads file-based {@link Resource Resources} through read-only memory-mapped
+ * regions, and keeps those regions in a size-bounded, least-recently-used cache.
+ * The data buffers emitted by {@link #read} {@linkplain DataBufferFactory#wrap(ByteBuffer)
+ * wrap} slices of the mapped region, so large files that are served repeatedly
+ * are neither copied nor allocated per request.
+ *
+ * <p>Resources that are not {@linkplain Resource#isFile() files}, as well as
+ * files outside the configured {@linkplain #setMinFileSize minimum} and
+ * {@linkplain #setMaxFileSize maximum} size, are read through
+ * {@link DataBufferUtils#read(Resource, long, DataBufferFactory, int)} instead.
+ *
+ * <p>A cached region is remapped when the size or the last-modified time of
+ * the file changes, but files must not be truncated or modified in place while
+ * their region is mapped. This cache is therefore meant for static content.
+ *
+ * <p>Evicted regions are no longer referenced by the cache, and are unmapped
+ * by the JVM once the buffers that were read from them have been garbage
+ * collected, since there is no public API to unmap a {@link MappedByteBuffer}.
+ *
+ * @since 6.2
+ * @see DataBufferUtils#read(Resource, long, DataBufferFactory, int)
+ */
+public class MappedFileCache {
+
+	/**
+	 * The default minimum size of files to map: 64 KB.
+	 */
+	public static final long DEFAULT_MIN_FILE_SIZE = 64 * 1024;
+
+
+	private final long maxMappedBytes;
+
+	private long minFileSize = DEFAULT_MIN_FILE_SIZE;
+
+	private long maxFileSize;
+
+	private final LinkedHashMap<Path, MappedFile> mappedFiles = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long mappedBytes;
+
+
+	/**
+	 * Create a new {@code MappedFileCache}.
+	 * @param maxMappedBytes the maximum number of bytes that are mapped by
+	 * the cache at any one time
+	 */
+	public MappedFileCache(long maxMappedBytes) {
+		Assert.isTrue(maxMappedBytes > 0, "'maxMappedBytes' must be larger than 0");
+		this.maxMappedBytes = maxMappedBytes;
+		this.maxFileSize = Math.min(maxMappedBytes, Integer.MAX_VALUE);
+	}
+
+
+	/**
+	 * Set the minimum size of files to map. Smaller files are read through
+	 * {@link DataBufferUtils#read}, which is cheaper for them than a mapping.
+	 * <p>By default, this is {@value #DEFAULT_MIN_FILE_SIZE}.
+	 */
+	public void setMinFileSize(long minFileSize) {
+		Assert.isTrue(minFileSize >= 0, "'minFileSize' must not be negative");
+		this.minFileSize = minFileSize;
+	}
+
+	/**
+	 * Return the configured minimum size of files to map.
+	 */
+	public long getMinFileSize() {
+		return this.minFileSize;
+	}
+
+	/**
+	 * Set the maximum size of files to map. Larger files are read through
+	 * {@link DataBufferUtils#read}.
+	 * <p>By default, this is the maximum number of mapped bytes, capped at
+	 * {@link Integer#MAX_VALUE}, which is the largest region that can be mapped.
+	 */
+	public void setMaxFileSize(long maxFileSize) {
+		Assert.isTrue(maxFileSize > 0, "'maxFileSize' must be larger than 0");
+		this.maxFileSize = Math.min(Math.min(maxFileSize, this.maxMappedBytes), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return the configured maximum size of files to map.
+	 */
+	public long getMaxFileSize() {
+		return this.maxFileSize;
+	}
+
+	/**
+	 * Return the maximum number of bytes that are mapped by this cache.
+	 */
+	public long getMaxMappedBytes() {
+		return this.maxMappedBytes;
+	}
+
+	/**
+	 * Return the number of bytes that are currently mapped by this cache.
+	 */
+	public long getMappedBytes() {
+		synchronized (this.mappedFiles) {
+			return this.mappedBytes;
+		}
+	}
+
+
+	/**
+	 * Read the given {@code Resource} into a {@code Flux} of {@code DataBuffer}s,
+	 * starting at the given position, through a cached memory-mapped region if
+	 * the resource is a file within the configured size limits.
+	 * @param resource the resource to read from
+	 * @param position the position to start reading from
+	 * @param bufferFactory the factory to wrap the mapped region with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers read from the given resource
+	 * @see DataBufferUtils#read(Resource, long, DataBufferFactory, int)
+	 */
+	public Flux<DataBuffer> read(Resource resource, long position, DataBufferFactory bufferFactory, int bufferSize) {
+		Assert.notNull(resource, "Resource must not be null");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be > 0");
+
+		return Flux.defer(() -> {
+			ByteBuffer region = getMappedRegion(resource);
+			if (region == null) {
+				return DataBufferUtils.read(resource, position, bufferFactory, bufferSize);
+			}
+			int capacity = region.capacity();
+			int start = (int) Math.min(position, capacity);
+			return Flux.<DataBuffer, Integer>generate(() -> start, (offset, sink) -> {
+				if (offset >= capacity) {
+					sink.complete();
+					return offset;
+				}
+				int length = Math.min(bufferSize, capacity - offset);
+				sink.next(bufferFactory.wrap(region.slice(offset, length)));
+				return offset + length;
+			});
+		});
+	}
+
+	/**
+	 * Remove all regions from this cache.
+	 */
+	public void clear() {
+		synchronized (this.mappedFiles) {
+			this.mappedFiles.clear();
+			this.mappedBytes = 0;
+		}
+	}
+
+	@Nullable
+	private ByteBuffer getMappedRegion(Resource resource) {
+		if (!resource.isFile()) {
+			return null;
+		}
+		Path path;
+		BasicFileAttributes attributes;
+		try {
+			path = resource.getFile().toPath();
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		}
+		catch (IOException ex) {
+			// Let DataBufferUtils report the failure, if any
+			return null;
+		}
+		long size = attributes.size();
+		if (!attributes.isRegularFile() || size < this.minFileSize || size > this.maxFileSize) {
+			return null;
+		}
+
+		FileTime lastModified = attributes.lastModifiedTime();
+		synchronized (this.mappedFiles) {
+			MappedFile mappedFile = this.mappedFiles.get(path);
+			if (mappedFile != null && mappedFile.matches(size, lastModified)) {
+				return mappedFile.region();
+			}
+		}
+
+		MappedByteBuffer region;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			region = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		catch (IOException ex) {
+			return null;
+		}
+
+		synchronized (this.mappedFiles) {
+			MappedFile previous = this.mappedFiles.put(path, new MappedFile(region, size, lastModified));
+			if (previous != null) {
+				this.mappedBytes -= previous.size();
+			}
+			this.mappedBytes += size;
+			Iterator<Map.Entry<Path, MappedFile>> iterator = this.mappedFiles.entrySet().iterator();
+			while (this.mappedBytes > this.maxMappedBytes && iterator.hasNext()) {
+				MappedFile eldest = iterator.next().getValue();
+				if (eldest.region() != region) {
+					iterator.remove();
+					this.mappedBytes -= eldest.size();
+				}
+			}
+		}
+		return region;
+	}
+
+
+	private record MappedFile(MappedByteBuffer region, long size, FileTime lastModified) {
+
+		boolean matches(long size, FileTime lastModified) {
+			return (this.size == size && this.lastModified.equals(lastModified));
+		}
+	}
+
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DataBufferFactory} that recycles the {@link ByteBuffer ByteBuffers}
+ * backing its buffers, for runtimes without a pooled allocator of their own,
+ * such as the Servlet-based reactive adapters. Buffers created by this factory
+ * are {@link PooledDataBuffer PooledDataBuffers}, and must be
+ * {@linkplain DataBufferUtils#release(DataBuffer) released} for their memory
+ * to be reused.
+ *
+ * <p>Buffers are allocated in power-of-two size classes from 256 bytes up to
+ * 64 KB; larger buffers, as well as buffers that grow beyond their initial
+ * capacity, are not pooled. Released buffers are kept in a shared pool that
+ * is bounded by the {@linkplain #PooledDataBufferFactory(boolean, long) maximum
+ * pooled memory}, and optionally in small
+ * {@linkplain #setThreadLocalCacheSize(int) per-thread caches}.
+ *
+ * <p>{@linkplain #setLeakDetection(boolean) Leak detection} logs buffers
+ * that are garbage collected without having been released, along with where
+ * they were allocated. It is expensive, and intended for tests.
+ *
+ * @since 6.2
+ * @see DefaultDataBufferFactory
+ */
+public class PooledDataBufferFactory implements DataBufferFactory {
+
+	/**
+	 * The default maximum amount of memory kept in the shared pool.
+	 * @see #PooledDataBufferFactory(boolean, long)
+	 */
+	public static final long DEFAULT_MAX_POOLED_MEMORY = 16 * 1024 * 1024;
+
+	private static final int MIN_POOLED_CAPACITY = 256;
+
+	private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+	private static final int SIZE_CLASS_COUNT =
+			Integer.numberOfTrailingZeros(MAX_POOLED_CAPACITY / MIN_POOLED_CAPACITY) + 1;
+
+	private static final Log logger = LogFactory.getLog(PooledDataBufferFactory.class);
+
+
+	private final boolean preferDirect;
+
+	private final long maxPooledMemory;
+
+	private final DefaultDataBufferFactory delegateFactory;
+
+	private final List<Queue<ByteBuffer>> pools;
+
+	private final AtomicLong pooledMemory = new AtomicLong();
+
+	private final LongAdder allocatedBuffers = new LongAdder();
+
+	@Nullable
+	private volatile ThreadLocal<ThreadCache> threadCache;
+
+	private volatile boolean leakDetection;
+
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} for heap buffers,
+	 * with a {@linkplain #DEFAULT_MAX_POOLED_MEMORY default maximum} of pooled memory.
+	 */
+	public PooledDataBufferFactory() {
+		this(false, DEFAULT_MAX_POOLED_MEMORY);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param maxPooledMemory the maximum number of bytes kept in the shared pool
+	 */
+	public PooledDataBufferFactory(boolean preferDirect, long maxPooledMemory) {
+		Assert.isTrue(maxPooledMemory >= 0, "'maxPooledMemory' must not be negative");
+		this.preferDirect = preferDirect;
+		this.maxPooledMemory = maxPooledMemory;
+		this.delegateFactory = new DefaultDataBufferFactory(preferDirect);
+		List<Queue<ByteBuffer>> pools = new ArrayList<>(SIZE_CLASS_COUNT);
+		for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+			pools.add(new ConcurrentLinkedQueue<>());
+		}
+		this.pools = pools;
+	}
+
+
+	/**
+	 * Set the number of released buffers of each size class that each thread
+	 * keeps for its own use, in addition to the shared pool. This avoids
+	 * contention when buffers are allocated and released on the same threads,
+	 * such as event loop threads, but increases the memory that is retained
+	 * per thread.
+	 * <p>By default, this is set to 0, meaning that there is no thread-local cache.
+	 * This should be configured before the factory is used.
+	 */
+	public void setThreadLocalCacheSize(int threadLocalCacheSize) {
+		Assert.isTrue(threadLocalCacheSize >= 0, "'threadLocalCacheSize' must not be negative");
+		this.threadCache = (threadLocalCacheSize > 0 ?
+				ThreadLocal.withInitial(() -> new ThreadCache(threadLocalCacheSize)) : null);
+	}
+
+	/**
+	 * Whether to track buffers that are garbage collected before having been
+	 * released, and log them with the stack trace of their allocation and
+	 * the hints they have been {@linkplain PooledDataBuffer#touch(Object) touched} with.
+	 * <p>By default, this is set to {@code false}.
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return the number of buffers allocated by this factory that have not
+	 * been released yet. Useful to verify that buffers are released in tests.
+	 */
+	public long getAllocatedBufferCount() {
+		return this.allocatedBuffers.sum();
+	}
+
+	/**
+	 * Return the number of bytes currently kept in the shared pool.
+	 */
+	public long getPooledMemory() {
+		return this.pooledMemory.get();
+	}
+
+
+	@Override
+	@Deprecated
+	public PooledDataBuffer allocateBuffer() {
+		return allocateBuffer(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@Override
+	public PooledDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must not be negative");
+		int sizeClass = sizeClass(initialCapacity);
+		if (sizeClass == -1) {
+			return createBuffer(allocate(initialCapacity), null, -1);
+		}
+		ByteBuffer byteBuffer = poll(sizeClass);
+		if (byteBuffer == null) {
+			byteBuffer = allocate(MIN_POOLED_CAPACITY << sizeClass);
+		}
+		return createBuffer(byteBuffer.slice(0, initialCapacity), byteBuffer, sizeClass);
+	}
+
+	@Override
+	public PooledDataBuffer wrap(ByteBuffer byteBuffer) {
+		return new PooledDefaultDataBuffer(this, this.delegateFactory.wrap(byteBuffer), createChunk(null, -1));
+	}
+
+	@Override
+	public PooledDataBuffer wrap(byte[] bytes) {
+		return new PooledDefaultDataBuffer(this, this.delegateFactory.wrap(bytes), createChunk(null, -1));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation creates a single {@link PooledDataBuffer}
+	 * to contain the data in {@code dataBuffers}.
+	 */
+	@Override
+	public PooledDataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		int capacity = dataBuffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+		PooledDataBuffer result = allocateBuffer(capacity);
+		dataBuffers.forEach(result::write);
+		dataBuffers.forEach(DataBufferUtils::release);
+		return result;
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.preferDirect;
+	}
+
+	@Override
+	public String toString() {
+		return "PooledDataBufferFactory (preferDirect=" + this.preferDirect +
+				", maxPooledMemory=" + this.maxPooledMemory + ")";
+	}
+
+
+	private PooledDataBuffer createBuffer(ByteBuffer view, @Nullable ByteBuffer pooled, int sizeClass) {
+		DefaultDataBuffer delegate = DefaultDataBuffer.fromEmptyByteBuffer(this.delegateFactory, view);
+		return new PooledDefaultDataBuffer(this, delegate, createChunk(pooled, sizeClass));
+	}
+
+	private Chunk createChunk(@Nullable ByteBuffer byteBuffer, int sizeClass) {
+		this.allocatedBuffers.increment();
+		Chunk chunk = new Chunk(byteBuffer, sizeClass);
+		if (this.leakDetection) {
+			LeakReporter reporter = new LeakReporter(chunk.refCount);
+			chunk.leakReporter = reporter;
+			chunk.cleanable = LeakReporter.cleaner.register(chunk, reporter);
+		}
+		return chunk;
+	}
+
+	private ByteBuffer allocate(int capacity) {
+		return (this.preferDirect ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+	}
+
+	@Nullable
+	private ByteBuffer poll(int sizeClass) {
+		ThreadLocal<ThreadCache> threadCache = this.threadCache;
+		if (threadCache != null) {
+			ByteBuffer byteBuffer = threadCache.get().poll(sizeClass);
+			if (byteBuffer != null) {
+				return byteBuffer;
+			}
+		}
+		ByteBuffer byteBuffer = this.pools.get(sizeClass).poll();
+		if (byteBuffer != null) {
+			this.pooledMemory.addAndGet(-byteBuffer.capacity());
+		}
+		return byteBuffer;
+	}
+
+	private void recycle(ByteBuffer byteBuffer, int sizeClass) {
+		byteBuffer.clear();
+		ThreadLocal<ThreadCache> threadCache = this.threadCache;
+		if (threadCache != null && threadCache.get().offer(byteBuffer, sizeClass)) {
+			return;
+		}
+		int capacity = byteBuffer.capacity();
+		if (this.pooledMemory.addAndGet(capacity) <= this.maxPooledMemory) {
+			this.pools.get(sizeClass).offer(byteBuffer);
+		}
+		else {
+			this.pooledMemory.addAndGet(-capacity);
+		}
+	}
+
+	boolean release(Chunk chunk) {
+		if (!chunk.release()) {
+			return false;
+		}
+		this.allocatedBuffers.decrement();
+		Cleaner.Cleanable cleanable = chunk.cleanable;
+		if (cleanable != null) {
+			cleanable.clean();
+		}
+		ByteBuffer byteBuffer = chunk.byteBuffer;
+		if (byteBuffer != null) {
+			recycle(byteBuffer, chunk.sizeClass);
+		}
+		return true;
+	}
+
+	/**
+	 * Return the size class for the given capacity, or -1 if buffers of that
+	 * capacity are not pooled.
+	 */
+	private static int sizeClass(int capacity) {
+		if (capacity > MAX_POOLED_CAPACITY) {
+			return -1;
+		}
+		if (capacity <= MIN_POOLED_CAPACITY) {
+			return 0;
+		}
+		return Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1) -
+				Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY);
+	}
+
+
+	/**
+	 * Reference counted state shared by a buffer and the buffers split from it.
+	 */
+	static final class Chunk {
+
+		@Nullable
+		final ByteBuffer byteBuffer;
+
+		final int sizeClass;
+
+		final AtomicInteger refCount = new AtomicInteger(1);
+
+		@Nullable
+		LeakReporter leakReporter;
+
+		@Nullable
+		Cleaner.Cleanable cleanable;
+
+		Chunk(@Nullable ByteBuffer byteBuffer, int sizeClass) {
+			this.byteBuffer = byteBuffer;
+			this.sizeClass = sizeClass;
+		}
+
+		boolean isAllocated() {
+			return (this.refCount.get() > 0);
+		}
+
+		void retain() {
+			int count;
+			do {
+				count = this.refCount.get();
+				Assert.state(count > 0, "DataBuffer has been released");
+			}
+			while (!this.refCount.compareAndSet(count, count + 1));
+		}
+
+		void touch(Object hint) {
+			LeakReporter leakReporter = this.leakReporter;
+			if (leakReporter != null) {
+				leakReporter.hints.add(hint);
+			}
+		}
+
+		boolean release() {
+			int count;
+			do {
+				count = this.refCount.get();
+				Assert.state(count > 0, "DataBuffer has already been released");
+			}
+			while (!this.refCount.compareAndSet(count, count - 1));
+			return (count == 1);
+		}
+	}
+
+
+	/**
+	 * Per-thread stacks of released buffers, one per size class.
+	 */
+	private static final class ThreadCache {
+
+		private final ByteBuffer[][] buffers;
+
+		private final int[] counts;
+
+		ThreadCache(int size) {
+			this.buffers = new ByteBuffer[SIZE_CLASS_COUNT][size];
+			this.counts = new int[SIZE_CLASS_COUNT];
+		}
+
+		@Nullable
+		ByteBuffer poll(int sizeClass) {
+			int count = this.counts[sizeClass];
+			if (count == 0) {
+				return null;
+			}
+			count--;
+			ByteBuffer byteBuffer = this.buffers[sizeClass][count];
+			this.buffers[sizeClass][count] = null;
+			this.counts[sizeClass] = count;
+			return byteBuffer;
+		}
+
+		boolean offer(ByteBuffer byteBuffer, int sizeClass) {
+			int count = this.counts[sizeClass];
+			if (count == this.buffers[sizeClass].length) {
+				return false;
+			}
+			this.buffers[sizeClass][count] = byteBuffer;
+			this.counts[sizeClass] = count + 1;
+			return true;
+		}
+	}
+
+
+	/**
+	 * Cleaner action that logs buffers that have become unreachable without
+	 * having been released. Must not refer to the {@link Chunk} it tracks.
+	 */
+	private static final class LeakReporter implements Runnable {
+
+		static final Cleaner cleaner = Cleaner.create();
+
+		private final AtomicInteger refCount;
+
+		private final Throwable allocation = new Throwable("DataBuffer allocated here");
+
+		private final List<Object> hints = new CopyOnWriteArrayList<>();
+
+		LeakReporter(AtomicInteger refCount) {
+			this.refCount = refCount;
+		}
+
+		@Override
+		public void run() {
+			if (this.refCount.get() > 0 && logger.isErrorEnabled()) {
+				logger.error("DataBuffer was garbage collected without having been released" +
+						(this.hints.isEmpty() ? "" : ", hints: " + this.hints), this.allocation);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.IntPredicate;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PooledDataBuffer} created by a {@link PooledDataBufferFactory}.
+ * Delegates to a {@link DefaultDataBuffer} backed by a pooled {@link ByteBuffer},
+ * which is returned to the pool once the reference count of this buffer, and
+ * of all buffers split from it, reaches zero.
+ *
+ * @since 6.2
+ */
+final class PooledDefaultDataBuffer implements PooledDataBuffer {
+
+	private final PooledDataBufferFactory dataBufferFactory;
+
+	private final DefaultDataBuffer delegate;
+
+	private final PooledDataBufferFactory.Chunk chunk;
+
+
+	PooledDefaultDataBuffer(PooledDataBufferFactory dataBufferFactory, DefaultDataBuffer delegate,
+			PooledDataBufferFactory.Chunk chunk) {
+
+		this.dataBufferFactory = dataBufferFactory;
+		this.delegate = delegate;
+		this.chunk = chunk;
+	}
+
+
+	private DefaultDataBuffer delegate() {
+		Assert.state(this.chunk.isAllocated(), "DataBuffer has been released");
+		return this.delegate;
+	}
+
+	@Override
+	public PooledDataBufferFactory factory() {
+		return this.dataBufferFactory;
+	}
+
+	@Override
+	public boolean isAllocated() {
+		return this.chunk.isAllocated();
+	}
+
+	@Override
+	public PooledDataBuffer retain() {
+		this.chunk.retain();
+		return this;
+	}
+
+	@Override
+	public PooledDataBuffer touch(Object hint) {
+		this.chunk.touch(hint);
+		return this;
+	}
+
+	@Override
+	public boolean release() {
+		return this.dataBufferFactory.release(this.chunk);
+	}
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		return delegate().indexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		return delegate().lastIndexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int readableByteCount() {
+		return delegate().readableByteCount();
+	}
+
+	@Override
+	public int writableByteCount() {
+		return delegate().writableByteCount();
+	}
+
+	@Override
+	public int capacity() {
+		return delegate().capacity();
+	}
+
+	@Override
+	@Deprecated
+	public PooledDefaultDataBuffer capacity(int capacity) {
+		delegate().capacity(capacity);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer ensureWritable(int capacity) {
+		delegate().ensureWritable(capacity);
+		return this;
+	}
+
+	@Override
+	public int readPosition() {
+		return delegate().readPosition();
+	}
+
+	@Override
+	public PooledDefaultDataBuffer readPosition(int readPosition) {
+		delegate().readPosition(readPosition);
+		return this;
+	}
+
+	@Override
+	public int writePosition() {
+		return delegate().writePosition();
+	}
+
+	@Override
+	public PooledDefaultDataBuffer writePosition(int writePosition) {
+		delegate().writePosition(writePosition);
+		return this;
+	}
+
+	@Override
+	public byte getByte(int index) {
+		return delegate().getByte(index);
+	}
+
+	@Override
+	public byte read() {
+		return delegate().read();
+	}
+
+	@Override
+	public PooledDefaultDataBuffer read(byte[] destination) {
+		delegate().read(destination);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer read(byte[] destination, int offset, int length) {
+		delegate().read(destination, offset, length);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(byte b) {
+		delegate().write(b);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(byte[] source) {
+		delegate().write(source);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(byte[] source, int offset, int length) {
+		delegate().write(source, offset, length);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(DataBuffer... buffers) {
+		delegate().write(buffers);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(ByteBuffer... buffers) {
+		delegate().write(buffers);
+		return this;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer write(CharSequence charSequence, Charset charset) {
+		delegate().write(charSequence, charset);
+		return this;
+	}
+
+	@Override
+	@Deprecated
+	public PooledDefaultDataBuffer slice(int index, int length) {
+		return new PooledDefaultDataBuffer(this.dataBufferFactory, delegate().slice(index, length), this.chunk);
+	}
+
+	@Override
+	@Deprecated
+	public PooledDefaultDataBuffer retainedSlice(int index, int length) {
+		DefaultDataBuffer slice = delegate().slice(index, length);
+		this.chunk.retain();
+		return new PooledDefaultDataBuffer(this.dataBufferFactory, slice, this.chunk);
+	}
+
+	@Override
+	public PooledDefaultDataBuffer split(int index) {
+		DefaultDataBuffer split = delegate().split(index);
+		this.chunk.retain();
+		return new PooledDefaultDataBuffer(this.dataBufferFactory, split, this.chunk);
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer() {
+		return delegate().asByteBuffer();
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer(int index, int length) {
+		return delegate().asByteBuffer(index, length);
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer toByteBuffer(int index, int length) {
+		return delegate().toByteBuffer(index, length);
+	}
+
+	@Override
+	public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+		delegate().toByteBuffer(srcPos, dest, destPos, length);
+	}
+
+	@Override
+	public ByteBufferIterator readableByteBuffers() {
+		return delegate().readableByteBuffers();
+	}
+
+	@Override
+	public ByteBufferIterator writableByteBuffers() {
+		return delegate().writableByteBuffers();
+	}
+
+	@Override
+	public String toString(int index, int length, Charset charset) {
+		return delegate().toString(index, length, charset);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof PooledDefaultDataBuffer that &&
+				this.delegate.equals(that.delegate)));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.delegate.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PooledDefaultDataBuffer (r: %d, w: %d, c: %d)",
+				this.delegate.readPosition(), this.delegate.writePosition(), this.delegate.capacity());
+	}
+
+}
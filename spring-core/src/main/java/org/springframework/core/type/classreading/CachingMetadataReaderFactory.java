@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,16 +21,22 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Caching implementation of the {@link MetadataReaderFactory} interface,
  * caching a {@link MetadataReader} instance per Spring {@link Resource} handle
  * (i.e. per ".class" file).
  *
+ * <p>This factory is thread-safe: class files may be parsed concurrently,
+ * e.g. during parallel classpath scanning, with the cache access itself
+ * being synchronized for a local cache and lock-free for a shared cache.
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @since 2.5
@@ -40,6 +46,19 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	/** Default maximum number of entries for a local MetadataReader cache: 256. */
 	public static final int DEFAULT_CACHE_LIMIT = 256;
 
+	/**
+	 * System property that instructs Spring to hold cached MetadataReaders through
+	 * soft references in a local cache per factory, rather than strongly in the
+	 * shared cache of a {@link DefaultResourceLoader}, allowing the garbage
+	 * collector to reclaim class metadata under memory pressure.
+	 * @since 6.2
+	 * @see #setSoftReferenceCache
+	 */
+	public static final String SOFT_REFERENCE_CACHE_PROPERTY_NAME = "spring.classreading.soft-cache";
+
+	private static final boolean shouldUseSoftReferenceCache =
+			SpringProperties.getFlag(SOFT_REFERENCE_CACHE_PROPERTY_NAME);
+
 	/** MetadataReader cache: either local or shared at the ResourceLoader level. */
 	@Nullable
 	private Map<Resource, MetadataReader> metadataReaderCache;
@@ -73,7 +92,10 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 	 */
 	public CachingMetadataReaderFactory(@Nullable ResourceLoader resourceLoader) {
 		super(resourceLoader);
-		if (resourceLoader instanceof DefaultResourceLoader defaultResourceLoader) {
+		if (shouldUseSoftReferenceCache) {
+			setSoftReferenceCache(true);
+		}
+		else if (resourceLoader instanceof DefaultResourceLoader defaultResourceLoader) {
 			this.metadataReaderCache = defaultResourceLoader.getResourceCache(MetadataReader.class);
 		}
 		else {
@@ -100,6 +122,27 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 		}
 	}
 
+	/**
+	 * Specify whether to hold cached MetadataReaders through soft references,
+	 * unbounded but reclaimable by the garbage collector under memory pressure.
+	 * <p>Default is "false", unless the {@value #SOFT_REFERENCE_CACHE_PROPERTY_NAME}
+	 * system property is set. Similar to {@link #setCacheLimit}, switching this
+	 * on enforces a local resource cache, even if the {@link ResourceLoader}
+	 * supports a shared resource cache; switching it off reverts to a local
+	 * cache with the default limit.
+	 * @since 6.2
+	 */
+	public void setSoftReferenceCache(boolean softReferenceCache) {
+		if (softReferenceCache) {
+			if (!(this.metadataReaderCache instanceof SoftReferenceCache)) {
+				this.metadataReaderCache = new SoftReferenceCache();
+			}
+		}
+		else if (this.metadataReaderCache instanceof SoftReferenceCache) {
+			setCacheLimit(DEFAULT_CACHE_LIMIT);
+		}
+	}
+
 	/**
 	 * Return the maximum number of entries for the MetadataReader cache.
 	 */
@@ -127,11 +170,16 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 		else if (this.metadataReaderCache != null) {
 			synchronized (this.metadataReaderCache) {
 				MetadataReader metadataReader = this.metadataReaderCache.get(resource);
-				if (metadataReader == null) {
-					metadataReader = super.getMetadataReader(resource);
-					this.metadataReaderCache.put(resource, metadataReader);
+				if (metadataReader != null) {
+					return metadataReader;
 				}
-				return metadataReader;
+			}
+			// Parse outside of the lock, allowing for concurrent parsing of different
+			// class files; a concurrently parsed reader for the same resource wins.
+			MetadataReader metadataReader = super.getMetadataReader(resource);
+			synchronized (this.metadataReaderCache) {
+				MetadataReader existing = this.metadataReaderCache.putIfAbsent(resource, metadataReader);
+				return (existing != null ? existing : metadataReader);
 			}
 		}
 		else {
@@ -148,6 +196,9 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 				this.metadataReaderCache.clear();
 			}
 		}
+		else if (this.metadataReaderCache instanceof SoftReferenceCache) {
+			this.metadataReaderCache.clear();
+		}
 		else if (this.metadataReaderCache != null) {
 			// Shared resource cache -> reset to local cache.
 			setCacheLimit(DEFAULT_CACHE_LIMIT);
@@ -179,4 +230,15 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 		}
 	}
 
+
+	/**
+	 * Local MetadataReader cache holding its entries through soft references.
+	 */
+	private static class SoftReferenceCache extends ConcurrentReferenceHashMap<Resource, MetadataReader> {
+
+		public SoftReferenceCache() {
+			super(DEFAULT_CACHE_LIMIT, ReferenceType.SOFT);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,6 @@ package org.springframework.core.type.classreading;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,8 +92,9 @@ class MergedAnnotationReadingVisitor<A extends Annotation> extends AnnotationVis
 
 	@Override
 	public void visitEnd() {
-		Map<String, Object> compactedAttributes =
-				(this.attributes.isEmpty() ? Collections.emptyMap() : this.attributes);
+		// Compact immutable copy with a flat key/value layout, since the attributes
+		// are retained for the lifetime of the (typically cached) metadata
+		Map<String, Object> compactedAttributes = Map.copyOf(this.attributes);
 		MergedAnnotation<A> annotation = MergedAnnotation.of(
 				this.classLoader, this.source, this.annotationType, compactedAttributes);
 		this.consumer.accept(annotation);
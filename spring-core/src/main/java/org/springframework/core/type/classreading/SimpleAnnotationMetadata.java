@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,12 +25,14 @@ import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.MethodMetadata;
 import org.springframework.lang.Nullable;
-import org.springframework.util.StringUtils;
 
 /**
  * {@link AnnotationMetadata} created from a
  * {@link SimpleAnnotationMetadataReadingVisitor}.
  *
+ * <p>Keeps names in plain arrays rather than collections, since instances are
+ * typically held in a metadata cache for every scanned class.
+ *
  * @author Phillip Webb
  * @author Sam Brannen
  * @author Juergen Hoeller
@@ -50,9 +52,9 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 
 	private final boolean independentInnerClass;
 
-	private final Set<String> interfaceNames;
+	private final String[] interfaceNames;
 
-	private final Set<String> memberClassNames;
+	private final String[] memberClassNames;
 
 	private final Set<MethodMetadata> declaredMethods;
 
@@ -63,8 +65,8 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 
 
 	SimpleAnnotationMetadata(String className, int access, @Nullable String enclosingClassName,
-			@Nullable String superClassName, boolean independentInnerClass, Set<String> interfaceNames,
-			Set<String> memberClassNames, Set<MethodMetadata> declaredMethods, MergedAnnotations mergedAnnotations) {
+			@Nullable String superClassName, boolean independentInnerClass, String[] interfaceNames,
+			String[] memberClassNames, Set<MethodMetadata> declaredMethods, MergedAnnotations mergedAnnotations) {
 
 		this.className = className;
 		this.access = access;
@@ -73,7 +75,7 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 		this.independentInnerClass = independentInnerClass;
 		this.interfaceNames = interfaceNames;
 		this.memberClassNames = memberClassNames;
-		this.declaredMethods = declaredMethods;
+		this.declaredMethods = Collections.unmodifiableSet(declaredMethods);
 		this.mergedAnnotations = mergedAnnotations;
 	}
 
@@ -121,12 +123,12 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 
 	@Override
 	public String[] getInterfaceNames() {
-		return StringUtils.toStringArray(this.interfaceNames);
+		return this.interfaceNames.clone();
 	}
 
 	@Override
 	public String[] getMemberClassNames() {
-		return StringUtils.toStringArray(this.memberClassNames);
+		return this.memberClassNames.clone();
 	}
 
 	@Override
@@ -158,7 +160,7 @@ final class SimpleAnnotationMetadata implements AnnotationMetadata {
 
 	@Override
 	public Set<MethodMetadata> getDeclaredMethods() {
-		return Collections.unmodifiableSet(this.declaredMethods);
+		return this.declaredMethods;
 	}
 
 
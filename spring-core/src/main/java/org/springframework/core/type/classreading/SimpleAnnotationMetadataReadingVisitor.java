@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package org.springframework.core.type.classreading;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.asm.AnnotationVisitor;
@@ -40,6 +42,8 @@ import org.springframework.util.ClassUtils;
  */
 final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 
+	private static final String[] NO_NAMES = new String[0];
+
 	@Nullable
 	private final ClassLoader classLoader;
 
@@ -55,9 +59,9 @@ final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 
 	private boolean independentInnerClass;
 
-	private final Set<String> interfaceNames = new LinkedHashSet<>(4);
+	private String[] interfaceNames = NO_NAMES;
 
-	private final Set<String> memberClassNames = new LinkedHashSet<>(4);
+	private final List<String> memberClassNames = new ArrayList<>(4);
 
 	private final Set<MergedAnnotation<?>> annotations = new LinkedHashSet<>(4);
 
@@ -85,8 +89,11 @@ final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 		if (supername != null && !isInterface(access)) {
 			this.superClassName = toClassName(supername);
 		}
-		for (String element : interfaces) {
-			this.interfaceNames.add(toClassName(element));
+		if (interfaces.length > 0) {
+			this.interfaceNames = new String[interfaces.length];
+			for (int i = 0; i < interfaces.length; i++) {
+				this.interfaceNames[i] = toClassName(interfaces[i]);
+			}
 		}
 	}
 
@@ -104,7 +111,7 @@ final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 				this.enclosingClassName = outerClassName;
 				this.independentInnerClass = ((access & Opcodes.ACC_STATIC) != 0);
 			}
-			else if (this.className.equals(outerClassName)) {
+			else if (this.className.equals(outerClassName) && !this.memberClassNames.contains(className)) {
 				this.memberClassNames.add(className);
 			}
 		}
@@ -134,8 +141,8 @@ final class SimpleAnnotationMetadataReadingVisitor extends ClassVisitor {
 	public void visitEnd() {
 		MergedAnnotations annotations = MergedAnnotations.of(this.annotations);
 		this.metadata = new SimpleAnnotationMetadata(this.className, this.access,
-				this.enclosingClassName, this.superClassName, this.independentInnerClass,
-				this.interfaceNames, this.memberClassNames, this.declaredMethods, annotations);
+				this.enclosingClassName, this.superClassName, this.independentInnerClass, this.interfaceNames,
+				this.memberClassNames.toArray(NO_NAMES), this.declaredMethods, annotations);
 	}
 
 	public SimpleAnnotationMetadata getMetadata() {
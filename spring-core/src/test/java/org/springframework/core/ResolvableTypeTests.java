@@ -31,6 +31,7 @@ import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.AbstractCollection;
 import java.util.AbstractList;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -117,6 +118,20 @@ class ResolvableTypeTests {
 		assertThat(type.isAssignableFrom(String.class)).isTrue();
 	}
 
+	@Test
+	void forClassSharedInstance() {
+		ResolvableType type = ResolvableType.forClass(ExtendsList.class);
+		assertThat(ResolvableType.forClass(ExtendsList.class)).isSameAs(type);
+		assertThat(ResolvableType.forType(ExtendsList.class)).isSameAs(type);
+		assertThat(ResolvableType.forClass(null)).isSameAs(ResolvableType.forClass(Object.class));
+		assertThat(ResolvableType.forRawClass(ExtendsList.class)).isNotSameAs(type);
+
+		ResolvableType.clearCache();
+		ResolvableType recreated = ResolvableType.forClass(ExtendsList.class);
+		assertThat(recreated).isNotSameAs(type).isEqualTo(type);
+		assertThat(recreated.asCollection().resolveGeneric()).isEqualTo(CharSequence.class);
+	}
+
 	@Test
 	void forRawClass() {
 		ResolvableType type = ResolvableType.forRawClass(ExtendsList.class);
@@ -439,6 +454,19 @@ class ResolvableTypeTests {
 		assertThat(type.as(ExtendsList.class)).isEqualTo(type);
 	}
 
+	@Test
+	void asRepeatedly() {
+		ResolvableType type = ResolvableType.forClass(ExtendsMap.class);
+		ResolvableType map = type.as(Map.class);
+		assertThat(type.as(Map.class)).isSameAs(map);
+		assertThat(type.as(List.class)).isSameAs(ResolvableType.NONE);
+		assertThat(type.as(Map.class)).isSameAs(map);
+		assertThat(type.as(AbstractMap.class).resolveGeneric(1)).isEqualTo(Integer.class);
+		assertThat(type.as(Map.class)).isEqualTo(map);
+		assertThat(map.resolveGeneric(0)).isEqualTo(String.class);
+		assertThat(map.resolveGeneric(1)).isEqualTo(Integer.class);
+	}
+
 	@Test
 	void getSuperType() {
 		ResolvableType type = ResolvableType.forClass(ExtendsList.class).getSuperType();
@@ -16,6 +16,7 @@
 
 package org.springframework.core.io.buffer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -24,6 +25,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
 import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.channels.WritableByteChannel;
@@ -410,6 +412,28 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 		flux.subscribe(DataBufferUtils::release);
 	}
 
+	@ParameterizedDataBufferAllocatingTest
+	void writeGatheringByteChannel(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		DataBuffer baz = stringBuffer("baz");
+		Flux<DataBuffer> flux = Flux.just(foo, bar, baz);
+
+		RecordingGatheringByteChannel channel = new RecordingGatheringByteChannel();
+
+		StepVerifier.create(DataBufferUtils.write(flux, channel))
+				.consumeNextWith(stringConsumer("foo"))
+				.consumeNextWith(stringConsumer("bar"))
+				.consumeNextWith(stringConsumer("baz"))
+				.expectComplete()
+				.verify(Duration.ofSeconds(3));
+
+		assertThat(channel.content.toString(StandardCharsets.UTF_8)).isEqualTo("foobarbaz");
+		assertThat(channel.writeCount).isEqualTo(1);
+	}
+
 	@ParameterizedDataBufferAllocatingTest
 	void writeAsynchronousFileChannel(DataBufferFactory bufferFactory) throws Exception {
 		super.bufferFactory = bufferFactory;
@@ -1160,4 +1184,50 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 		}
 	}
 
+
+	private static class RecordingGatheringByteChannel implements GatheringByteChannel {
+
+		final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		int writeCount;
+
+		@Override
+		public long write(ByteBuffer[] sources, int offset, int length) {
+			this.writeCount++;
+			long written = 0;
+			for (int i = offset; i < offset + length; i++) {
+				written += transfer(sources[i]);
+			}
+			return written;
+		}
+
+		@Override
+		public long write(ByteBuffer[] sources) {
+			return write(sources, 0, sources.length);
+		}
+
+		@Override
+		public int write(ByteBuffer source) {
+			this.writeCount++;
+			return transfer(source);
+		}
+
+		private int transfer(ByteBuffer source) {
+			int length = source.remaining();
+			byte[] bytes = new byte[length];
+			source.get(bytes);
+			this.content.writeBytes(bytes);
+			return length;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
 }
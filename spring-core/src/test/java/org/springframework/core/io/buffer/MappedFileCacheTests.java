@@ -0,0 +1,166 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MappedFileCache}.
+ */
+class MappedFileCacheTests {
+
+	private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void readFile() throws IOException {
+		Path file = createFile("file", "foobarbaz");
+		MappedFileCache cache = new MappedFileCache(1024);
+		cache.setMinFileSize(0);
+
+		StepVerifier.create(cache.read(new FileSystemResource(file), 0, this.bufferFactory, 3).map(this::asString))
+				.expectNext("foo", "bar", "baz")
+				.verifyComplete();
+		assertThat(cache.getMappedBytes()).isEqualTo(9);
+
+		StepVerifier.create(cache.read(new FileSystemResource(file), 0, this.bufferFactory, 4).map(this::asString))
+				.expectNext("foob", "arba", "z")
+				.verifyComplete();
+		assertThat(cache.getMappedBytes()).isEqualTo(9);
+	}
+
+	@Test
+	void readFileFromPosition() throws IOException {
+		Path file = createFile("file", "foobarbaz");
+		MappedFileCache cache = new MappedFileCache(1024);
+		cache.setMinFileSize(0);
+
+		StepVerifier.create(cache.read(new FileSystemResource(file), 3, this.bufferFactory, 3).map(this::asString))
+				.expectNext("bar", "baz")
+				.verifyComplete();
+		StepVerifier.create(cache.read(new FileSystemResource(file), 10, this.bufferFactory, 3))
+				.verifyComplete();
+	}
+
+	@Test
+	void readModifiedFile() throws IOException {
+		Path file = createFile("file", "foobarbaz");
+		MappedFileCache cache = new MappedFileCache(1024);
+		cache.setMinFileSize(0);
+		StepVerifier.create(cache.read(new FileSystemResource(file), 0, this.bufferFactory, 16).map(this::asString))
+				.expectNext("foobarbaz")
+				.verifyComplete();
+
+		Files.writeString(file, "quxquux");
+		Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+
+		StepVerifier.create(cache.read(new FileSystemResource(file), 0, this.bufferFactory, 16).map(this::asString))
+				.expectNext("quxquux")
+				.verifyComplete();
+		assertThat(cache.getMappedBytes()).isEqualTo(7);
+	}
+
+	@Test
+	void evictLeastRecentlyUsed() throws IOException {
+		Path foo = createFile("foo", "foofoo");
+		Path bar = createFile("bar", "barbar");
+		Path baz = createFile("baz", "bazbaz");
+		MappedFileCache cache = new MappedFileCache(12);
+		cache.setMinFileSize(0);
+
+		read(cache, foo);
+		read(cache, bar);
+		read(cache, foo);
+		assertThat(cache.getMappedBytes()).isEqualTo(12);
+
+		read(cache, baz);
+		assertThat(cache.getMappedBytes()).isEqualTo(12);
+
+		StepVerifier.create(cache.read(new FileSystemResource(bar), 0, this.bufferFactory, 16).map(this::asString))
+				.expectNext("barbar")
+				.verifyComplete();
+		assertThat(cache.getMappedBytes()).isEqualTo(12);
+
+		cache.clear();
+		assertThat(cache.getMappedBytes()).isZero();
+	}
+
+	@Test
+	void fileOutsideSizeLimitsIsNotMapped() throws IOException {
+		Path file = createFile("file", "foobarbaz");
+		MappedFileCache cache = new MappedFileCache(1024);
+
+		StepVerifier.create(cache.read(new FileSystemResource(file), 0, this.bufferFactory, 16).map(this::asString))
+				.expectNext("foobarbaz")
+				.verifyComplete();
+		assertThat(cache.getMappedBytes()).isZero();
+
+		cache.setMinFileSize(0);
+		cache.setMaxFileSize(8);
+		read(cache, file);
+		assertThat(cache.getMappedBytes()).isZero();
+	}
+
+	@Test
+	void nonFileResourceIsNotMapped() {
+		MappedFileCache cache = new MappedFileCache(1024);
+		cache.setMinFileSize(0);
+		ByteArrayResource resource = new ByteArrayResource("foobarbaz".getBytes(StandardCharsets.UTF_8));
+
+		StepVerifier.create(cache.read(resource, 0, this.bufferFactory, 16).map(this::asString))
+				.expectNext("foobarbaz")
+				.verifyComplete();
+		assertThat(cache.getMappedBytes()).isZero();
+	}
+
+
+	private Path createFile(String name, String content) throws IOException {
+		return Files.writeString(this.tempDir.resolve(name), content);
+	}
+
+	private void read(MappedFileCache cache, Path file) throws IOException {
+		Flux<DataBuffer> result = cache.read(new FileSystemResource(file), 0, this.bufferFactory, 16);
+		StepVerifier.create(DataBufferUtils.join(result).map(this::asString))
+				.expectNext(Files.readString(file))
+				.verifyComplete();
+	}
+
+	private String asString(DataBuffer buffer) {
+		String value = buffer.toString(StandardCharsets.UTF_8);
+		DataBufferUtils.release(buffer);
+		return value;
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PooledDataBufferFactory}.
+ */
+class PooledDataBufferFactoryTests {
+
+	private final PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory();
+
+
+	@Test
+	void allocateWithRequestedCapacity() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		assertThat(buffer.capacity()).isEqualTo(100);
+		assertThat(buffer.factory()).isSameAs(this.bufferFactory);
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(1);
+
+		assertThat(buffer.release()).isTrue();
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isZero();
+		assertThat(this.bufferFactory.getPooledMemory()).isEqualTo(256);
+	}
+
+	@Test
+	void reuseReleasedMemory() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(1000);
+		buffer.release();
+		assertThat(this.bufferFactory.getPooledMemory()).isEqualTo(1024);
+
+		buffer = this.bufferFactory.allocateBuffer(600);
+		assertThat(this.bufferFactory.getPooledMemory()).isZero();
+		buffer.write("foo", StandardCharsets.UTF_8);
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+		buffer.release();
+	}
+
+	@Test
+	void largeBuffersAreNotPooled() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(128 * 1024);
+		assertThat(buffer.release()).isTrue();
+		assertThat(this.bufferFactory.getPooledMemory()).isZero();
+	}
+
+	@Test
+	void pooledMemoryIsBounded() {
+		PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory(false, 2048);
+		List<PooledDataBuffer> buffers = List.of(bufferFactory.allocateBuffer(1024),
+				bufferFactory.allocateBuffer(1024), bufferFactory.allocateBuffer(1024));
+		buffers.forEach(PooledDataBuffer::release);
+		assertThat(bufferFactory.getPooledMemory()).isEqualTo(2048);
+	}
+
+	@Test
+	void splitSharesReferenceCount() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(16);
+		buffer.write("foobar", StandardCharsets.UTF_8);
+		DataBuffer split = buffer.split(3);
+
+		assertThat(split).isInstanceOf(PooledDataBuffer.class);
+		assertThat(split.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("bar");
+
+		assertThat(buffer.release()).isFalse();
+		assertThat(this.bufferFactory.getPooledMemory()).isZero();
+		assertThat(DataBufferUtils.release(split)).isTrue();
+		assertThat(this.bufferFactory.getPooledMemory()).isEqualTo(256);
+	}
+
+	@Test
+	void accessAfterRelease() {
+		PooledDataBuffer buffer = this.bufferFactory.allocateBuffer(16);
+		buffer.release();
+		assertThatIllegalStateException().isThrownBy(buffer::read);
+	}
+
+	@Test
+	void threadLocalCache() {
+		this.bufferFactory.setThreadLocalCacheSize(1);
+		PooledDataBuffer first = this.bufferFactory.allocateBuffer(16);
+		PooledDataBuffer second = this.bufferFactory.allocateBuffer(16);
+		first.release();
+		second.release();
+		assertThat(this.bufferFactory.getPooledMemory()).isEqualTo(256);
+
+		this.bufferFactory.allocateBuffer(16).release();
+		assertThat(this.bufferFactory.getPooledMemory()).isEqualTo(256);
+	}
+
+	@Test
+	void join() {
+		PooledDataBuffer foo = this.bufferFactory.wrap("foo".getBytes(StandardCharsets.UTF_8));
+		PooledDataBuffer bar = this.bufferFactory.wrap("bar".getBytes(StandardCharsets.UTF_8));
+		PooledDataBuffer result = this.bufferFactory.join(List.of(foo, bar));
+
+		assertThat(result.toString(StandardCharsets.UTF_8)).isEqualTo("foobar");
+		assertThat(foo.isAllocated()).isFalse();
+		assertThat(bar.isAllocated()).isFalse();
+		result.release();
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isZero();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -79,6 +79,16 @@ class PooledDataBufferTests {
 	}
 
 
+	@Nested
+	class Pooled implements PooledDataBufferTestingTrait {
+
+		@Override
+		public DataBufferFactory createDataBufferFactory() {
+			return new PooledDataBufferFactory();
+		}
+	}
+
+
 	interface PooledDataBufferTestingTrait {
 
 		DataBufferFactory createDataBufferFactory();
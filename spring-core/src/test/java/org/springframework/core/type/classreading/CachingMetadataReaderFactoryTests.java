@@ -0,0 +1,63 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CachingMetadataReaderFactory}.
+ */
+class CachingMetadataReaderFactoryTests {
+
+	@Test
+	void sharedCacheForDefaultResourceLoader() throws Exception {
+		DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+		CachingMetadataReaderFactory factory1 = new CachingMetadataReaderFactory(resourceLoader);
+		CachingMetadataReaderFactory factory2 = new CachingMetadataReaderFactory(resourceLoader);
+
+		assertThat(factory1.getCacheLimit()).isEqualTo(Integer.MAX_VALUE);
+		assertThat(factory1.getMetadataReader(getClass().getName()))
+				.isSameAs(factory2.getMetadataReader(getClass().getName()));
+	}
+
+	@Test
+	void softReferenceCache() throws Exception {
+		CachingMetadataReaderFactory factory = new CachingMetadataReaderFactory(new DefaultResourceLoader());
+		factory.setSoftReferenceCache(true);
+		assertThat(factory.getCacheLimit()).isEqualTo(Integer.MAX_VALUE);
+
+		MetadataReader metadataReader = factory.getMetadataReader(getClass().getName());
+		assertThat(factory.getMetadataReader(getClass().getName())).isSameAs(metadataReader);
+
+		factory.clearCache();
+		assertThat(factory.getCacheLimit()).isEqualTo(Integer.MAX_VALUE);
+		assertThat(factory.getMetadataReader(getClass().getName())).isNotSameAs(metadataReader);
+	}
+
+	@Test
+	void softReferenceCacheSwitchedOff() {
+		CachingMetadataReaderFactory factory = new CachingMetadataReaderFactory();
+		factory.setSoftReferenceCache(true);
+		factory.setSoftReferenceCache(false);
+		assertThat(factory.getCacheLimit()).isEqualTo(CachingMetadataReaderFactory.DEFAULT_CACHE_LIMIT);
+	}
+
+}
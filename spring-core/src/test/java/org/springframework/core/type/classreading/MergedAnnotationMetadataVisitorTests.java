@@ -56,6 +56,18 @@ class MergedAnnotationMetadataVisitorTests {
 		assertThat(this.annotation.getValue("floatValue")).contains(6.0f);
 	}
 
+	@Test
+	void visitWhenHasSimpleTypesExposesAttributesInAttributeMethodOrder() {
+		// Attributes are held in an immutable Map without a defined iteration order
+		loadFrom(WithSimpleTypesAnnotation.class);
+		MergedAnnotation<SimpleTypesAnnotation> reflected = MergedAnnotation.from(
+				WithSimpleTypesAnnotation.class.getAnnotation(SimpleTypesAnnotation.class));
+		assertThat(this.annotation.asMap()).containsExactlyEntriesOf(reflected.asMap());
+		assertThat(this.annotation.asAnnotationAttributes()).containsExactlyEntriesOf(reflected.asAnnotationAttributes());
+		assertThat(this.annotation.synthesize()).hasToString(
+				MergedAnnotation.of(SimpleTypesAnnotation.class, reflected.asMap()).synthesize().toString());
+	}
+
 	@Test
 	void visitWhenHasSimpleArrayTypesCreatesAnnotation() {
 		loadFrom(WithSimpleArrayTypesAnnotation.class);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,16 @@
 
 package org.springframework.core.type.classreading;
 
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
 import org.springframework.core.type.AbstractAnnotationMetadataTests;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link SimpleAnnotationMetadata} and
@@ -39,4 +47,37 @@ class SimpleAnnotationMetadataTests extends AbstractAnnotationMetadataTests {
 		}
 	}
 
+	@Test
+	void memberClassNames() {
+		AnnotationMetadata metadata = get(SimpleAnnotationMetadataTests.class);
+		assertThat(metadata.getMemberClassNames()).containsExactlyInAnyOrder(
+				Nested.class.getName(), OtherNested.class.getName());
+	}
+
+	@Test
+	void declaredMethodsAreUnmodifiable() {
+		AnnotationMetadata metadata = get(Nested.class);
+		Set<MethodMetadata> declaredMethods = metadata.getDeclaredMethods();
+		assertThat(declaredMethods).singleElement().satisfies(method ->
+				assertThat(method.getMethodName()).isEqualTo("run"));
+		assertThat(metadata.getDeclaredMethods()).isSameAs(declaredMethods);
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(declaredMethods::clear);
+	}
+
+
+	static class Nested implements Runnable {
+
+		@Override
+		public void run() {
+		}
+	}
+
+
+	static class OtherNested implements Runnable {
+
+		@Override
+		public void run() {
+		}
+	}
+
 }
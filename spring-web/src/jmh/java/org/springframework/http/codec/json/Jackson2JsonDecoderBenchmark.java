@@ -0,0 +1,104 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks for decoding JSON to POJOs using Jackson.
+ *
+ * @see AbstractJackson2Decoder
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2JsonDecoderBenchmark {
+
+	/**
+	 * Benchmark data holding a serialized {@link Project} to be read by the JSON Decoder.
+	 * A {@code projectCount} parameter can be used to grow the size of the object graph to deserialize,
+	 * and a {@code chunkSize} parameter controls the size of the data buffers fed to the decoder.
+	 */
+	@State(Scope.Benchmark)
+	public static class DecodeData {
+
+		@Param({"0", "50", "500"})
+		int projectCount;
+
+		@Param({"1024", "8192"})
+		int chunkSize;
+
+		Jackson2JsonDecoder jsonDecoder;
+
+		DataBufferFactory bufferFactory;
+
+		ResolvableType resolvableType;
+
+		byte[] content;
+
+		@Setup
+		public void setup() throws Exception {
+			ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+			this.bufferFactory = new DefaultDataBufferFactory();
+			this.jsonDecoder = new Jackson2JsonDecoder(objectMapper);
+			this.jsonDecoder.setMaxInMemorySize(-1);
+			this.resolvableType = ResolvableType.forClass(Project.class);
+			this.content = objectMapper.writeValueAsBytes(new Project("spring", this.projectCount));
+		}
+
+		Flux<DataBuffer> input() {
+			return Flux.range(0, (this.content.length + this.chunkSize - 1) / this.chunkSize).map(index -> {
+				int offset = index * this.chunkSize;
+				int length = Math.min(this.chunkSize, this.content.length - offset);
+				DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+				buffer.write(this.content, offset, length);
+				return buffer;
+			});
+		}
+
+	}
+
+	@Benchmark
+	public Object decodeToMono(DecodeData data) {
+		Mono<Object> result = data.jsonDecoder.decodeToMono(data.input(), data.resolvableType,
+				MediaType.APPLICATION_JSON, Collections.emptyMap());
+		return result.block();
+	}
+
+	@Benchmark
+	public Object decodeDataBuffer(DecodeData data) {
+		DataBuffer buffer = data.bufferFactory.wrap(data.content);
+		return data.jsonDecoder.decode(buffer, data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap());
+	}
+
+}
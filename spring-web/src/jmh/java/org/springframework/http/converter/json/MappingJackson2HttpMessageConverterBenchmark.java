@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.converter.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Project;
+import org.springframework.web.testfixture.http.MockHttpInputMessage;
+import org.springframework.web.testfixture.http.MockHttpOutputMessage;
+
+/**
+ * Benchmarks for the {@link MappingJackson2HttpMessageConverter}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class MappingJackson2HttpMessageConverterBenchmark {
+
+	/**
+	 * Benchmark data holding a {@link Project} and a list of projects,
+	 * as well as their serialized form. A {@code projectCount} parameter
+	 * can be used to grow the size of the object graph.
+	 */
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"0", "50", "500"})
+		public int projectCount;
+
+		public MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+
+		public Type listType = new ParameterizedTypeReference<List<Project>>() {}.getType();
+
+		public Project project;
+
+		public List<Project> projects;
+
+		public byte[] projectContent;
+
+		public byte[] projectsContent;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+			this.project = new Project("spring", this.projectCount);
+			this.projects = List.of(this.project, new Project("boot", this.projectCount));
+			this.projectContent = this.converter.getObjectMapper().writeValueAsBytes(this.project);
+			this.projectsContent = this.converter.getObjectMapper().writeValueAsBytes(this.projects);
+		}
+
+	}
+
+	@Benchmark
+	public void writeValue(BenchmarkData data, Blackhole bh) throws IOException {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		data.converter.write(data.project, MediaType.APPLICATION_JSON, outputMessage);
+		bh.consume(outputMessage);
+	}
+
+	@Benchmark
+	public void writeGenericList(BenchmarkData data, Blackhole bh) throws IOException {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		data.converter.write(data.projects, data.listType, MediaType.APPLICATION_JSON, outputMessage);
+		bh.consume(outputMessage);
+	}
+
+	@Benchmark
+	public Object readValue(BenchmarkData data) throws IOException {
+		MockHttpInputMessage inputMessage = new MockHttpInputMessage(data.projectContent);
+		inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return data.converter.read(Project.class, inputMessage);
+	}
+
+	@Benchmark
+	public Object readGenericList(BenchmarkData data) throws IOException {
+		MockHttpInputMessage inputMessage = new MockHttpInputMessage(data.projectsContent);
+		inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return data.converter.read(data.listType, null, inputMessage);
+	}
+
+}
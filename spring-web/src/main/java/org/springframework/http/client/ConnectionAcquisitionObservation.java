@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.observation.ClientConnectionObservationContext;
+import org.springframework.http.client.observation.ClientConnectionObservationConvention;
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation;
+import org.springframework.http.client.observation.DefaultClientConnectionObservationConvention;
+import org.springframework.lang.Nullable;
+
+/**
+ * Observation of the time a request waits for a connection, started when the
+ * request is handed to the underlying client and stopped once the client
+ * signals that the request is about to be written to a connection.
+ *
+ * <p>Callbacks may come from client threads; the observation is stopped at
+ * most once, whichever of {@link #acquired()} or {@link #failed(Throwable)}
+ * comes first.
+ *
+ * @since 6.2
+ */
+final class ConnectionAcquisitionObservation {
+
+	private static final ClientConnectionObservationConvention DEFAULT_OBSERVATION_CONVENTION =
+			new DefaultClientConnectionObservationConvention();
+
+
+	private final Observation observation;
+
+	private final AtomicBoolean stopped = new AtomicBoolean();
+
+
+	private ConnectionAcquisitionObservation(Observation observation) {
+		this.observation = observation;
+	}
+
+
+	/**
+	 * Signal that a connection was acquired for the request.
+	 */
+	public void acquired() {
+		if (this.stopped.compareAndSet(false, true)) {
+			this.observation.stop();
+		}
+	}
+
+	/**
+	 * Signal that the request failed before a connection was acquired.
+	 */
+	public void failed(Throwable ex) {
+		if (this.stopped.compareAndSet(false, true)) {
+			this.observation.error(ex);
+			this.observation.stop();
+		}
+	}
+
+
+	/**
+	 * Create and start an observation for the given request.
+	 */
+	public static ConnectionAcquisitionObservation start(URI uri, HttpMethod method,
+			ObservationRegistry registry, @Nullable ClientConnectionObservationConvention convention) {
+
+		Observation observation = ClientHttpObservationDocumentation.HTTP_CLIENT_CONNECTION_ACQUISITION.observation(
+				convention, DEFAULT_OBSERVATION_CONVENTION,
+				() -> new ClientConnectionObservationContext(uri, method), registry);
+		return new ConnectionAcquisitionObservation(observation.start());
+	}
+
+}
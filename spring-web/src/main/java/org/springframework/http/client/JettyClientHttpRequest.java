@@ -25,6 +25,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.eclipse.jetty.client.InputStreamResponseListener;
 import org.eclipse.jetty.client.OutputStreamRequestContent;
 import org.eclipse.jetty.client.Request;
@@ -32,6 +33,7 @@ import org.eclipse.jetty.client.Response;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.observation.ClientConnectionObservationConvention;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StreamUtils;
 
@@ -52,10 +54,19 @@ class JettyClientHttpRequest extends AbstractStreamingClientHttpRequest {
 
 	private final long readTimeout;
 
+	private final ObservationRegistry observationRegistry;
+
+	@Nullable
+	private final ClientConnectionObservationConvention connectionObservationConvention;
+
+
+	public JettyClientHttpRequest(Request request, long readTimeout, ObservationRegistry observationRegistry,
+			@Nullable ClientConnectionObservationConvention connectionObservationConvention) {
 
-	public JettyClientHttpRequest(Request request, long readTimeout) {
 		this.request = request;
 		this.readTimeout = readTimeout;
+		this.observationRegistry = observationRegistry;
+		this.connectionObservationConvention = connectionObservationConvention;
 	}
 
 	@Override
@@ -84,6 +95,14 @@ class JettyClientHttpRequest extends AbstractStreamingClientHttpRequest {
 		if (headers.getContentType() != null) {
 			contentType = headers.getContentType().toString();
 		}
+		ConnectionAcquisitionObservation observation = null;
+		if (!this.observationRegistry.isNoop()) {
+			ConnectionAcquisitionObservation acquisition = ConnectionAcquisitionObservation.start(
+					getURI(), getMethod(), this.observationRegistry, this.connectionObservationConvention);
+			this.request.onRequestBegin(req -> acquisition.acquired());
+			this.request.onRequestFailure((req, failure) -> acquisition.failed(failure));
+			observation = acquisition;
+		}
 		try {
 			InputStreamResponseListener responseListener = new InputStreamResponseListener();
 			if (body != null) {
@@ -102,6 +121,9 @@ class JettyClientHttpRequest extends AbstractStreamingClientHttpRequest {
 			return new JettyClientHttpResponse(response, responseListener.getInputStream());
 		}
 		catch (InterruptedException ex) {
+			if (observation != null) {
+				observation.failed(ex);
+			}
 			Thread.currentThread().interrupt();
 			throw new IOException("Request was interrupted: " + ex.getMessage(), ex);
 		}
@@ -122,6 +144,9 @@ class JettyClientHttpRequest extends AbstractStreamingClientHttpRequest {
 			}
 		}
 		catch (TimeoutException ex) {
+			if (observation != null) {
+				observation.failed(ex);
+			}
 			throw new IOException("Request timed out: " + ex.getMessage(), ex);
 		}
 	}
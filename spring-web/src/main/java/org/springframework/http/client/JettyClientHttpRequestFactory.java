@@ -21,12 +21,19 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.ObservationRegistry;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.Request;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.observation.ClientConnectionObservationContext;
+import org.springframework.http.client.observation.ClientConnectionObservationConvention;
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation;
+import org.springframework.http.client.observation.DefaultClientConnectionObservationConvention;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -44,6 +51,11 @@ public class JettyClientHttpRequestFactory implements ClientHttpRequestFactory,
 
 	private long readTimeout = 10 * 1000;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	@Nullable
+	private ClientConnectionObservationConvention connectionObservationConvention;
+
 
 	/**
 	 * Default constructor that creates a new instance of {@link HttpClient}.
@@ -104,6 +116,37 @@ public class JettyClientHttpRequestFactory implements ClientHttpRequestFactory,
 		this.readTimeout = readTimeout.toMillis();
 	}
 
+	/**
+	 * Configure an {@link ObservationRegistry} for recording
+	 * {@link ClientHttpObservationDocumentation#HTTP_CLIENT_CONNECTION_ACQUISITION
+	 * connection acquisition} observations, measuring how long requests wait
+	 * for a connection before being sent. This tells apart time spent waiting
+	 * on the client's connection pool from time spent waiting on the server.
+	 * <p>By default, no observations are recorded.
+	 * @param observationRegistry the registry to use
+	 * @since 6.2
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configure an {@link ObservationConvention} that sets the name of the
+	 * connection acquisition observation as well as its
+	 * {@link io.micrometer.common.KeyValues} extracted from the
+	 * {@link ClientConnectionObservationContext}.
+	 * <p>If none set, the {@link DefaultClientConnectionObservationConvention
+	 * default convention} will be used.
+	 * @param observationConvention the observation convention to use
+	 * @since 6.2
+	 * @see #setObservationRegistry(ObservationRegistry)
+	 */
+	public void setConnectionObservationConvention(ClientConnectionObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "ObservationConvention must not be null");
+		this.connectionObservationConvention = observationConvention;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		startHttpClient();
@@ -135,6 +178,7 @@ public class JettyClientHttpRequestFactory implements ClientHttpRequestFactory,
 
 		Request request = this.httpClient.newRequest(uri).method(httpMethod.name());
 		request.timeout(this.readTimeout, TimeUnit.MILLISECONDS);
-		return new JettyClientHttpRequest(request, this.readTimeout);
+		return new JettyClientHttpRequest(request, this.readTimeout,
+				this.observationRegistry, this.connectionObservationConvention);
 	}
 }
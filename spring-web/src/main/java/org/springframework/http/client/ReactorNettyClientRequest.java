@@ -23,6 +23,7 @@ import java.time.Duration;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.micrometer.observation.ObservationRegistry;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import org.reactivestreams.FlowAdapters;
@@ -34,6 +35,7 @@ import reactor.netty.http.client.HttpClientRequest;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.observation.ClientConnectionObservationConvention;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StreamUtils;
 
@@ -57,15 +59,23 @@ final class ReactorNettyClientRequest extends AbstractStreamingClientHttpRequest
 
 	private final Duration readTimeout;
 
+	private final ObservationRegistry observationRegistry;
+
+	@Nullable
+	private final ClientConnectionObservationConvention connectionObservationConvention;
+
 
 	public ReactorNettyClientRequest(HttpClient httpClient, URI uri, HttpMethod method,
-			Duration exchangeTimeout, Duration readTimeout) {
+			Duration exchangeTimeout, Duration readTimeout, ObservationRegistry observationRegistry,
+			@Nullable ClientConnectionObservationConvention connectionObservationConvention) {
 
 		this.httpClient = httpClient;
 		this.method = method;
 		this.uri = uri;
 		this.exchangeTimeout = exchangeTimeout;
 		this.readTimeout = readTimeout;
+		this.observationRegistry = observationRegistry;
+		this.connectionObservationConvention = connectionObservationConvention;
 	}
 
 
@@ -87,9 +97,18 @@ final class ReactorNettyClientRequest extends AbstractStreamingClientHttpRequest
 
 		requestSender = (this.uri.isAbsolute() ? requestSender.uri(this.uri) : requestSender.uri(this.uri.toString()));
 
+		ConnectionAcquisitionObservation observation = (!this.observationRegistry.isNoop() ?
+				ConnectionAcquisitionObservation.start(this.uri, this.method,
+						this.observationRegistry, this.connectionObservationConvention) : null);
+
 		try {
-			ReactorNettyClientResponse result = requestSender.send((reactorRequest, nettyOutbound) ->
-					send(headers, body, reactorRequest, nettyOutbound))
+			ReactorNettyClientResponse result = requestSender.send((reactorRequest, nettyOutbound) -> {
+						// Invoked once a connection has been acquired for the request
+						if (observation != null) {
+							observation.acquired();
+						}
+						return send(headers, body, reactorRequest, nettyOutbound);
+					})
 					.responseConnection((reactorResponse, connection) ->
 							Mono.just(new ReactorNettyClientResponse(reactorResponse, connection, this.readTimeout)))
 					.next()
@@ -103,6 +122,9 @@ final class ReactorNettyClientRequest extends AbstractStreamingClientHttpRequest
 			}
 		}
 		catch (RuntimeException ex) {
+			if (observation != null) {
+				observation.failed(ex);
+			}
 			throw convertException(ex);
 		}
 	}
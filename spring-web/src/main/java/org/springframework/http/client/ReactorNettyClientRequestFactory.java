@@ -21,6 +21,8 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.function.Function;
 
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.ObservationRegistry;
 import io.netty.channel.ChannelOption;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -30,6 +32,10 @@ import reactor.netty.resources.LoopResources;
 
 import org.springframework.context.SmartLifecycle;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.observation.ClientConnectionObservationContext;
+import org.springframework.http.client.observation.ClientConnectionObservationConvention;
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation;
+import org.springframework.http.client.observation.DefaultClientConnectionObservationConvention;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -63,6 +69,11 @@ public class ReactorNettyClientRequestFactory implements ClientHttpRequestFactor
 
 	private Duration exchangeTimeout = Duration.ofSeconds(5);
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	@Nullable
+	private ClientConnectionObservationConvention connectionObservationConvention;
+
 	@Nullable
 	private volatile HttpClient httpClient;
 
@@ -183,6 +194,37 @@ public class ReactorNettyClientRequestFactory implements ClientHttpRequestFactor
 		this.exchangeTimeout = exchangeTimeout;
 	}
 
+	/**
+	 * Configure an {@link ObservationRegistry} for recording
+	 * {@link ClientHttpObservationDocumentation#HTTP_CLIENT_CONNECTION_ACQUISITION
+	 * connection acquisition} observations, measuring how long requests wait
+	 * for a connection before being sent. This tells apart time spent waiting
+	 * on the client's connection pool from time spent waiting on the server.
+	 * <p>By default, no observations are recorded.
+	 * @param observationRegistry the registry to use
+	 * @since 6.2
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configure an {@link ObservationConvention} that sets the name of the
+	 * connection acquisition observation as well as its
+	 * {@link io.micrometer.common.KeyValues} extracted from the
+	 * {@link ClientConnectionObservationContext}.
+	 * <p>If none set, the {@link DefaultClientConnectionObservationConvention
+	 * default convention} will be used.
+	 * @param observationConvention the observation convention to use
+	 * @since 6.2
+	 * @see #setObservationRegistry(ObservationRegistry)
+	 */
+	public void setConnectionObservationConvention(ClientConnectionObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "ObservationConvention must not be null");
+		this.connectionObservationConvention = observationConvention;
+	}
+
 	private HttpClient createHttpClient(ReactorResourceFactory factory, Function<HttpClient, HttpClient> mapper) {
 		HttpClient httpClient = defaultInitializer.andThen(mapper)
 				.apply(HttpClient.create(factory.getConnectionProvider()));
@@ -201,7 +243,8 @@ public class ReactorNettyClientRequestFactory implements ClientHttpRequestFactor
 			Assert.state(this.resourceFactory != null && this.mapper != null, "Illegal configuration");
 			httpClient = createHttpClient(this.resourceFactory, this.mapper);
 		}
-		return new ReactorNettyClientRequest(httpClient, uri, httpMethod, this.exchangeTimeout, this.readTimeout);
+		return new ReactorNettyClientRequest(httpClient, uri, httpMethod, this.exchangeTimeout, this.readTimeout,
+				this.observationRegistry, this.connectionObservationConvention);
 	}
 
 
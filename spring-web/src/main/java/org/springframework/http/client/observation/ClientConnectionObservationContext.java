@@ -0,0 +1,68 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client.observation;
+
+import java.net.URI;
+
+import io.micrometer.observation.Observation;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Context that holds information for metadata collection during the
+ * {@link ClientHttpObservationDocumentation#HTTP_CLIENT_CONNECTION_ACQUISITION
+ * client HTTP connection acquisition} observations.
+ *
+ * <p>The observation covers the time a request spends waiting for a
+ * connection, either from the client's connection pool or by opening a new
+ * one, until the request can actually be sent.
+ *
+ * @since 6.2
+ */
+public class ClientConnectionObservationContext extends Observation.Context {
+
+	private final URI uri;
+
+	private final HttpMethod method;
+
+
+	/**
+	 * Create an observation context for connection acquisition observations.
+	 * @param uri the URI of the request waiting for a connection
+	 * @param method the HTTP method of the request
+	 */
+	public ClientConnectionObservationContext(URI uri, HttpMethod method) {
+		this.uri = uri;
+		this.method = method;
+	}
+
+
+	/**
+	 * Return the URI of the request waiting for a connection.
+	 */
+	public URI getUri() {
+		return this.uri;
+	}
+
+	/**
+	 * Return the HTTP method of the request waiting for a connection.
+	 */
+	public HttpMethod getMethod() {
+		return this.method;
+	}
+
+}
@@ -55,6 +55,23 @@ public enum ClientHttpObservationDocumentation implements ObservationDocumentati
 		public KeyName[] getHighCardinalityKeyNames() {
 			return new KeyName[] {HighCardinalityKeyNames.HTTP_URL};
 		}
+	},
+
+	/**
+	 * Connection acquisition observations for clients, measuring the time
+	 * requests wait for a pooled or newly opened connection.
+	 * @since 6.2
+	 */
+	HTTP_CLIENT_CONNECTION_ACQUISITION {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultClientConnectionObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return new KeyName[] {LowCardinalityKeyNames.CLIENT_NAME, LowCardinalityKeyNames.EXCEPTION};
+		}
 	};
 
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.util.StringUtils;
+
+/**
+ * Default implementation for a {@link ClientConnectionObservationConvention},
+ * extracting information from the {@link ClientConnectionObservationContext}.
+ *
+ * @since 6.2
+ */
+public class DefaultClientConnectionObservationConvention implements ClientConnectionObservationConvention {
+
+	private static final String DEFAULT_NAME = "http.client.connections.acquire";
+
+	private static final KeyValue CLIENT_NAME_NONE = KeyValue.of(LowCardinalityKeyNames.CLIENT_NAME, KeyValue.NONE_VALUE);
+
+	private static final KeyValue EXCEPTION_NONE = KeyValue.of(LowCardinalityKeyNames.EXCEPTION, KeyValue.NONE_VALUE);
+
+
+	private final String name;
+
+	/**
+	 * Create a convention with the default name {@code "http.client.connections.acquire"}.
+	 */
+	public DefaultClientConnectionObservationConvention() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a convention with a custom name.
+	 * @param name the observation name
+	 */
+	public DefaultClientConnectionObservationConvention(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String getContextualName(ClientConnectionObservationContext context) {
+		return "http connection acquire";
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ClientConnectionObservationContext context) {
+		// Make sure that KeyValues entries are already sorted by name for better performance
+		return KeyValues.of(clientName(context), exception(context));
+	}
+
+	protected KeyValue clientName(ClientConnectionObservationContext context) {
+		String host = context.getUri().getHost();
+		return (host != null ? KeyValue.of(LowCardinalityKeyNames.CLIENT_NAME, host) : CLIENT_NAME_NONE);
+	}
+
+	protected KeyValue exception(ClientConnectionObservationContext context) {
+		Throwable error = context.getError();
+		if (error != null) {
+			String simpleName = error.getClass().getSimpleName();
+			return KeyValue.of(LowCardinalityKeyNames.EXCEPTION,
+					StringUtils.hasText(simpleName) ? simpleName : error.getClass().getName());
+		}
+		return EXCEPTION_NONE;
+	}
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Clock;
+
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ClientHttpRequestInterceptor} that acts as a private HTTP cache,
+ * following the rules of <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>,
+ * for use with {@link org.springframework.web.client.RestClient RestClient} and
+ * {@link org.springframework.web.client.RestTemplate RestTemplate}.
+ *
+ * <p>Responses to {@code GET} requests are stored as {@link HttpCacheEntry}
+ * instances in the given {@link Cache}, keyed by request URI. Fresh entries
+ * are served without contacting the server; stale entries with validators
+ * are revalidated with a conditional request, and may be served in place of
+ * an I/O error or a {@code 5xx} response if {@code stale-if-error} allows it.
+ * Successful responses to unsafe methods such as {@code POST} or
+ * {@code DELETE} invalidate the entry for their URI.
+ *
+ * <p>Only a single variant is stored per URI: a response selected with a
+ * {@code Vary} header is replaced by the next response for a request with
+ * different values for the nominated headers.
+ *
+ * <p>Bodies of stored responses are held in memory. Responses with a body
+ * larger than the {@linkplain #setMaxEntrySize maximum entry size} are
+ * passed through without being stored.
+ *
+ * @since 6.2
+ * @see HttpCacheEntry
+ */
+public class CachingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	private static final int DEFAULT_MAX_ENTRY_SIZE = 256 * 1024;
+
+
+	private final Cache cache;
+
+	private Clock clock = Clock.systemUTC();
+
+	private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+
+
+	/**
+	 * Create a new interceptor that stores responses in the given cache.
+	 * @param cache the cache to use
+	 */
+	public CachingClientHttpRequestInterceptor(Cache cache) {
+		Assert.notNull(cache, "Cache must not be null");
+		this.cache = cache;
+	}
+
+
+	/**
+	 * Set the {@link Clock} to use to compute the age of stored responses.
+	 * <p>By default, this is {@link Clock#systemUTC()}.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Return the configured {@link Clock}.
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Set the maximum number of bytes of a response body to store in the cache.
+	 * Responses with a larger {@code Content-Length}, or with a body that turns
+	 * out to be larger while it is being read, are passed through without being
+	 * stored.
+	 * <p>By default, this is set to 256K. Set it to -1 for no limit.
+	 * @param maxEntrySize the maximum size in bytes, or -1 for no limit
+	 */
+	public void setMaxEntrySize(int maxEntrySize) {
+		Assert.isTrue(maxEntrySize >= -1, "Max entry size must be -1 or larger");
+		this.maxEntrySize = maxEntrySize;
+	}
+
+	/**
+	 * Return the configured maximum entry size.
+	 */
+	public int getMaxEntrySize() {
+		return this.maxEntrySize;
+	}
+
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		HttpMethod method = request.getMethod();
+		HttpHeaders requestHeaders = request.getHeaders();
+		String key = getCacheKey(request);
+
+		if (!HttpCacheEntry.isCacheableRequest(method, requestHeaders)) {
+			ClientHttpResponse response = execution.execute(request, body);
+			if (isUnsafe(method) && !response.getStatusCode().isError()) {
+				this.cache.evict(key);
+			}
+			return response;
+		}
+
+		HttpCacheEntry entry = this.cache.get(key, HttpCacheEntry.class);
+		if (entry != null && !entry.matches(requestHeaders)) {
+			entry = null;
+		}
+		if (entry != null && entry.isFresh(requestHeaders, this.clock.millis())) {
+			return new CachedClientHttpResponse(entry, this.clock.millis());
+		}
+
+		HttpRequest requestToUse = request;
+		if (entry != null && entry.hasValidators()) {
+			HttpHeaders conditionalHeaders = new HttpHeaders();
+			conditionalHeaders.addAll(requestHeaders);
+			entry.applyConditionalHeaders(conditionalHeaders);
+			requestToUse = new HttpRequestWrapper(request) {
+				@Override
+				public HttpHeaders getHeaders() {
+					return conditionalHeaders;
+				}
+			};
+		}
+
+		long requestTime = this.clock.millis();
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(requestToUse, body);
+		}
+		catch (IOException ex) {
+			if (entry != null && entry.isStaleIfErrorAllowed(requestHeaders, this.clock.millis())) {
+				return new CachedClientHttpResponse(entry, this.clock.millis());
+			}
+			throw ex;
+		}
+		long responseTime = this.clock.millis();
+		int statusCode = response.getStatusCode().value();
+
+		if (entry != null) {
+			if (statusCode == HttpStatus.NOT_MODIFIED.value()) {
+				HttpCacheEntry updated = entry.revalidate(response.getHeaders(), requestTime, responseTime);
+				response.close();
+				this.cache.put(key, updated);
+				return new CachedClientHttpResponse(updated, responseTime);
+			}
+			if (HttpCacheEntry.isStaleIfErrorStatus(statusCode) &&
+					entry.isStaleIfErrorAllowed(requestHeaders, responseTime)) {
+				response.close();
+				return new CachedClientHttpResponse(entry, responseTime);
+			}
+		}
+
+		if (HttpCacheEntry.isCacheableResponse(statusCode, response.getHeaders()) &&
+				!exceedsMaxEntrySize(response.getHeaders().getContentLength())) {
+			byte[] responseBody;
+			try {
+				responseBody = readBody(response.getBody());
+			}
+			catch (IOException ex) {
+				response.close();
+				throw ex;
+			}
+			if (!exceedsMaxEntrySize(responseBody.length)) {
+				response.close();
+				HttpCacheEntry created = HttpCacheEntry.create(
+						requestHeaders, statusCode, response.getHeaders(), responseBody, requestTime, responseTime);
+				this.cache.put(key, created);
+				return new CachedClientHttpResponse(created, responseTime);
+			}
+			// Too large to store: pass through what has been read along with the rest
+			if (entry != null) {
+				this.cache.evict(key);
+			}
+			return new PartiallyReadClientHttpResponse(response, responseBody);
+		}
+
+		if (entry != null) {
+			this.cache.evict(key);
+		}
+		return response;
+	}
+
+	/**
+	 * Return the cache key for the given request.
+	 * <p>By default, this is the String representation of the request URI.
+	 * @param request the request
+	 * @return the key to use
+	 */
+	protected String getCacheKey(HttpRequest request) {
+		return request.getURI().toString();
+	}
+
+	private boolean exceedsMaxEntrySize(long size) {
+		return (this.maxEntrySize >= 0 && size > this.maxEntrySize);
+	}
+
+	private byte[] readBody(InputStream body) throws IOException {
+		int limit = this.maxEntrySize;
+		// Read one byte more than the limit, to detect a body that exceeds it
+		return (limit >= 0 && limit < Integer.MAX_VALUE ? body.readNBytes(limit + 1) : body.readAllBytes());
+	}
+
+	private static boolean isUnsafe(HttpMethod method) {
+		return !(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) ||
+				HttpMethod.OPTIONS.equals(method) || HttpMethod.TRACE.equals(method));
+	}
+
+
+	/**
+	 * {@link ClientHttpResponse} for a response served from the cache.
+	 */
+	private static class CachedClientHttpResponse implements ClientHttpResponse {
+
+		private final HttpStatusCode statusCode;
+
+		private final HttpHeaders headers;
+
+		private final byte[] body;
+
+		CachedClientHttpResponse(HttpCacheEntry entry, long now) {
+			this.statusCode = HttpStatusCode.valueOf(entry.getStatusCode());
+			this.headers = entry.getResponseHeaders(now);
+			this.body = entry.getBody();
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() {
+			return this.statusCode;
+		}
+
+		@Override
+		public String getStatusText() {
+			return (this.statusCode instanceof HttpStatus status ? status.getReasonPhrase() : "");
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public InputStream getBody() {
+			return new ByteArrayInputStream(this.body);
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+
+	/**
+	 * {@link ClientHttpResponse} for a response that is not stored since its
+	 * body exceeds the maximum entry size, exposing the already read part of
+	 * the body followed by the remaining content.
+	 */
+	private static class PartiallyReadClientHttpResponse implements ClientHttpResponse {
+
+		private final ClientHttpResponse delegate;
+
+		private final InputStream body;
+
+		PartiallyReadClientHttpResponse(ClientHttpResponse delegate, byte[] readBody) throws IOException {
+			this.delegate = delegate;
+			this.body = new SequenceInputStream(new ByteArrayInputStream(readBody), delegate.getBody());
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() throws IOException {
+			return this.delegate.getStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return this.delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.delegate.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() {
+			return this.body;
+		}
+
+		@Override
+		public void close() {
+			this.delegate.close();
+		}
+	}
+
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client.support;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+
+/**
+ * A response stored by a private, client-side HTTP cache, along with the
+ * caching rules from <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>
+ * that apply to it: freshness based on {@code max-age} or {@code Expires},
+ * {@code Age} calculation, validation through {@code ETag} and
+ * {@code Last-Modified}, {@code Vary} matching, and the {@code stale-if-error}
+ * extension from <a href="https://www.rfc-editor.org/rfc/rfc5861">RFC 5861</a>.
+ *
+ * <p>Entries are immutable and {@link Serializable}, so they can be kept in
+ * any {@link org.springframework.cache.Cache} implementation. No heuristic
+ * freshness is applied: responses without explicit expiration information
+ * are only stored if they carry a validator, and are revalidated on each use.
+ *
+ * <p>All times are expressed in milliseconds since the epoch.
+ *
+ * @since 6.2
+ * @see CachingClientHttpRequestInterceptor
+ */
+public final class HttpCacheEntry implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final Set<Integer> CACHEABLE_STATUS_CODES =
+			Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501);
+
+	private static final Set<Integer> STALE_IF_ERROR_STATUS_CODES = Set.of(500, 502, 503, 504);
+
+	private static final List<String> CONDITIONAL_REQUEST_HEADERS = List.of(HttpHeaders.IF_MATCH,
+			HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_UNMODIFIED_SINCE,
+			HttpHeaders.IF_RANGE, HttpHeaders.RANGE);
+
+
+	private final int statusCode;
+
+	private final HttpHeaders headers;
+
+	private final byte[] body;
+
+	private final long requestTime;
+
+	private final long responseTime;
+
+	private final Map<String, List<String>> varyValues;
+
+
+	private HttpCacheEntry(int statusCode, HttpHeaders headers, byte[] body,
+			long requestTime, long responseTime, Map<String, List<String>> varyValues) {
+
+		this.statusCode = statusCode;
+		this.headers = headers;
+		this.body = body;
+		this.requestTime = requestTime;
+		this.responseTime = responseTime;
+		this.varyValues = varyValues;
+	}
+
+
+	/**
+	 * Return the status code of the stored response.
+	 */
+	public int getStatusCode() {
+		return this.statusCode;
+	}
+
+	/**
+	 * Return the headers of the stored response, as received.
+	 * @see #getResponseHeaders(long)
+	 */
+	public HttpHeaders getHeaders() {
+		return HttpHeaders.readOnlyHttpHeaders(this.headers);
+	}
+
+	/**
+	 * Return the headers to use when serving the stored response at the given
+	 * time, that is the stored headers with an up-to-date {@code Age} header.
+	 * @param now the current time
+	 */
+	public HttpHeaders getResponseHeaders(long now) {
+		HttpHeaders result = new HttpHeaders();
+		result.addAll(this.headers);
+		result.set(HttpHeaders.AGE, Long.toString(getCurrentAge(now) / 1000));
+		return result;
+	}
+
+	/**
+	 * Return the body of the stored response.
+	 */
+	public byte[] getBody() {
+		return this.body;
+	}
+
+	/**
+	 * Whether the stored response is suitable for a request with the given
+	 * headers, as far as the response {@code Vary} header is concerned.
+	 * @param requestHeaders the headers of the new request
+	 */
+	public boolean matches(HttpHeaders requestHeaders) {
+		for (Map.Entry<String, List<String>> entry : this.varyValues.entrySet()) {
+			if (!Objects.equals(entry.getValue(), requestHeaders.get(entry.getKey()))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return the current age of the stored response, as defined in
+	 * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2.3">RFC 9111, section 4.2.3</a>.
+	 * @param now the current time
+	 */
+	public long getCurrentAge(long now) {
+		long date = getDate(this.headers);
+		long apparentAge = (date != -1 ? Math.max(0, this.responseTime - date) : 0);
+		long responseDelay = this.responseTime - this.requestTime;
+		long correctedAgeValue = getAgeValue(this.headers) + responseDelay;
+		long correctedInitialAge = Math.max(apparentAge, correctedAgeValue);
+		return correctedInitialAge + Math.max(0, now - this.responseTime);
+	}
+
+	/**
+	 * Return the freshness lifetime of the stored response, as defined in
+	 * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2.1">RFC 9111, section 4.2.1</a>,
+	 * or 0 if the response must be revalidated before each use.
+	 */
+	public long getFreshnessLifetime() {
+		Map<String, String> directives = getCacheControl(this.headers);
+		if (directives.containsKey("no-cache")) {
+			return 0;
+		}
+		long maxAge = getSeconds(directives, "max-age");
+		if (maxAge != -1) {
+			return maxAge * 1000;
+		}
+		long expires = this.headers.getExpires();
+		if (expires != -1) {
+			long date = getDate(this.headers);
+			return Math.max(0, expires - (date != -1 ? date : this.responseTime));
+		}
+		return 0;
+	}
+
+	/**
+	 * Whether the stored response can be served without validation for a
+	 * request with the given headers, taking the request {@code max-age},
+	 * {@code min-fresh}, {@code max-stale} and {@code no-cache} directives
+	 * into account.
+	 * @param requestHeaders the headers of the new request
+	 * @param now the current time
+	 */
+	public boolean isFresh(HttpHeaders requestHeaders, long now) {
+		Map<String, String> requestDirectives = getCacheControl(requestHeaders);
+		if (requestDirectives.containsKey("no-cache")) {
+			return false;
+		}
+		long age = getCurrentAge(now);
+		long maxAge = getSeconds(requestDirectives, "max-age");
+		if (maxAge != -1 && age > maxAge * 1000) {
+			return false;
+		}
+		long remaining = getFreshnessLifetime() - age;
+		long minFresh = getSeconds(requestDirectives, "min-fresh");
+		if (minFresh != -1) {
+			return remaining >= minFresh * 1000;
+		}
+		if (remaining > 0) {
+			return true;
+		}
+		if (requestDirectives.containsKey("max-stale") && !mustRevalidate()) {
+			long maxStale = getSeconds(requestDirectives, "max-stale");
+			return (maxStale == -1 || -remaining <= maxStale * 1000);
+		}
+		return false;
+	}
+
+	/**
+	 * Whether the stored response may be served in place of an error, as
+	 * allowed by a {@code stale-if-error} directive on either the request
+	 * or the stored response.
+	 * @param requestHeaders the headers of the new request
+	 * @param now the current time
+	 * @see #isStaleIfErrorStatus(int)
+	 */
+	public boolean isStaleIfErrorAllowed(HttpHeaders requestHeaders, long now) {
+		if (mustRevalidate()) {
+			return false;
+		}
+		long window = Math.max(getSeconds(getCacheControl(requestHeaders), "stale-if-error"),
+				getSeconds(getCacheControl(this.headers), "stale-if-error"));
+		if (window == -1) {
+			return false;
+		}
+		long staleness = getCurrentAge(now) - getFreshnessLifetime();
+		return staleness <= window * 1000;
+	}
+
+	/**
+	 * Whether the stored response has an {@code ETag} or a
+	 * {@code Last-Modified} header to validate it with.
+	 */
+	public boolean hasValidators() {
+		return hasValidators(this.headers);
+	}
+
+	/**
+	 * Add conditional request headers to validate the stored response,
+	 * i.e. {@code If-None-Match} and {@code If-Modified-Since}.
+	 * @param requestHeaders the headers of the request to send
+	 */
+	public void applyConditionalHeaders(HttpHeaders requestHeaders) {
+		String etag = this.headers.getETag();
+		if (etag != null) {
+			requestHeaders.set(HttpHeaders.IF_NONE_MATCH, etag);
+		}
+		String lastModified = this.headers.getFirst(HttpHeaders.LAST_MODIFIED);
+		if (lastModified != null) {
+			requestHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+		}
+	}
+
+	/**
+	 * Return a new entry for the stored response, updated with the headers
+	 * of a {@code 304 Not Modified} response that validated it.
+	 * @param notModifiedHeaders the headers of the {@code 304} response
+	 * @param requestTime the time the validation request was sent
+	 * @param responseTime the time the validation response was received
+	 */
+	public HttpCacheEntry revalidate(HttpHeaders notModifiedHeaders, long requestTime, long responseTime) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.addAll(this.headers);
+		notModifiedHeaders.forEach((name, values) -> {
+			if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+				headers.put(name, values);
+			}
+		});
+		if (!notModifiedHeaders.containsKey(HttpHeaders.AGE)) {
+			headers.remove(HttpHeaders.AGE);
+		}
+		return new HttpCacheEntry(this.statusCode, headers, this.body, requestTime, responseTime, this.varyValues);
+	}
+
+	private boolean mustRevalidate() {
+		Map<String, String> directives = getCacheControl(this.headers);
+		return (directives.containsKey("must-revalidate") || directives.containsKey("proxy-revalidate"));
+	}
+
+
+	/**
+	 * Whether a request may be answered from, and its response stored in,
+	 * a cache: only {@code GET} requests without {@code no-store} directive,
+	 * and without conditional or range headers set by the caller, qualify.
+	 * @param method the request method
+	 * @param requestHeaders the request headers
+	 */
+	public static boolean isCacheableRequest(HttpMethod method, HttpHeaders requestHeaders) {
+		if (!HttpMethod.GET.equals(method) || getCacheControl(requestHeaders).containsKey("no-store")) {
+			return false;
+		}
+		for (String headerName : CONDITIONAL_REQUEST_HEADERS) {
+			if (requestHeaders.containsKey(headerName)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether a response may be stored, based on its status code and on
+	 * the presence of explicit expiration information or validators.
+	 * @param statusCode the response status code
+	 * @param responseHeaders the response headers
+	 */
+	public static boolean isCacheableResponse(int statusCode, HttpHeaders responseHeaders) {
+		if (!CACHEABLE_STATUS_CODES.contains(statusCode)) {
+			return false;
+		}
+		Map<String, String> directives = getCacheControl(responseHeaders);
+		if (directives.containsKey("no-store") || responseHeaders.getVary().contains("*")) {
+			return false;
+		}
+		return (directives.containsKey("max-age") || responseHeaders.containsKey(HttpHeaders.EXPIRES) ||
+				hasValidators(responseHeaders));
+	}
+
+	/**
+	 * Whether the given status code is an error for which a stale response
+	 * may be served, provided that {@link #isStaleIfErrorAllowed} applies.
+	 * @param statusCode the response status code
+	 */
+	public static boolean isStaleIfErrorStatus(int statusCode) {
+		return STALE_IF_ERROR_STATUS_CODES.contains(statusCode);
+	}
+
+	/**
+	 * Create a new entry for the given response.
+	 * @param requestHeaders the headers of the request the response is for
+	 * @param statusCode the response status code
+	 * @param responseHeaders the response headers
+	 * @param body the response body
+	 * @param requestTime the time the request was sent
+	 * @param responseTime the time the response was received
+	 * @see #isCacheableResponse(int, HttpHeaders)
+	 */
+	public static HttpCacheEntry create(HttpHeaders requestHeaders, int statusCode, HttpHeaders responseHeaders,
+			byte[] body, long requestTime, long responseTime) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.addAll(responseHeaders);
+		Map<String, List<String>> varyValues = Collections.emptyMap();
+		List<String> vary = responseHeaders.getVary();
+		if (!vary.isEmpty()) {
+			varyValues = new LinkedHashMap<>(vary.size());
+			for (String headerName : vary) {
+				varyValues.put(headerName, requestHeaders.get(headerName));
+			}
+		}
+		return new HttpCacheEntry(statusCode, headers, body, requestTime, responseTime, varyValues);
+	}
+
+	private static boolean hasValidators(HttpHeaders headers) {
+		return (headers.containsKey(HttpHeaders.ETAG) || headers.containsKey(HttpHeaders.LAST_MODIFIED));
+	}
+
+	private static Map<String, String> getCacheControl(HttpHeaders headers) {
+		List<String> values = headers.get(HttpHeaders.CACHE_CONTROL);
+		if (values == null || values.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> directives = new LinkedHashMap<>();
+		for (String value : values) {
+			for (String directive : StringUtils.tokenizeToStringArray(value, ",")) {
+				int index = directive.indexOf('=');
+				if (index != -1) {
+					String name = directive.substring(0, index).trim().toLowerCase(Locale.ROOT);
+					String argument = StringUtils.trimAllWhitespace(directive.substring(index + 1));
+					directives.put(name, StringUtils.trimTrailingCharacter(
+							StringUtils.trimLeadingCharacter(argument, '"'), '"'));
+				}
+				else {
+					directives.put(directive.toLowerCase(Locale.ROOT), "");
+				}
+			}
+		}
+		return directives;
+	}
+
+	private static long getSeconds(Map<String, String> directives, String name) {
+		String value = directives.get(name);
+		if (!StringUtils.hasLength(value)) {
+			return -1;
+		}
+		try {
+			return Math.max(0, Long.parseLong(value));
+		}
+		catch (NumberFormatException ex) {
+			return -1;
+		}
+	}
+
+	private static long getDate(HttpHeaders headers) {
+		try {
+			return headers.getDate();
+		}
+		catch (IllegalArgumentException ex) {
+			return -1;
+		}
+	}
+
+	private static long getAgeValue(HttpHeaders headers) {
+		String age = headers.getFirst(HttpHeaders.AGE);
+		if (age != null) {
+			try {
+				return Math.max(0, Long.parseLong(age.trim())) * 1000;
+			}
+			catch (NumberFormatException ex) {
+				// ignore
+			}
+		}
+		return 0;
+	}
+
+}
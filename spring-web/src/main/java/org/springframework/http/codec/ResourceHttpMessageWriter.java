@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,7 @@ import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.MappedFileCache;
 import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpLogging;
@@ -92,6 +93,30 @@ public class ResourceHttpMessageWriter implements HttpMessageWriter<Resource> {
 	}
 
 
+	/**
+	 * Set a {@link MappedFileCache} to read file-based resources and resource
+	 * regions through memory-mapped regions, when they cannot be written with
+	 * {@link ZeroCopyHttpOutputMessage zero-copy} file transfer.
+	 * <p>By default, this is not set.
+	 * @since 6.2
+	 * @see ResourceEncoder#setMappedFileCache
+	 * @see ResourceRegionEncoder#setMappedFileCache
+	 */
+	public void setMappedFileCache(@Nullable MappedFileCache mappedFileCache) {
+		this.encoder.setMappedFileCache(mappedFileCache);
+		this.regionEncoder.setMappedFileCache(mappedFileCache);
+	}
+
+	/**
+	 * Return the configured {@link MappedFileCache}, if any.
+	 * @since 6.2
+	 */
+	@Nullable
+	public MappedFileCache getMappedFileCache() {
+		return this.encoder.getMappedFileCache();
+	}
+
+
 	@Override
 	public boolean canWrite(ResolvableType elementType, @Nullable MediaType mediaType) {
 		return this.encoder.canEncode(elementType, mediaType);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.http.codec;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +64,11 @@ public class ServerSentEventHttpMessageWriter implements HttpMessageWriter<Objec
 	@Nullable
 	private final Encoder<?> encoder;
 
+	private int maxEventsPerFlush = 1;
+
+	@Nullable
+	private Duration maxFlushDelay;
+
 
 	/**
 	 * Constructor without an {@code Encoder}. In this mode only {@code String}
@@ -90,6 +96,43 @@ public class ServerSentEventHttpMessageWriter implements HttpMessageWriter<Objec
 		return this.encoder;
 	}
 
+	/**
+	 * Flush up to the given number of events at once, holding back each event
+	 * for no longer than the given delay, in order to reduce the number of
+	 * network writes for streams of many small events.
+	 * <p>Within a batch, comment-only events, as typically sent as heartbeats,
+	 * are dropped in favor of other events that keep the connection alive.
+	 * <p>By default, every event is flushed as soon as it is written.
+	 * @param maxEvents the maximum number of events per flush
+	 * @param maxDelay the maximum time to hold back an event
+	 * @since 6.2
+	 */
+	public void setFlushBatching(int maxEvents, Duration maxDelay) {
+		Assert.isTrue(maxEvents > 0, "maxEvents must be greater than 0");
+		Assert.notNull(maxDelay, "maxDelay must not be null");
+		Assert.isTrue(!maxDelay.isNegative() && !maxDelay.isZero(), "maxDelay must be positive");
+		this.maxEventsPerFlush = maxEvents;
+		this.maxFlushDelay = maxDelay;
+	}
+
+	/**
+	 * Return the maximum number of events per flush.
+	 * @since 6.2
+	 */
+	public int getMaxEventsPerFlush() {
+		return this.maxEventsPerFlush;
+	}
+
+	/**
+	 * Return the maximum time an event is held back before it is flushed,
+	 * if {@linkplain #setFlushBatching batching} is configured.
+	 * @since 6.2
+	 */
+	@Nullable
+	public Duration getMaxFlushDelay() {
+		return this.maxFlushDelay;
+	}
+
 	@Override
 	public List<MediaType> getWritableMediaTypes() {
 		return WRITABLE_MEDIA_TYPES;
@@ -119,47 +162,75 @@ public class ServerSentEventHttpMessageWriter implements HttpMessageWriter<Objec
 		ResolvableType dataType = (ServerSentEvent.class.isAssignableFrom(elementType.toClass()) ?
 				elementType.getGeneric() : elementType);
 
-		return Flux.from(input).map(element -> {
+		Flux<ServerSentEvent<?>> events = Flux.from(input).<ServerSentEvent<?>>map(element ->
+				element instanceof ServerSentEvent<?> serverSentEvent ?
+						serverSentEvent : ServerSentEvent.builder().data(element).build());
 
-			ServerSentEvent<?> sse = (element instanceof ServerSentEvent<?> serverSentEvent ?
-					serverSentEvent : ServerSentEvent.builder().data(element).build());
+		Duration maxDelay = this.maxFlushDelay;
+		if (this.maxEventsPerFlush == 1 || maxDelay == null) {
+			return events.map(sse -> encode(sse, dataType, mediaType, factory, hints));
+		}
+		return events.bufferTimeout(this.maxEventsPerFlush, maxDelay, true)
+				.map(batch -> Flux.fromIterable(coalesceHeartbeats(batch))
+						.concatMap(sse -> encode(sse, dataType, mediaType, factory, hints)));
+	}
 
-			StringBuilder sb = new StringBuilder();
-			String id = sse.id();
-			String event = sse.event();
-			Duration retry = sse.retry();
-			String comment = sse.comment();
-			Object data = sse.data();
-			if (id != null) {
-				writeField("id", id, sb);
-			}
-			if (event != null) {
-				writeField("event", event, sb);
-			}
-			if (retry != null) {
-				writeField("retry", retry.toMillis(), sb);
-			}
-			if (comment != null) {
-				sb.append(':').append(StringUtils.replace(comment, "\n", "\n:")).append('\n');
-			}
-			if (data != null) {
-				sb.append("data:");
-			}
+	private Flux<DataBuffer> encode(ServerSentEvent<?> sse, ResolvableType dataType,
+			MediaType mediaType, DataBufferFactory factory, Map<String, Object> hints) {
 
-			Flux<DataBuffer> result;
-			if (data == null) {
-				result = Flux.just(encodeText(sb + "\n", mediaType, factory));
-			}
-			else if (data instanceof String text) {
-				text = StringUtils.replace(text, "\n", "\ndata:");
-				result = Flux.just(encodeText(sb + text + "\n\n", mediaType, factory));
-			}
-			else {
-				result = encodeEvent(sb, data, dataType, mediaType, factory, hints);
+		StringBuilder sb = new StringBuilder();
+		String id = sse.id();
+		String event = sse.event();
+		Duration retry = sse.retry();
+		String comment = sse.comment();
+		Object data = sse.data();
+		if (id != null) {
+			writeField("id", id, sb);
+		}
+		if (event != null) {
+			writeField("event", event, sb);
+		}
+		if (retry != null) {
+			writeField("retry", retry.toMillis(), sb);
+		}
+		if (comment != null) {
+			sb.append(':').append(StringUtils.replace(comment, "\n", "\n:")).append('\n');
+		}
+		if (data != null) {
+			sb.append("data:");
+		}
+
+		Flux<DataBuffer> result;
+		if (data == null) {
+			result = Flux.just(encodeText(sb + "\n", mediaType, factory));
+		}
+		else if (data instanceof String text) {
+			text = StringUtils.replace(text, "\n", "\ndata:");
+			result = Flux.just(encodeText(sb + text + "\n\n", mediaType, factory));
+		}
+		else {
+			result = encodeEvent(sb, data, dataType, mediaType, factory, hints);
+		}
+
+		return result.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	private static List<ServerSentEvent<?>> coalesceHeartbeats(List<ServerSentEvent<?>> batch) {
+		if (batch.size() == 1) {
+			return batch;
+		}
+		List<ServerSentEvent<?>> result = new ArrayList<>(batch.size());
+		for (ServerSentEvent<?> sse : batch) {
+			if (!isHeartbeat(sse)) {
+				result.add(sse);
 			}
+		}
+		return (!result.isEmpty() ? result : batch.subList(batch.size() - 1, batch.size()));
+	}
 
-			return result.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
-		});
+	private static boolean isHeartbeat(ServerSentEvent<?> sse) {
+		return (sse.comment() != null && sse.data() == null && sse.id() == null &&
+				sse.event() == null && sse.retry() == null);
 	}
 
 	@SuppressWarnings("unchecked")
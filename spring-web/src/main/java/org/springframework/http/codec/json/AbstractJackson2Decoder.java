@@ -182,17 +182,61 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		return Flux.from(input);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>If the {@link ObjectMapper} supports non-blocking parsing, each
+	 * {@code DataBuffer} is fed to the parser and released as it is received,
+	 * rather than joining the entire input into a single buffer first.
+	 */
 	@Override
 	public Mono<Object> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
+		ObjectMapper mapper = selectObjectMapper(elementType, mimeType);
+		if (mapper == null) {
+			return Mono.error(new IllegalStateException("No ObjectMapper for " + elementType));
+		}
+
+		if (!mapper.getFactory().canParseAsync()) {
+			return Mono.deferContextual(contextView -> {
+
+				Map<String, Object> hintsToUse = contextView.isEmpty() ? hints :
+						Hints.merge(hints, ContextView.class.getName(), contextView);
+
+				return DataBufferUtils.join(input, this.maxInMemorySize).flatMap(dataBuffer ->
+						Mono.justOrEmpty(decode(dataBuffer, elementType, mimeType, hintsToUse)));
+			});
+		}
+
+		boolean forceUseOfBigDecimal = mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+		if (BigDecimal.class.equals(elementType.getType())) {
+			forceUseOfBigDecimal = true;
+		}
+
+		Flux<DataBuffer> processed = processInput(input, elementType, mimeType, hints);
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(processed, mapper.getFactory(), mapper,
+				false, forceUseOfBigDecimal, getMaxInMemorySize());
+
 		return Mono.deferContextual(contextView -> {
 
 			Map<String, Object> hintsToUse = contextView.isEmpty() ? hints :
 					Hints.merge(hints, ContextView.class.getName(), contextView);
 
-			return DataBufferUtils.join(input, this.maxInMemorySize).flatMap(dataBuffer ->
-					Mono.justOrEmpty(decode(dataBuffer, elementType, mimeType, hintsToUse)));
+			ObjectReader reader = createObjectReader(mapper, elementType, hintsToUse);
+
+			// Keep the first top-level value, consistent with reading from a joined buffer
+			return tokens.reduce((first, next) -> first).handle((tokenBuffer, sink) -> {
+				try {
+					Object value = reader.readValue(tokenBuffer.asParser(mapper));
+					logValue(value, hints);
+					if (value != null) {
+						sink.next(value);
+					}
+				}
+				catch (IOException ex) {
+					sink.error(processException(ex));
+				}
+			});
 		});
 	}
 
@@ -230,9 +274,7 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		JavaType javaType = getJavaType(elementType.getType(), contextClass);
 		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) : null);
 
-		ObjectReader objectReader = (jsonView != null ?
-				mapper.readerWithView(jsonView).forType(javaType) :
-				mapper.readerFor(javaType));
+		ObjectReader objectReader = getObjectReader(mapper, javaType, jsonView);
 
 		return customizeReader(objectReader, elementType, hints);
 	}
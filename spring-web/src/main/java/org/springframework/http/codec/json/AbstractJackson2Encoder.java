@@ -339,10 +339,7 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		if (jsonView == null && hints != null) {
 			jsonView = (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT);
 		}
-		ObjectWriter writer = (jsonView != null ? mapper.writerWithView(jsonView) : mapper.writer());
-		if (javaType.isContainerType()) {
-			writer = writer.forType(javaType);
-		}
+		ObjectWriter writer = getObjectWriter(mapper, (javaType.isContainerType() ? javaType : null), jsonView);
 		return customizeWriter(writer, mimeType, valueType, hints);
 	}
 
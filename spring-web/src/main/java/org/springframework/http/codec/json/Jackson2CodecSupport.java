@@ -30,6 +30,8 @@ import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.commons.logging.Log;
 
 import org.springframework.core.GenericTypeResolver;
@@ -39,6 +41,7 @@ import org.springframework.core.codec.Hints;
 import org.springframework.http.HttpLogging;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ReaderWriterCache;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.Nullable;
@@ -90,6 +93,8 @@ public abstract class Jackson2CodecSupport {
 
 	private final List<MimeType> mimeTypes;
 
+	private final Jackson2ReaderWriterCache readerWriterCache = new Jackson2ReaderWriterCache();
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -109,6 +114,7 @@ public abstract class Jackson2CodecSupport {
 	public void setObjectMapper(ObjectMapper objectMapper) {
 		Assert.notNull(objectMapper, "ObjectMapper must not be null");
 		this.defaultObjectMapper = objectMapper;
+		this.readerWriterCache.clear();
 	}
 
 	/**
@@ -141,6 +147,7 @@ public abstract class Jackson2CodecSupport {
 		Map<MimeType, ObjectMapper> registrations =
 				this.objectMapperRegistrations.computeIfAbsent(clazz, c -> new LinkedHashMap<>());
 		registrar.accept(registrations);
+		this.readerWriterCache.clear();
 	}
 
 	/**
@@ -230,6 +237,26 @@ public abstract class Jackson2CodecSupport {
 		return this.defaultObjectMapper.constructType(GenericTypeResolver.resolveType(type, contextClass));
 	}
 
+	/**
+	 * Return an {@link ObjectReader} for the given mapper, target type and
+	 * JSON view, reusing a previously created instance where possible.
+	 * <p>Readers are immutable and thread-safe, so they are cached in a bounded
+	 * cache that is keyed by the current configuration of the {@code ObjectMapper}.
+	 * @see Jackson2ReaderWriterCache
+	 */
+	ObjectReader getObjectReader(ObjectMapper mapper, JavaType javaType, @Nullable Class<?> jsonView) {
+		return this.readerWriterCache.getReader(mapper, javaType, jsonView);
+	}
+
+	/**
+	 * Return an {@link ObjectWriter} for the given mapper, root type and
+	 * JSON view, reusing a previously created instance where possible.
+	 * @see #getObjectReader(ObjectMapper, JavaType, Class)
+	 */
+	ObjectWriter getObjectWriter(ObjectMapper mapper, @Nullable JavaType javaType, @Nullable Class<?> jsonView) {
+		return this.readerWriterCache.getWriter(mapper, javaType, jsonView);
+	}
+
 	protected Map<String, Object> getHints(ResolvableType resolvableType) {
 		MethodParameter param = getParameter(resolvableType);
 		if (param != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -219,6 +219,11 @@ abstract class DefaultParts {
 			return this.content.transferTo(dest);
 		}
 
+		@Override
+		public Mono<Void> moveTo(Path dest) {
+			return this.content.moveTo(dest);
+		}
+
 		@Override
 		public String toString() {
 			ContentDisposition contentDisposition = headers().getContentDisposition();
@@ -243,6 +248,8 @@ abstract class DefaultParts {
 
 		Mono<Void> transferTo(Path dest);
 
+		Mono<Void> moveTo(Path dest);
+
 		Mono<Void> delete();
 	}
 
@@ -268,6 +275,11 @@ abstract class DefaultParts {
 			return DataBufferUtils.write(this.content, dest);
 		}
 
+		@Override
+		public Mono<Void> moveTo(Path dest) {
+			return transferTo(dest);
+		}
+
 		@Override
 		public Mono<Void> delete() {
 			return Mono.empty();
@@ -280,7 +292,10 @@ abstract class DefaultParts {
 	 */
 	private static final class FileContent implements Content {
 
-		private final Path file;
+		private volatile Path file;
+
+		/** Whether the file is still owned by the part, i.e. has not been moved. */
+		private volatile boolean owned = true;
 
 		private final Scheduler scheduler;
 
@@ -302,10 +317,22 @@ abstract class DefaultParts {
 			return blockingOperation(() -> Files.copy(this.file, dest, StandardCopyOption.REPLACE_EXISTING));
 		}
 
+		@Override
+		public Mono<Void> moveTo(Path dest) {
+			return blockingOperation(() -> {
+				Files.move(this.file, dest, StandardCopyOption.REPLACE_EXISTING);
+				this.file = dest;
+				this.owned = false;
+				return null;
+			});
+		}
+
 		@Override
 		public Mono<Void> delete() {
 			return blockingOperation(() -> {
-				Files.delete(this.file);
+				if (this.owned) {
+					Files.delete(this.file);
+				}
 				return null;
 			});
 		}
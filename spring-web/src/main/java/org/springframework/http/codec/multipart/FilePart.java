@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -72,4 +72,20 @@ public interface FilePart extends Part {
 	 */
 	Mono<Void> transferTo(Path dest);
 
+	/**
+	 * Move the content of the file in this part to the given destination
+	 * file, replacing it if it already exists. For parts stored in a
+	 * temporary file, this renames the file rather than copying its content,
+	 * if the destination is on the same file store. After the move,
+	 * {@link #delete()} no longer deletes the destination file.
+	 * <p>The default implementation delegates to {@link #transferTo(Path)}.
+	 * @param dest the target file
+	 * @return completion {@code Mono} with the result of the file move
+	 * @since 6.2
+	 * @see #transferTo(Path)
+	 */
+	default Mono<Void> moveTo(Path dest) {
+		return transferTo(dest);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,7 @@ package org.springframework.http.codec.multipart;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.WritableByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -29,7 +29,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -62,6 +64,12 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 
 	private static final Log logger = LogFactory.getLog(PartGenerator.class);
 
+	/**
+	 * The number of received bytes that may wait to be written to a temporary
+	 * file before no more tokens are requested.
+	 */
+	private static final int MAX_PENDING_WRITE_BYTES = 256 * 1024;
+
 	private final AtomicReference<State> state = new AtomicReference<>(new InitialState());
 
 	private final AtomicBoolean requestOutstanding = new AtomicBoolean();
@@ -214,9 +222,8 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 	 * <li>Otherwise, the creator will initially be in the
 	 * {@link InMemoryState}, but will switch over to {@link CreateFileState}
 	 * when the part byte count exceeds {@link #maxInMemorySize},
-	 * then to {@link WritingFileState} (to write the memory contents),
-	 * and finally {@link IdleFileState}, which switches back to
-	 * {@link WritingFileState} when more body data comes in.</li>
+	 * and then to {@link WritingFileState}, which writes the memory contents
+	 * and all further body data to the file.</li>
 	 * </ol>
 	 */
 	private interface State {
@@ -476,7 +483,7 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 				if (logger.isTraceEnabled()) {
 					logger.trace("Storing multipart data in file " + tempFile);
 				}
-				WritableByteChannel channel = Files.newByteChannel(tempFile, StandardOpenOption.WRITE);
+				FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
 				return new WritingFileState(this, tempFile, channel);
 			}
 			catch (IOException ex) {
@@ -488,12 +495,13 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 			this.releaseOnDispose = false;
 
 			if (changeState(this, newState)) {
-
 				newState.writeBuffers(this.content);
-
 				if (this.completed) {
 					newState.onComplete();
 				}
+				else {
+					requestToken();
+				}
 			}
 			else {
 				MultipartUtils.closeChannel(newState.channel);
@@ -517,201 +525,187 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 
 	}
 
-	private final class IdleFileState implements State {
+	/**
+	 * The creator state when storing the part in a temporary file. Received
+	 * buffers are queued and written on the {@link #blockingOperationScheduler}
+	 * with gathering writes, so that a single task writes all buffers received
+	 * in the meantime. More tokens are requested while fewer than
+	 * {@link #MAX_PENDING_WRITE_BYTES} are waiting to be written.
+	 */
+	private final class WritingFileState implements State {
 
 		private final HttpHeaders headers;
 
 		private final Path file;
 
-		private final WritableByteChannel channel;
+		private final FileChannel channel;
 
 		private final AtomicLong byteCount;
 
-		private volatile boolean closeOnDispose = true;
+		private final Queue<DataBuffer> queue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicLong pendingBytes = new AtomicLong();
 
-		private volatile boolean deleteOnDispose = true;
+		private final AtomicInteger wip = new AtomicInteger();
 
+		private volatile boolean completed;
+
+		private volatile boolean disposed;
 
-		public IdleFileState(WritingFileState state) {
+		/** Whether the channel has been closed; only accessed in {@link #drain()}. */
+		private boolean closed;
+
+
+		public WritingFileState(CreateFileState state, Path file, FileChannel channel) {
 			this.headers = state.headers;
-			this.file = state.file;
-			this.channel = state.channel;
-			this.byteCount = state.byteCount;
+			this.file = file;
+			this.channel = channel;
+			this.byteCount = new AtomicLong(state.byteCount);
 		}
 
 		@Override
 		public void body(DataBuffer dataBuffer) {
 			long count = this.byteCount.addAndGet(dataBuffer.readableByteCount());
 			if (PartGenerator.this.maxDiskUsagePerPart == -1 || count <= PartGenerator.this.maxDiskUsagePerPart) {
-
-				this.closeOnDispose = false;
-				this.deleteOnDispose = false;
-				WritingFileState newState = new WritingFileState(this);
-				if (changeState(this, newState)) {
-					newState.writeBuffer(dataBuffer);
-				}
-				else {
-					MultipartUtils.closeChannel(this.channel);
-					MultipartUtils.deleteFile(this.file);
-					DataBufferUtils.release(dataBuffer);
-				}
+				enqueue(dataBuffer);
+				scheduleDrain();
+				requestToken();
 			}
 			else {
-				MultipartUtils.closeChannel(this.channel);
-				MultipartUtils.deleteFile(this.file);
 				DataBufferUtils.release(dataBuffer);
+				dispose();
 				emitError(new DataBufferLimitException(
 						"Part exceeded the disk usage limit of " + PartGenerator.this.maxDiskUsagePerPart +
 								" bytes"));
 			}
 		}
 
-		@Override
-		public void onComplete() {
-			MultipartUtils.closeChannel(this.channel);
-			this.deleteOnDispose = false;
-			emitPart(DefaultParts.part(this.headers, this.file, PartGenerator.this.blockingOperationScheduler));
+		public void writeBuffers(Iterable<DataBuffer> dataBuffers) {
+			dataBuffers.forEach(this::enqueue);
+			scheduleDrain();
 		}
 
-		@Override
-		public void dispose() {
-			if (this.closeOnDispose) {
-				MultipartUtils.closeChannel(this.channel);
-			}
-			if (this.deleteOnDispose) {
-				MultipartUtils.deleteFile(this.file);
-			}
+		private void enqueue(DataBuffer dataBuffer) {
+			this.pendingBytes.addAndGet(dataBuffer.readableByteCount());
+			this.queue.add(dataBuffer);
 		}
 
-
 		@Override
-		public String toString() {
-			return "IDLE-FILE";
-		}
-
-	}
-
-	private final class WritingFileState implements State {
-
-
-		private final HttpHeaders headers;
-
-		private final Path file;
-
-		private final WritableByteChannel channel;
-
-		private final AtomicLong byteCount;
-
-		private volatile boolean completed;
-
-		private volatile boolean disposed;
-
-
-		public WritingFileState(CreateFileState state, Path file, WritableByteChannel channel) {
-			this.headers = state.headers;
-			this.file = file;
-			this.channel = channel;
-			this.byteCount = new AtomicLong(state.byteCount);
-		}
-
-		public WritingFileState(IdleFileState state) {
-			this.headers = state.headers;
-			this.file = state.file;
-			this.channel = state.channel;
-			this.byteCount = state.byteCount;
+		public void onComplete() {
+			this.completed = true;
+			scheduleDrain();
 		}
 
 		@Override
-		public void body(DataBuffer dataBuffer) {
-			DataBufferUtils.release(dataBuffer);
-			emitError(new IllegalStateException("Body token not expected"));
+		public boolean canRequest() {
+			return (!this.completed && this.pendingBytes.get() < MAX_PENDING_WRITE_BYTES);
 		}
 
 		@Override
-		public void onComplete() {
-			this.completed = true;
-			State state = PartGenerator.this.state.get();
-			// writeComplete might have changed our state to IdleFileState
-			if (state != this) {
-				state.onComplete();
-			}
-			else {
-				this.completed = true;
-			}
-		}
-
-		public void writeBuffer(DataBuffer dataBuffer) {
-			Mono.just(dataBuffer)
-					.flatMap(this::writeInternal)
-					.subscribeOn(PartGenerator.this.blockingOperationScheduler)
-					.subscribe(null,
-					PartGenerator.this::emitError,
-					this::writeComplete);
+		public void dispose() {
+			this.disposed = true;
+			scheduleDrain();
 		}
 
-		public void writeBuffers(Iterable<DataBuffer> dataBuffers) {
-			Flux.fromIterable(dataBuffers)
-					.concatMap(this::writeInternal)
-					.then()
-					.subscribeOn(PartGenerator.this.blockingOperationScheduler)
-					.subscribe(null,
-							PartGenerator.this::emitError,
-							this::writeComplete);
+		private void scheduleDrain() {
+			if (this.wip.getAndIncrement() == 0) {
+				try {
+					PartGenerator.this.blockingOperationScheduler.schedule(this::drain);
+				}
+				catch (RejectedExecutionException ex) {
+					this.wip.set(0);
+					releaseQueue();
+					MultipartUtils.closeChannel(this.channel);
+					MultipartUtils.deleteFile(this.file);
+					emitError(ex);
+				}
+			}
 		}
 
-		private void writeComplete() {
-			IdleFileState newState = new IdleFileState(this);
-			if (this.disposed) {
-				newState.dispose();
-			}
-			else if (changeState(this, newState)) {
-				if (this.completed) {
-					newState.onComplete();
+		private void drain() {
+			int missed = 1;
+			do {
+				if (this.closed) {
+					releaseQueue();
+				}
+				else if (this.disposed) {
+					releaseQueue();
+					closeAndDelete();
 				}
 				else {
-					requestToken();
+					boolean done = this.completed;
+					try {
+						writeQueue();
+						if (done && this.queue.isEmpty()) {
+							this.closed = true;
+							MultipartUtils.closeChannel(this.channel);
+							emitPart(DefaultParts.part(this.headers, this.file,
+									PartGenerator.this.blockingOperationScheduler));
+						}
+						else {
+							requestToken();
+						}
+					}
+					catch (IOException ex) {
+						releaseQueue();
+						closeAndDelete();
+						emitError(ex);
+					}
 				}
+				missed = this.wip.addAndGet(-missed);
 			}
-			else {
-				MultipartUtils.closeChannel(this.channel);
-				MultipartUtils.deleteFile(this.file);
-			}
+			while (missed != 0);
 		}
 
 		@SuppressWarnings("BlockingMethodInNonBlockingContext")
-		private Mono<Void> writeInternal(DataBuffer dataBuffer) {
+		private void writeQueue() throws IOException {
+			List<DataBuffer> dataBuffers = new ArrayList<>();
+			DataBuffer dataBuffer;
+			while ((dataBuffer = this.queue.poll()) != null) {
+				dataBuffers.add(dataBuffer);
+			}
+			if (dataBuffers.isEmpty()) {
+				return;
+			}
+			long totalBytes = 0;
+			for (DataBuffer buffer : dataBuffers) {
+				totalBytes += buffer.readableByteCount();
+			}
+			List<DataBuffer.ByteBufferIterator> iterators = new ArrayList<>(dataBuffers.size());
 			try {
-				try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
-					while (iterator.hasNext()) {
-						ByteBuffer byteBuffer = iterator.next();
-						while (byteBuffer.hasRemaining()) {
-							this.channel.write(byteBuffer);
-						}
-					}
+				List<ByteBuffer> byteBuffers = new ArrayList<>(dataBuffers.size());
+				for (DataBuffer buffer : dataBuffers) {
+					DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers();
+					iterators.add(iterator);
+					iterator.forEachRemaining(byteBuffers::add);
+				}
+				ByteBuffer[] array = byteBuffers.toArray(new ByteBuffer[0]);
+				long remaining = totalBytes;
+				while (remaining > 0) {
+					remaining -= this.channel.write(array);
 				}
-				return Mono.empty();
-			}
-			catch (IOException ex) {
-				MultipartUtils.closeChannel(this.channel);
-				MultipartUtils.deleteFile(this.file);
-				return Mono.error(ex);
 			}
 			finally {
-				DataBufferUtils.release(dataBuffer);
+				iterators.forEach(DataBuffer.ByteBufferIterator::close);
+				dataBuffers.forEach(DataBufferUtils::release);
+				this.pendingBytes.addAndGet(-totalBytes);
 			}
 		}
 
-		@Override
-		public boolean canRequest() {
-			return false;
+		private void closeAndDelete() {
+			this.closed = true;
+			MultipartUtils.closeChannel(this.channel);
+			MultipartUtils.deleteFile(this.file);
 		}
 
-		@Override
-		public void dispose() {
-			this.disposed = true;
+		private void releaseQueue() {
+			DataBuffer dataBuffer;
+			while ((dataBuffer = this.queue.poll()) != null) {
+				this.pendingBytes.addAndGet(-dataBuffer.readableByteCount());
+				DataBufferUtils.release(dataBuffer);
+			}
 		}
 
-
 		@Override
 		public String toString() {
 			return "WRITE-FILE";
@@ -27,12 +27,14 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -45,6 +47,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
@@ -103,6 +106,10 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 	@Nullable
 	private final PrettyPrinter ssePrettyPrinter;
 
+	private int streamingFlushThreshold = 1000;
+
+	private final Jackson2ReaderWriterCache readerWriterCache = new Jackson2ReaderWriterCache();
+
 
 	protected AbstractJackson2HttpMessageConverter(ObjectMapper objectMapper) {
 		this.defaultObjectMapper = objectMapper;
@@ -143,6 +150,7 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 		Assert.notNull(objectMapper, "ObjectMapper must not be null");
 		this.defaultObjectMapper = objectMapper;
 		configurePrettyPrint();
+		this.readerWriterCache.clear();
 	}
 
 	/**
@@ -175,6 +183,7 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 		Map<MediaType, ObjectMapper> registrations =
 				this.objectMapperRegistrations.computeIfAbsent(clazz, c -> new LinkedHashMap<>());
 		registrar.accept(registrations);
+		this.readerWriterCache.clear();
 	}
 
 	/**
@@ -235,6 +244,7 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 	public void setPrettyPrint(boolean prettyPrint) {
 		this.prettyPrint = prettyPrint;
 		configurePrettyPrint();
+		this.readerWriterCache.clear();
 	}
 
 	private void configurePrettyPrint() {
@@ -244,6 +254,28 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 	}
 
 
+	/**
+	 * Set the number of elements after which to flush the output when writing
+	 * a {@link Stream} or an {@link Iterator} as a JSON array element by element.
+	 * <p>By default this is set to 1000. A value of 0 or less disables
+	 * intermediate flushing, leaving it up to the underlying output buffer.
+	 * @param streamingFlushThreshold the number of elements between flushes
+	 * @since 6.2
+	 */
+	public void setStreamingFlushThreshold(int streamingFlushThreshold) {
+		this.streamingFlushThreshold = streamingFlushThreshold;
+	}
+
+	/**
+	 * Return the configured number of elements between intermediate flushes
+	 * when writing a {@link Stream} or an {@link Iterator}.
+	 * @since 6.2
+	 */
+	public int getStreamingFlushThreshold() {
+		return this.streamingFlushThreshold;
+	}
+
+
 	@Override
 	public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
 		return canRead(clazz, null, mediaType);
@@ -378,7 +410,8 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 			if (inputMessage instanceof MappingJacksonInputMessage mappingJacksonInputMessage) {
 				Class<?> deserializationView = mappingJacksonInputMessage.getDeserializationView();
 				if (deserializationView != null) {
-					ObjectReader objectReader = objectMapper.readerWithView(deserializationView).forType(javaType);
+					ObjectReader objectReader = this.readerWriterCache.getReader(
+							objectMapper, javaType, deserializationView);
 					objectReader = customizeReader(objectReader, javaType);
 					if (isUnicode) {
 						return objectReader.readValue(inputStream);
@@ -390,7 +423,7 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 				}
 			}
 
-			ObjectReader objectReader = objectMapper.reader().forType(javaType);
+			ObjectReader objectReader = this.readerWriterCache.getReader(objectMapper, javaType, null);
 			objectReader = customizeReader(objectReader, javaType);
 			if (isUnicode) {
 				return objectReader.readValue(inputStream);
@@ -467,21 +500,30 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 				javaType = getJavaType(type, null);
 			}
 
-			ObjectWriter objectWriter = (serializationView != null ?
-					objectMapper.writerWithView(serializationView) : objectMapper.writer());
+			JavaType rootType = (javaType != null &&
+					(javaType.isContainerType() || javaType.isTypeOrSubTypeOf(Optional.class)) ? javaType : null);
+			ObjectWriter objectWriter = this.readerWriterCache.getWriter(
+					objectMapper, rootType, serializationView);
 			if (filters != null) {
 				objectWriter = objectWriter.with(filters);
 			}
-			if (javaType != null && (javaType.isContainerType() || javaType.isTypeOrSubTypeOf(Optional.class))) {
-				objectWriter = objectWriter.forType(javaType);
-			}
 			SerializationConfig config = objectWriter.getConfig();
 			if (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM) &&
 					config.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
 				objectWriter = objectWriter.with(this.ssePrettyPrinter);
 			}
 			objectWriter = customizeWriter(objectWriter, javaType, contentType);
-			objectWriter.writeValue(generator, value);
+			if (value instanceof Stream<?> stream) {
+				try (stream) {
+					writeElements(generator, objectWriter, javaType, Stream.class, stream.iterator());
+				}
+			}
+			else if (value instanceof Iterator<?> iterator) {
+				writeElements(generator, objectWriter, javaType, Iterator.class, iterator);
+			}
+			else {
+				objectWriter.writeValue(generator, value);
+			}
 
 			writeSuffix(generator, object);
 			generator.flush();
@@ -494,6 +536,34 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 		}
 	}
 
+	/**
+	 * Write the given elements as a JSON array, one element at a time, flushing
+	 * the output every {@link #setStreamingFlushThreshold streamingFlushThreshold}
+	 * elements rather than serializing the entire source at once.
+	 * <p>The element type is resolved against the given container type
+	 * ({@link Stream} or {@link Iterator}), as declared by the target type.
+	 */
+	private void writeElements(JsonGenerator generator, ObjectWriter objectWriter,
+			@Nullable JavaType javaType, Class<?> containerType, Iterator<?> elements) throws IOException {
+
+		objectWriter = objectWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		if (javaType != null) {
+			JavaType[] typeParameters = javaType.findTypeParameters(containerType);
+			if (typeParameters.length == 1 && !typeParameters[0].isJavaLangObject()) {
+				objectWriter = objectWriter.forType(typeParameters[0]);
+			}
+		}
+		int count = 0;
+		try (SequenceWriter sequenceWriter = objectWriter.writeValuesAsArray(generator)) {
+			while (elements.hasNext()) {
+				sequenceWriter.write(elements.next());
+				if (this.streamingFlushThreshold > 0 && ++count % this.streamingFlushThreshold == 0) {
+					sequenceWriter.flush();
+				}
+			}
+		}
+	}
+
 	/**
 	 * Subclasses can use this method to customize {@link ObjectWriter} used
 	 * for writing values.
@@ -572,6 +642,10 @@ public abstract class AbstractJackson2HttpMessageConverter extends AbstractGener
 
 	@Override
 	protected boolean supportsRepeatableWrites(Object o) {
-		return true;
+		if (o instanceof MappingJacksonValue mappingJacksonValue) {
+			o = mappingJacksonValue.getValue();
+		}
+		return !(o instanceof Stream<?> || o instanceof Iterator<?>);
 	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.converter.json;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded cache of Jackson {@link ObjectReader} and {@link ObjectWriter}
+ * instances per {@link ObjectMapper}, target type and JSON view, shared by
+ * {@link AbstractJackson2HttpMessageConverter} and the Jackson 2 codecs.
+ *
+ * <p>Readers and writers are immutable and thread-safe, but they capture the
+ * configuration of their {@code ObjectMapper} at the time of creation. Since
+ * {@code ObjectMapper} replaces its configuration and factory instances when it
+ * is reconfigured, e.g. through {@code configure(...)} or
+ * {@code registerModule(...)}, those instances are part of the cache key: a
+ * reconfigured mapper leads to new readers and writers, while entries for the
+ * previous configuration are eventually evicted.
+ *
+ * <p>Mainly for internal use within the framework.
+ *
+ * @since 6.2
+ */
+public final class Jackson2ReaderWriterCache {
+
+	private static final int CACHE_LIMIT = 256;
+
+
+	private final ConcurrentLruCache<ReaderKey, ObjectReader> readerCache =
+			new ConcurrentLruCache<>(CACHE_LIMIT, ReaderKey::createReader);
+
+	private final ConcurrentLruCache<WriterKey, ObjectWriter> writerCache =
+			new ConcurrentLruCache<>(CACHE_LIMIT, WriterKey::createWriter);
+
+
+	/**
+	 * Return an {@link ObjectReader} for the given mapper, target type and
+	 * JSON view, reusing a previously created instance where possible.
+	 * @param mapper the mapper to create the reader with
+	 * @param javaType the type to read
+	 * @param view the JSON view to apply, if any
+	 */
+	public ObjectReader getReader(ObjectMapper mapper, JavaType javaType, @Nullable Class<?> view) {
+		return this.readerCache.get(new ReaderKey(mapper, mapper.getDeserializationConfig(),
+				mapper.getDeserializationContext(), mapper.getInjectableValues(), javaType, view));
+	}
+
+	/**
+	 * Return an {@link ObjectWriter} for the given mapper, root type and
+	 * JSON view, reusing a previously created instance where possible.
+	 * @param mapper the mapper to create the writer with
+	 * @param javaType the root type to write, or {@code null} for the runtime type
+	 * @param view the JSON view to apply, if any
+	 */
+	public ObjectWriter getWriter(ObjectMapper mapper, @Nullable JavaType javaType, @Nullable Class<?> view) {
+		return this.writerCache.get(new WriterKey(mapper, mapper.getSerializationConfig(),
+				mapper.getSerializerFactory(), mapper.getSerializerProvider(), javaType, view));
+	}
+
+	/**
+	 * Remove all cached readers and writers.
+	 */
+	public void clear() {
+		this.readerCache.clear();
+		this.writerCache.clear();
+	}
+
+
+	private record ReaderKey(ObjectMapper mapper, DeserializationConfig config,
+			DeserializationContext context, @Nullable InjectableValues injectableValues,
+			JavaType javaType, @Nullable Class<?> view) {
+
+		ObjectReader createReader() {
+			return (this.view != null ?
+					this.mapper.readerWithView(this.view).forType(this.javaType) :
+					this.mapper.readerFor(this.javaType));
+		}
+	}
+
+
+	private record WriterKey(ObjectMapper mapper, SerializationConfig config,
+			SerializerFactory serializerFactory, SerializerProvider serializerProvider,
+			@Nullable JavaType javaType, @Nullable Class<?> view) {
+
+		ObjectWriter createWriter() {
+			ObjectWriter writer = (this.view != null ?
+					this.mapper.writerWithView(this.view) : this.mapper.writer());
+			return (this.javaType != null ? writer.forType(this.javaType) : writer);
+		}
+	}
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.server;
+
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code MultiValueMap} implementation that reads through to the headers
+ * of an {@link HttpServletRequest}.
+ *
+ * <p>Lookups of individual headers are delegated to the Servlet container,
+ * which matches header names case-insensitively. Only operations over all
+ * headers, such as iteration, and modifications copy the request headers
+ * into a local map, which is then used for all further operations.
+ *
+ * <p>{@code Content-Type} and {@code Content-Length} also take the
+ * corresponding {@link HttpServletRequest} properties into account.
+ *
+ * @since 6.2
+ */
+class ServletRequestHeadersAdapter implements MultiValueMap<String, String> {
+
+	private final HttpServletRequest servletRequest;
+
+	@Nullable
+	private HttpHeaders contentHeaders;
+
+	@Nullable
+	private MultiValueMap<String, String> headers;
+
+
+	ServletRequestHeadersAdapter(HttpServletRequest servletRequest) {
+		this.servletRequest = servletRequest;
+	}
+
+
+	@Override
+	@Nullable
+	public String getFirst(String key) {
+		if (this.headers != null) {
+			return this.headers.getFirst(key);
+		}
+		if (isContentHeader(key)) {
+			return getContentHeaders().getFirst(key);
+		}
+		return this.servletRequest.getHeader(key);
+	}
+
+	@Override
+	@Nullable
+	public List<String> get(Object key) {
+		if (this.headers != null) {
+			return this.headers.get(key);
+		}
+		if (!(key instanceof String headerName)) {
+			return null;
+		}
+		// Read-through values are not backed by a map: expose them as unmodifiable
+		if (isContentHeader(headerName)) {
+			List<String> values = getContentHeaders().get(headerName);
+			return (values != null ? Collections.unmodifiableList(values) : null);
+		}
+		Enumeration<String> values = this.servletRequest.getHeaders(headerName);
+		return (values != null && values.hasMoreElements() ?
+				Collections.unmodifiableList(Collections.list(values)) : null);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (this.headers != null) {
+			return this.headers.containsKey(key);
+		}
+		if (!(key instanceof String headerName)) {
+			return false;
+		}
+		if (isContentHeader(headerName)) {
+			return getContentHeaders().containsKey(headerName);
+		}
+		return (this.servletRequest.getHeader(headerName) != null);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return getHeaders().containsValue(value);
+	}
+
+	@Override
+	public int size() {
+		return getHeaders().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return getHeaders().isEmpty();
+	}
+
+	@Override
+	public void add(String key, @Nullable String value) {
+		getHeaders().add(key, value);
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		getHeaders().addAll(key, values);
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		getHeaders().addAll(values);
+	}
+
+	@Override
+	public void set(String key, @Nullable String value) {
+		getHeaders().set(key, value);
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		getHeaders().setAll(values);
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		return getHeaders().toSingleValueMap();
+	}
+
+	@Override
+	@Nullable
+	public List<String> put(String key, List<String> value) {
+		return getHeaders().put(key, value);
+	}
+
+	@Override
+	@Nullable
+	public List<String> remove(Object key) {
+		return getHeaders().remove(key);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		getHeaders().putAll(map);
+	}
+
+	@Override
+	public void clear() {
+		getHeaders().clear();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return getHeaders().keySet();
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		return getHeaders().values();
+	}
+
+	@Override
+	public Set<Entry<String, List<String>>> entrySet() {
+		return getHeaders().entrySet();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || getHeaders().equals(other));
+	}
+
+	@Override
+	public int hashCode() {
+		return getHeaders().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return HttpHeaders.formatHeaders(this);
+	}
+
+
+	private static boolean isContentHeader(String headerName) {
+		return (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(headerName) ||
+				HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(headerName));
+	}
+
+	/**
+	 * Return the {@code Content-Type} and {@code Content-Length} headers,
+	 * computed without copying the other request headers.
+	 */
+	private HttpHeaders getContentHeaders() {
+		HttpHeaders contentHeaders = this.contentHeaders;
+		if (contentHeaders == null) {
+			contentHeaders = new HttpHeaders();
+			addHeaderValues(contentHeaders, HttpHeaders.CONTENT_TYPE);
+			addHeaderValues(contentHeaders, HttpHeaders.CONTENT_LENGTH);
+			initContentHeaders(contentHeaders);
+			this.contentHeaders = contentHeaders;
+		}
+		return contentHeaders;
+	}
+
+	/**
+	 * Return a copy of all request headers, created on first access.
+	 */
+	private MultiValueMap<String, String> getHeaders() {
+		MultiValueMap<String, String> headers = this.headers;
+		if (headers == null) {
+			headers = CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(16, Locale.ENGLISH));
+			HttpHeaders httpHeaders = new HttpHeaders(headers);
+			for (Enumeration<?> names = this.servletRequest.getHeaderNames(); names.hasMoreElements();) {
+				addHeaderValues(httpHeaders, (String) names.nextElement());
+			}
+			initContentHeaders(httpHeaders);
+			this.headers = headers;
+			this.contentHeaders = null;
+		}
+		return headers;
+	}
+
+	private void addHeaderValues(HttpHeaders headers, String headerName) {
+		Enumeration<?> headerValues = this.servletRequest.getHeaders(headerName);
+		if (headerValues != null) {
+			while (headerValues.hasMoreElements()) {
+				headers.add(headerName, (String) headerValues.nextElement());
+			}
+		}
+	}
+
+	/**
+	 * Include headers that {@link HttpServletRequest} exposes as properties,
+	 * if not already present.
+	 */
+	private void initContentHeaders(HttpHeaders headers) {
+		try {
+			MediaType contentType = headers.getContentType();
+			if (contentType == null) {
+				String requestContentType = this.servletRequest.getContentType();
+				if (StringUtils.hasLength(requestContentType)) {
+					contentType = MediaType.parseMediaType(requestContentType);
+					if (contentType.isConcrete()) {
+						headers.setContentType(contentType);
+					}
+				}
+			}
+			if (contentType != null && contentType.getCharset() == null) {
+				String requestEncoding = this.servletRequest.getCharacterEncoding();
+				if (StringUtils.hasLength(requestEncoding)) {
+					Charset charSet = Charset.forName(requestEncoding);
+					Map<String, String> params = new LinkedCaseInsensitiveMap<>();
+					params.putAll(contentType.getParameters());
+					params.put("charset", charSet.toString());
+					MediaType mediaType = new MediaType(contentType.getType(), contentType.getSubtype(), params);
+					headers.setContentType(mediaType);
+				}
+			}
+		}
+		catch (InvalidMediaTypeException ex) {
+			// Ignore: simply not exposing an invalid content type in HttpHeaders...
+		}
+
+		if (headers.getContentLength() < 0) {
+			int requestContentLength = this.servletRequest.getContentLength();
+			if (requestContentLength != -1) {
+				headers.setContentLength(requestContentLength);
+			}
+		}
+	}
+
+}
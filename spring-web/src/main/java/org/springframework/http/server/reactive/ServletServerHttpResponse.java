@@ -17,7 +17,7 @@
 package org.springframework.http.server.reactive;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 import jakarta.servlet.AsyncContext;
@@ -225,18 +225,38 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 	 * Write the DataBuffer to the response body OutputStream.
 	 * Invoked only when {@link ServletOutputStream#isReady()} returns "true"
 	 * and the readable bytes in the DataBuffer is greater than 0.
+	 * <p>Heap buffers are written from their backing array, in chunks of the
+	 * configured buffer size, without copying them into an intermediate array.
 	 * @return the number of bytes written
 	 */
 	protected int writeToOutputStream(DataBuffer dataBuffer) throws IOException {
 		ServletOutputStream outputStream = this.outputStream;
-		InputStream input = dataBuffer.asInputStream();
 		int bytesWritten = 0;
-		byte[] buffer = new byte[this.bufferSize];
-		int bytesRead;
-		while (outputStream.isReady() && (bytesRead = input.read(buffer)) != -1) {
-			outputStream.write(buffer, 0, bytesRead);
-			bytesWritten += bytesRead;
+		byte[] buffer = null;
+		try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+			while (iterator.hasNext()) {
+				ByteBuffer byteBuffer = iterator.next();
+				while (byteBuffer.hasRemaining() && outputStream.isReady()) {
+					int length = Math.min(byteBuffer.remaining(), this.bufferSize);
+					if (byteBuffer.hasArray()) {
+						outputStream.write(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length);
+						byteBuffer.position(byteBuffer.position() + length);
+					}
+					else {
+						if (buffer == null) {
+							buffer = new byte[this.bufferSize];
+						}
+						byteBuffer.get(buffer, 0, length);
+						outputStream.write(buffer, 0, length);
+					}
+					bytesWritten += length;
+				}
+				if (byteBuffer.hasRemaining()) {
+					break;
+				}
+			}
 		}
+		dataBuffer.readPosition(dataBuffer.readPosition() + bytesWritten);
 		return bytesWritten;
 	}
 
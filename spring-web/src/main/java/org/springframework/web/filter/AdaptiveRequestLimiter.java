@@ -0,0 +1,153 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RequestLimiter} with a concurrency limit that follows an additive
+ * increase, multiplicative decrease (AIMD) policy based on request latency
+ * and failures.
+ *
+ * @since 6.2
+ * @see RequestLimiter#adaptive(int, int, int, Duration)
+ */
+final class AdaptiveRequestLimiter implements RequestLimiter {
+
+	private static final double BACKOFF_RATIO = 0.9;
+
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final long latencyThreshold;
+
+	private final LongSupplier nanoTime;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/** The estimated limit as {@code double} bits, truncated to obtain the current limit. */
+	private final AtomicLong estimatedLimit;
+
+
+	AdaptiveRequestLimiter(int initialLimit, int minLimit, int maxLimit,
+			Duration latencyThreshold, LongSupplier nanoTime) {
+
+		Assert.isTrue(minLimit > 0, "Minimum limit must be greater than 0");
+		Assert.isTrue(minLimit <= initialLimit && initialLimit <= maxLimit,
+				"Initial limit must be between minimum and maximum limit");
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyThreshold = latencyThreshold.toNanos();
+		this.nanoTime = nanoTime;
+		this.estimatedLimit = new AtomicLong(Double.doubleToRawLongBits(initialLimit));
+	}
+
+
+	@Override
+	@Nullable
+	public Permit tryAcquire() {
+		int limit = getLimit();
+		int current;
+		do {
+			current = this.inFlight.get();
+			if (current >= limit) {
+				return null;
+			}
+		}
+		while (!this.inFlight.compareAndSet(current, current + 1));
+		return new AdaptivePermit(this.nanoTime.getAsLong(), current + 1);
+	}
+
+	/**
+	 * Return the current concurrency limit.
+	 */
+	int getLimit() {
+		return (int) Double.longBitsToDouble(this.estimatedLimit.get());
+	}
+
+	private void onRelease(long startTime, int inFlightAtStart, boolean dropped) {
+		this.inFlight.decrementAndGet();
+		boolean overloaded = (dropped || this.nanoTime.getAsLong() - startTime > this.latencyThreshold);
+		long currentBits;
+		long updatedBits;
+		do {
+			currentBits = this.estimatedLimit.get();
+			double current = Double.longBitsToDouble(currentBits);
+			double updated;
+			if (overloaded) {
+				updated = Math.max(this.minLimit, current * BACKOFF_RATIO);
+			}
+			else if (inFlightAtStart * 2 >= current) {
+				// Only grow while the current limit is actually being used
+				updated = Math.min(this.maxLimit, current + 1);
+			}
+			else {
+				return;
+			}
+			if (updated == current) {
+				return;
+			}
+			updatedBits = Double.doubleToRawLongBits(updated);
+		}
+		while (!this.estimatedLimit.compareAndSet(currentBits, updatedBits));
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveRequestLimiter[limit=" + getLimit() + ", minLimit=" + this.minLimit +
+				", maxLimit=" + this.maxLimit + "]";
+	}
+
+
+	private final class AdaptivePermit implements Permit {
+
+		private final long startTime;
+
+		private final int inFlightAtStart;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		AdaptivePermit(long startTime, int inFlightAtStart) {
+			this.startTime = startTime;
+			this.inFlightAtStart = inFlightAtStart;
+		}
+
+		@Override
+		public void onSuccess() {
+			if (this.released.compareAndSet(false, true)) {
+				onRelease(this.startTime, this.inFlightAtStart, false);
+			}
+		}
+
+		@Override
+		public void onDropped() {
+			if (this.released.compareAndSet(false, true)) {
+				onRelease(this.startTime, this.inFlightAtStart, true);
+			}
+		}
+	}
+
+}
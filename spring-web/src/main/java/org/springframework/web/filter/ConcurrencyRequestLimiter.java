@@ -0,0 +1,77 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RequestLimiter} with a fixed limit on concurrent requests.
+ *
+ * @since 6.2
+ * @see RequestLimiter#concurrency(int)
+ */
+final class ConcurrencyRequestLimiter implements RequestLimiter {
+
+	private final int limit;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final Permit permit = new Permit() {
+		@Override
+		public void onSuccess() {
+			inFlight.decrementAndGet();
+		}
+		@Override
+		public void onDropped() {
+			inFlight.decrementAndGet();
+		}
+	};
+
+
+	ConcurrencyRequestLimiter(int limit) {
+		Assert.isTrue(limit > 0, "Limit must be greater than 0");
+		this.limit = limit;
+	}
+
+
+	@Override
+	@Nullable
+	public Permit tryAcquire() {
+		int current;
+		do {
+			current = this.inFlight.get();
+			if (current >= this.limit) {
+				return null;
+			}
+		}
+		while (!this.inFlight.compareAndSet(current, current + 1));
+		return this.permit;
+	}
+
+	int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrencyRequestLimiter[limit=" + this.limit + "]";
+	}
+
+}
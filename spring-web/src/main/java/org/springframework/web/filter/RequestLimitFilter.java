@@ -0,0 +1,207 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.RequestPath;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * {@link jakarta.servlet.Filter} that applies a {@link RequestLimiter} to
+ * requests that match a path pattern, and rejects requests immediately with
+ * a {@code 429} (or another {@linkplain #setRejectedStatus configured})
+ * status when no permit is available.
+ *
+ * <p>Limiters are checked in registration order, and the first one with a
+ * matching pattern applies. The permit is held until the request completes,
+ * including asynchronous processing, and is released as
+ * {@linkplain RequestLimiter.Permit#onDropped() dropped} if the request
+ * fails with an exception or a {@code 5xx} status.
+ *
+ * <pre class="code">
+ * RequestLimitFilter filter = new RequestLimitFilter();
+ * filter.addRequestLimiter("/api/search/**", RequestLimiter.concurrency(50));
+ * filter.addRequestLimiter("/api/**", RequestLimiter.tokenBucket(100, 100, Duration.ofSeconds(1)));
+ * </pre>
+ *
+ * @since 6.2
+ * @see org.springframework.web.filter.reactive.RequestLimitFilter
+ */
+public class RequestLimitFilter extends OncePerRequestFilter {
+
+	private final Map<PathPattern, RequestLimiter> limiters = new LinkedHashMap<>();
+
+	private HttpStatusCode rejectedStatus = HttpStatus.TOO_MANY_REQUESTS;
+
+
+	/**
+	 * Apply the given limiter to requests that match the given path pattern.
+	 * @param pathPattern the pattern to match the path within the application
+	 * @param limiter the limiter to apply
+	 */
+	public void addRequestLimiter(String pathPattern, RequestLimiter limiter) {
+		Assert.hasText(pathPattern, "Path pattern must not be empty");
+		Assert.notNull(limiter, "RequestLimiter must not be null");
+		this.limiters.put(PathPatternParser.defaultInstance.parse(pathPattern), limiter);
+	}
+
+	/**
+	 * Set the status to use when a request is rejected.
+	 * <p>By default, this is {@link HttpStatus#TOO_MANY_REQUESTS}; set it to
+	 * {@link HttpStatus#SERVICE_UNAVAILABLE} when the limits protect the
+	 * server rather than enforce a quota for clients.
+	 */
+	public void setRejectedStatus(HttpStatusCode rejectedStatus) {
+		Assert.notNull(rejectedStatus, "Rejected status must not be null");
+		this.rejectedStatus = rejectedStatus;
+	}
+
+	/**
+	 * Return the configured status for rejected requests.
+	 */
+	public HttpStatusCode getRejectedStatus() {
+		return this.rejectedStatus;
+	}
+
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		RequestLimiter limiter = getRequestLimiter(request);
+		if (limiter == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		RequestLimiter.Permit permit = limiter.tryAcquire();
+		if (permit == null) {
+			response.setStatus(this.rejectedStatus.value());
+			return;
+		}
+
+		try {
+			chain.doFilter(request, response);
+		}
+		catch (IOException | ServletException | RuntimeException | Error ex) {
+			permit.onDropped();
+			throw ex;
+		}
+
+		if (request.isAsyncStarted()) {
+			request.getAsyncContext().addListener(new PermitReleasingListener(permit, response));
+		}
+		else {
+			release(permit, response);
+		}
+	}
+
+	@Nullable
+	private RequestLimiter getRequestLimiter(HttpServletRequest request) {
+		if (this.limiters.isEmpty()) {
+			return null;
+		}
+		boolean parsed = ServletRequestPathUtils.hasParsedRequestPath(request);
+		try {
+			RequestPath path = (parsed ? ServletRequestPathUtils.getParsedRequestPath(request) :
+					ServletRequestPathUtils.parseAndCache(request));
+			for (Map.Entry<PathPattern, RequestLimiter> entry : this.limiters.entrySet()) {
+				if (entry.getKey().matches(path.pathWithinApplication())) {
+					return entry.getValue();
+				}
+			}
+			return null;
+		}
+		finally {
+			if (!parsed) {
+				ServletRequestPathUtils.clearParsedRequestPath(request);
+			}
+		}
+	}
+
+	private static void release(RequestLimiter.Permit permit, HttpServletResponse response) {
+		if (HttpStatusCode.valueOf(response.getStatus()).is5xxServerError()) {
+			permit.onDropped();
+		}
+		else {
+			permit.onSuccess();
+		}
+	}
+
+
+	/**
+	 * {@link AsyncListener} that releases the permit once asynchronous
+	 * processing has completed.
+	 */
+	private static class PermitReleasingListener implements AsyncListener {
+
+		private final RequestLimiter.Permit permit;
+
+		private final HttpServletResponse response;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		PermitReleasingListener(RequestLimiter.Permit permit, HttpServletResponse response) {
+			this.permit = permit;
+			this.response = response;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			if (this.released.compareAndSet(false, true)) {
+				release(this.permit, this.response);
+			}
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			if (this.released.compareAndSet(false, true)) {
+				this.permit.onDropped();
+			}
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			if (this.released.compareAndSet(false, true)) {
+				this.permit.onDropped();
+			}
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Contract to decide whether a request may be processed, used by
+ * {@link RequestLimitFilter} and its reactive counterpart
+ * {@link org.springframework.web.filter.reactive.RequestLimitFilter} to
+ * reject requests immediately, rather than queuing them, when a limit is
+ * reached.
+ *
+ * <p>Built-in implementations are available through the static factory
+ * methods on this interface: a fixed concurrency limit, a token bucket rate
+ * limit, and a concurrency limit that adapts to the observed latency.
+ * All of them are thread-safe and non-blocking.
+ *
+ * @since 6.2
+ */
+public interface RequestLimiter {
+
+	/**
+	 * Try to obtain a permit to process a request.
+	 * @return the permit, to be released when the request completes,
+	 * or {@code null} if the request must be rejected
+	 */
+	@Nullable
+	Permit tryAcquire();
+
+
+	/**
+	 * Create a limiter that allows up to the given number of concurrent requests.
+	 * @param maxConcurrentRequests the maximum number of concurrent requests
+	 */
+	static RequestLimiter concurrency(int maxConcurrentRequests) {
+		return new ConcurrencyRequestLimiter(maxConcurrentRequests);
+	}
+
+	/**
+	 * Create a token bucket limiter that allows bursts of up to {@code capacity}
+	 * requests, with {@code refillTokens} permits added per {@code refillPeriod}.
+	 * @param capacity the maximum number of requests in a burst
+	 * @param refillTokens the number of permits added per period
+	 * @param refillPeriod the refill period
+	 */
+	static RequestLimiter tokenBucket(int capacity, int refillTokens, Duration refillPeriod) {
+		return new TokenBucketRequestLimiter(capacity, refillTokens, refillPeriod, System::nanoTime);
+	}
+
+	/**
+	 * Create a concurrency limiter that adapts its limit with an additive
+	 * increase, multiplicative decrease (AIMD) policy: the limit grows by one
+	 * while requests complete within the latency threshold and the limit is
+	 * in use, and is reduced by 10% whenever a request exceeds the threshold
+	 * or fails.
+	 * @param initialLimit the initial concurrency limit
+	 * @param minLimit the lowest concurrency limit
+	 * @param maxLimit the highest concurrency limit
+	 * @param latencyThreshold the latency above which a request is considered
+	 * a sign of overload
+	 */
+	static RequestLimiter adaptive(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+		return new AdaptiveRequestLimiter(initialLimit, minLimit, maxLimit, latencyThreshold, System::nanoTime);
+	}
+
+
+	/**
+	 * A permit obtained from a {@link RequestLimiter}, to be released exactly
+	 * once, through one of its methods, when the request completes.
+	 */
+	interface Permit {
+
+		/**
+		 * Release the permit after the request completed successfully.
+		 */
+		void onSuccess();
+
+		/**
+		 * Release the permit after the request failed, either with an exception
+		 * or with a server error status.
+		 */
+		void onDropped();
+	}
+
+}
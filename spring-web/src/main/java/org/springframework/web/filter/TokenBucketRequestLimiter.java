@@ -0,0 +1,92 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Token bucket {@link RequestLimiter}, implemented lock-free as the
+ * equivalent generic cell rate algorithm: instead of a token count, a
+ * single "theoretical arrival time" is advanced by the emission interval
+ * for each admitted request, and requests are rejected while it is more
+ * than the burst tolerance ahead of the current time.
+ *
+ * @since 6.2
+ * @see RequestLimiter#tokenBucket(int, int, Duration)
+ */
+final class TokenBucketRequestLimiter implements RequestLimiter {
+
+	private static final Permit NO_OP_PERMIT = new Permit() {
+		@Override
+		public void onSuccess() {
+		}
+		@Override
+		public void onDropped() {
+		}
+	};
+
+
+	private final long emissionInterval;
+
+	private final long burstTolerance;
+
+	private final LongSupplier nanoTime;
+
+	private final AtomicLong theoreticalArrivalTime;
+
+
+	TokenBucketRequestLimiter(int capacity, int refillTokens, Duration refillPeriod, LongSupplier nanoTime) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		Assert.isTrue(refillTokens > 0, "Refill tokens must be greater than 0");
+		Assert.isTrue(!refillPeriod.isNegative() && !refillPeriod.isZero(), "Refill period must be positive");
+		this.emissionInterval = Math.max(1, refillPeriod.toNanos() / refillTokens);
+		this.burstTolerance = this.emissionInterval * (capacity - 1);
+		this.nanoTime = nanoTime;
+		this.theoreticalArrivalTime = new AtomicLong(nanoTime.getAsLong());
+	}
+
+
+	@Override
+	@Nullable
+	public Permit tryAcquire() {
+		long now = this.nanoTime.getAsLong();
+		long current;
+		long next;
+		do {
+			current = this.theoreticalArrivalTime.get();
+			long arrival = (current - now > 0 ? current : now);
+			if (arrival - now > this.burstTolerance) {
+				return null;
+			}
+			next = arrival + this.emissionInterval;
+		}
+		while (!this.theoreticalArrivalTime.compareAndSet(current, next));
+		return NO_OP_PERMIT;
+	}
+
+	@Override
+	public String toString() {
+		return "TokenBucketRequestLimiter[emissionInterval=" + this.emissionInterval +
+				"ns, burstTolerance=" + this.burstTolerance + "ns]";
+	}
+
+}
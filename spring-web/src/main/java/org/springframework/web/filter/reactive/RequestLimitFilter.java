@@ -0,0 +1,125 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter.reactive;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.RequestLimiter;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Reactive {@link WebFilter} that applies a {@link RequestLimiter} to
+ * requests that match a path pattern, and rejects requests immediately with
+ * a {@code 429} (or another {@linkplain #setRejectedStatus configured})
+ * status when no permit is available.
+ *
+ * <p>Limiters are checked in registration order, and the first one with a
+ * matching pattern applies. The permit is held until the {@code Mono}
+ * returned from the chain terminates or is cancelled, and is released as
+ * {@linkplain RequestLimiter.Permit#onDropped() dropped} if it completes
+ * with an error or a {@code 5xx} status.
+ *
+ * @since 6.2
+ * @see org.springframework.web.filter.RequestLimitFilter
+ */
+public class RequestLimitFilter implements WebFilter {
+
+	private final Map<PathPattern, RequestLimiter> limiters = new LinkedHashMap<>();
+
+	private HttpStatusCode rejectedStatus = HttpStatus.TOO_MANY_REQUESTS;
+
+
+	/**
+	 * Apply the given limiter to requests that match the given path pattern.
+	 * @param pathPattern the pattern to match the path within the application
+	 * @param limiter the limiter to apply
+	 */
+	public void addRequestLimiter(String pathPattern, RequestLimiter limiter) {
+		Assert.hasText(pathPattern, "Path pattern must not be empty");
+		Assert.notNull(limiter, "RequestLimiter must not be null");
+		this.limiters.put(PathPatternParser.defaultInstance.parse(pathPattern), limiter);
+	}
+
+	/**
+	 * Set the status to use when a request is rejected.
+	 * <p>By default, this is {@link HttpStatus#TOO_MANY_REQUESTS}; set it to
+	 * {@link HttpStatus#SERVICE_UNAVAILABLE} when the limits protect the
+	 * server rather than enforce a quota for clients.
+	 */
+	public void setRejectedStatus(HttpStatusCode rejectedStatus) {
+		Assert.notNull(rejectedStatus, "Rejected status must not be null");
+		this.rejectedStatus = rejectedStatus;
+	}
+
+	/**
+	 * Return the configured status for rejected requests.
+	 */
+	public HttpStatusCode getRejectedStatus() {
+		return this.rejectedStatus;
+	}
+
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		RequestLimiter limiter = getRequestLimiter(exchange.getRequest().getPath().pathWithinApplication());
+		if (limiter == null) {
+			return chain.filter(exchange);
+		}
+		return Mono.defer(() -> {
+			RequestLimiter.Permit permit = limiter.tryAcquire();
+			ServerHttpResponse response = exchange.getResponse();
+			if (permit == null) {
+				response.setStatusCode(this.rejectedStatus);
+				return response.setComplete();
+			}
+			return chain.filter(exchange).doFinally(signalType -> {
+				HttpStatusCode status = response.getStatusCode();
+				if (signalType == SignalType.ON_ERROR || (status != null && status.is5xxServerError())) {
+					permit.onDropped();
+				}
+				else {
+					permit.onSuccess();
+				}
+			});
+		});
+	}
+
+	@Nullable
+	private RequestLimiter getRequestLimiter(PathContainer path) {
+		for (Map.Entry<PathPattern, RequestLimiter> entry : this.limiters.entrySet()) {
+			if (entry.getKey().matches(path)) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+}
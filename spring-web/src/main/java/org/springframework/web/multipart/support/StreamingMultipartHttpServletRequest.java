@@ -0,0 +1,718 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.multipart.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.http.codec.multipart.PartEventHttpMessageReader;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Spring MultipartHttpServletRequest adapter, created by
+ * {@link StreamingMultipartResolver}, that parses the request body on demand.
+ *
+ * <p>The parts can either be consumed one at a time, while they are being
+ * received, through {@link #getPartStream()}, or be buffered on first access
+ * to {@link #getFile(String)} and related methods, as with other
+ * {@link org.springframework.web.multipart.MultipartHttpServletRequest}
+ * implementations. Buffered file parts are kept in memory up to the configured
+ * {@code maxInMemorySize}, and written to temporary files beyond that; those
+ * files are deleted by {@link StreamingMultipartResolver#cleanupMultipart}.
+ *
+ * <p>Both styles of access are mutually exclusive for a given request.
+ * Multipart form fields are exposed as request parameters, so any access to
+ * request parameters, for instance for data binding or in a filter, buffers
+ * the parts as well, after which {@link #getPartStream()} fails with an
+ * {@link IllegalStateException}. Likewise, once the part stream has been
+ * obtained, request parameter and file access fails with an
+ * {@link IllegalStateException}, since the content has been consumed.
+ *
+ * <p>Controllers can declare a method argument of this type to stream parts:
+ * <pre class="code">
+ * &#064;PostMapping("/upload")
+ * void upload(StreamingMultipartHttpServletRequest request) {
+ *     try (Stream&lt;StreamingPart&gt; parts = request.getPartStream()) {
+ *         parts.forEach(part -&gt; ...);
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 6.2
+ * @see StreamingMultipartResolver
+ */
+public class StreamingMultipartHttpServletRequest extends DefaultMultipartHttpServletRequest {
+
+	private static final ResolvableType PART_EVENT_TYPE = ResolvableType.forClass(PartEvent.class);
+
+	private static final int BUFFER_SIZE = 8192;
+
+
+	private final PartEventHttpMessageReader reader;
+
+	private final int maxInMemorySize;
+
+	@Nullable
+	private final Path fileStorageDirectory;
+
+	private final List<Path> tempFiles = new ArrayList<>(1);
+
+	@Nullable
+	private Stream<PartEvent> events;
+
+	@Nullable
+	private Iterator<PartEvent> eventIterator;
+
+	@Nullable
+	private DefaultStreamingPart currentPart;
+
+	private boolean streamed;
+
+
+	/**
+	 * Create a new {@code StreamingMultipartHttpServletRequest} wrapper for the given request.
+	 * @param request the servlet request to wrap
+	 * @param reader the reader to parse the request body with
+	 * @param maxInMemorySize the maximum size of each file part to buffer in
+	 * memory before writing it to a temporary file, or -1 to keep all buffered
+	 * parts in memory
+	 * @param fileStorageDirectory the directory to create temporary files in,
+	 * or {@code null} for the default temporary-file directory
+	 */
+	public StreamingMultipartHttpServletRequest(HttpServletRequest request,
+			PartEventHttpMessageReader reader, int maxInMemorySize, @Nullable Path fileStorageDirectory) {
+
+		super(request);
+		Assert.notNull(reader, "PartEventHttpMessageReader must not be null");
+		this.reader = reader;
+		this.maxInMemorySize = maxInMemorySize;
+		this.fileStorageDirectory = fileStorageDirectory;
+	}
+
+
+	/**
+	 * Return a stream over the parts of the request, parsed lazily as the
+	 * stream is consumed. The content of each part can be read until the
+	 * stream advances to the next part; unread content is skipped.
+	 * <p>The returned stream should be closed after use, which is also done
+	 * by {@link StreamingMultipartResolver#cleanupMultipart} at the end of
+	 * the request.
+	 * @return the stream of parts
+	 * @throws IllegalStateException if the stream has already been obtained,
+	 * or if the parts have already been buffered, e.g. through request
+	 * parameter access
+	 */
+	public Stream<StreamingPart> getPartStream() {
+		Assert.state(!this.streamed, "Multipart part stream has already been obtained");
+		Assert.state(!isResolved(), "Multipart content has already been buffered, e.g. through " +
+				"request parameter access in a filter: use getFile and getParameter for this request, " +
+				"or make sure that request parameters are not accessed before the part stream is obtained");
+		this.streamed = true;
+		openEvents();
+		Spliterator<StreamingPart> spliterator = new Spliterators.AbstractSpliterator<>(
+				Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+			@Override
+			public boolean tryAdvance(Consumer<? super StreamingPart> action) {
+				DefaultStreamingPart part = nextPart();
+				if (part == null) {
+					return false;
+				}
+				action.accept(part);
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false).onClose(this::close);
+	}
+
+	@Override
+	protected void initializeMultipart() {
+		Assert.state(!this.streamed, "Multipart parameters and files are not available once the " +
+				"content has been consumed through getPartStream(): read form fields from the part stream, " +
+				"or access request parameters before the part stream is obtained to have the parts buffered");
+		MultiValueMap<String, MultipartFile> files = new LinkedMultiValueMap<>();
+		Map<String, String[]> params = new LinkedHashMap<>();
+		Map<String, String> paramContentTypes = new LinkedHashMap<>();
+		openEvents();
+		try {
+			DefaultStreamingPart part;
+			while ((part = nextPart()) != null) {
+				String filename = part.getOriginalFilename();
+				if (filename != null) {
+					files.add(part.getName(), part.toMultipartFile(filename));
+				}
+				else {
+					String value = part.getContentAsString();
+					String[] values = params.get(part.getName());
+					if (values == null) {
+						params.put(part.getName(), new String[] {value});
+					}
+					else {
+						String[] newValues = new String[values.length + 1];
+						System.arraycopy(values, 0, newValues, 0, values.length);
+						newValues[values.length] = value;
+						params.put(part.getName(), newValues);
+					}
+					if (part.getContentType() != null) {
+						paramContentTypes.put(part.getName(), part.getContentType());
+					}
+				}
+			}
+		}
+		catch (IOException ex) {
+			throw new MultipartException("Failed to parse multipart servlet request", ex);
+		}
+		finally {
+			closeEvents();
+		}
+		setMultipartFiles(files);
+		setMultipartParameters(params);
+		setMultipartParameterContentTypes(paramContentTypes);
+	}
+
+	/**
+	 * Close the underlying stream of parse events, if open, cancelling the
+	 * parsing of the remaining content, and delete any temporary files
+	 * created for buffered parts.
+	 */
+	void close() {
+		closeEvents();
+		for (Path file : this.tempFiles) {
+			try {
+				Files.deleteIfExists(file);
+			}
+			catch (IOException ex) {
+				LogFactory.getLog(getClass()).warn("Failed to delete temporary multipart file " + file, ex);
+			}
+		}
+		this.tempFiles.clear();
+	}
+
+	private void closeEvents() {
+		Stream<PartEvent> events = this.events;
+		if (events != null) {
+			this.events = null;
+			this.eventIterator = null;
+			DefaultStreamingPart part = this.currentPart;
+			if (part != null) {
+				this.currentPart = null;
+				part.release();
+			}
+			events.close();
+		}
+	}
+
+	private void openEvents() {
+		HttpServletRequest request = getRequest();
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.CONTENT_TYPE, request.getContentType());
+		Flux<DataBuffer> body = DataBufferUtils.readInputStream(
+				request::getInputStream, DefaultDataBufferFactory.sharedInstance, BUFFER_SIZE);
+		ReactiveHttpInputMessage message = new ReactiveHttpInputMessage() {
+			@Override
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+			@Override
+			public Flux<DataBuffer> getBody() {
+				return body;
+			}
+		};
+		Stream<PartEvent> events = this.reader.read(PART_EVENT_TYPE, message, Collections.emptyMap()).toStream(1);
+		this.events = events;
+		this.eventIterator = events.iterator();
+	}
+
+	private Path createTempFile() throws IOException {
+		Path file = (this.fileStorageDirectory != null ?
+				Files.createTempFile(this.fileStorageDirectory, null, ".multipart") :
+				Files.createTempFile("spring-multipart-", ".multipart"));
+		this.tempFiles.add(file);
+		return file;
+	}
+
+	@Nullable
+	private DefaultStreamingPart nextPart() {
+		DefaultStreamingPart part = this.currentPart;
+		if (part != null) {
+			this.currentPart = null;
+			part.skip();
+		}
+		Iterator<PartEvent> iterator = this.eventIterator;
+		if (iterator == null || !hasNextEvent(iterator)) {
+			return null;
+		}
+		part = new DefaultStreamingPart(nextEvent(iterator));
+		this.currentPart = part;
+		return part;
+	}
+
+	private static boolean hasNextEvent(Iterator<PartEvent> iterator) {
+		try {
+			return iterator.hasNext();
+		}
+		catch (RuntimeException ex) {
+			throw handleParseFailure(ex);
+		}
+	}
+
+	private static PartEvent nextEvent(Iterator<PartEvent> iterator) {
+		try {
+			return iterator.next();
+		}
+		catch (RuntimeException ex) {
+			throw handleParseFailure(ex);
+		}
+	}
+
+	private static RuntimeException handleParseFailure(RuntimeException ex) {
+		Throwable cause = Exceptions.unwrap(ex);
+		if (cause instanceof DataBufferLimitException) {
+			return new MaxUploadSizeExceededException(-1, cause);
+		}
+		if (cause instanceof MultipartException multipartException) {
+			return multipartException;
+		}
+		return new MultipartException("Failed to parse multipart servlet request", cause);
+	}
+
+
+	/**
+	 * A part of a multipart request obtained through {@link #getPartStream()}.
+	 * The content of a part is only available until the stream advances to
+	 * the next part.
+	 */
+	public interface StreamingPart {
+
+		/**
+		 * Return the name of the part in the multipart form.
+		 */
+		String getName();
+
+		/**
+		 * Return the original filename in the client's filesystem,
+		 * or {@code null} if the part is a form field.
+		 */
+		@Nullable
+		String getOriginalFilename();
+
+		/**
+		 * Return the headers of the part.
+		 */
+		HttpHeaders getHeaders();
+
+		/**
+		 * Return the content type of the part, or {@code null} if not defined.
+		 */
+		@Nullable
+		String getContentType();
+
+		/**
+		 * Return an InputStream to read the content of the part from.
+		 * <p>The returned stream reads directly from the request, and can
+		 * only be consumed once.
+		 */
+		InputStream getInputStream();
+
+		/**
+		 * Transfer the content of the part to the given output stream.
+		 * @param out the stream to copy to, which is not closed
+		 * @return the number of bytes copied
+		 */
+		long transferTo(OutputStream out) throws IOException;
+
+		/**
+		 * Transfer the content of the part to the given destination file,
+		 * replacing it if it already exists.
+		 * @param dest the destination file
+		 */
+		void transferTo(Path dest) throws IOException;
+
+		/**
+		 * Read the content of the part into a String, using the charset of the
+		 * part's content type, or UTF-8 if none is specified.
+		 */
+		String getContentAsString() throws IOException;
+	}
+
+
+	private class DefaultStreamingPart implements StreamingPart {
+
+		private final HttpHeaders headers;
+
+		private final PartInputStream inputStream;
+
+		DefaultStreamingPart(PartEvent firstEvent) {
+			this.headers = firstEvent.headers();
+			this.inputStream = new PartInputStream(firstEvent);
+		}
+
+		@Override
+		public String getName() {
+			String name = this.headers.getContentDisposition().getName();
+			return (name != null ? name : "");
+		}
+
+		@Override
+		@Nullable
+		public String getOriginalFilename() {
+			return this.headers.getContentDisposition().getFilename();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		@Nullable
+		public String getContentType() {
+			MediaType contentType = this.headers.getContentType();
+			return (contentType != null ? contentType.toString() : null);
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return this.inputStream;
+		}
+
+		@Override
+		public long transferTo(OutputStream out) throws IOException {
+			return this.inputStream.transferTo(out);
+		}
+
+		@Override
+		public void transferTo(Path dest) throws IOException {
+			Files.copy(this.inputStream, dest, StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		@Override
+		public String getContentAsString() throws IOException {
+			MediaType contentType = this.headers.getContentType();
+			Charset charset = (contentType != null && contentType.getCharset() != null ?
+					contentType.getCharset() : StandardCharsets.UTF_8);
+			return new String(this.inputStream.readAllBytes(), charset);
+		}
+
+		MultipartFile toMultipartFile(String filename) throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = this.inputStream.read(buffer)) != -1) {
+				if (maxInMemorySize >= 0 && out.size() + read > maxInMemorySize) {
+					Path file = createTempFile();
+					long size = out.size() + read;
+					try (OutputStream fileOut = Files.newOutputStream(file)) {
+						out.writeTo(fileOut);
+						fileOut.write(buffer, 0, read);
+						size += this.inputStream.transferTo(fileOut);
+					}
+					return new PathMultipartFile(getName(), filename, getContentType(), file, size);
+				}
+				out.write(buffer, 0, read);
+			}
+			return new ByteArrayMultipartFile(getName(), filename, getContentType(), out.toByteArray());
+		}
+
+		void skip() {
+			this.inputStream.skipRemaining();
+		}
+
+		void release() {
+			this.inputStream.release();
+		}
+	}
+
+
+	/**
+	 * InputStream over the content of the events of a single part,
+	 * pulling the next event once the current one has been read.
+	 */
+	private class PartInputStream extends InputStream {
+
+		@Nullable
+		private DataBuffer buffer;
+
+		private boolean last;
+
+		PartInputStream(PartEvent firstEvent) {
+			this.buffer = firstEvent.content();
+			this.last = firstEvent.isLast();
+		}
+
+		@Override
+		public int read() throws IOException {
+			DataBuffer buffer = nextBuffer();
+			return (buffer != null ? buffer.read() & 0xFF : -1);
+		}
+
+		@Override
+		public int read(byte[] bytes, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			DataBuffer buffer = nextBuffer();
+			if (buffer == null) {
+				return -1;
+			}
+			len = Math.min(len, buffer.readableByteCount());
+			buffer.read(bytes, off, len);
+			return len;
+		}
+
+		@Override
+		public int available() {
+			DataBuffer buffer = this.buffer;
+			return (buffer != null ? buffer.readableByteCount() : 0);
+		}
+
+		@Override
+		public void close() {
+			// Remaining content is skipped when advancing to the next part
+		}
+
+		@Nullable
+		private DataBuffer nextBuffer() throws IOException {
+			DataBuffer buffer = this.buffer;
+			while (buffer == null || buffer.readableByteCount() == 0) {
+				if (buffer != null) {
+					DataBufferUtils.release(buffer);
+					this.buffer = null;
+				}
+				if (this.last) {
+					return null;
+				}
+				Iterator<PartEvent> iterator = eventIterator;
+				if (iterator == null) {
+					throw new IOException("Multipart request has been closed");
+				}
+				PartEvent event;
+				try {
+					event = nextEvent(iterator);
+				}
+				catch (MultipartException ex) {
+					if (ex.getCause() instanceof IOException ioException) {
+						throw ioException;
+					}
+					throw ex;
+				}
+				buffer = event.content();
+				this.buffer = buffer;
+				this.last = event.isLast();
+			}
+			return buffer;
+		}
+
+		void skipRemaining() {
+			try {
+				while (nextBuffer() != null) {
+					release();
+				}
+			}
+			catch (IOException ex) {
+				throw new MultipartException("Failed to parse multipart servlet request", ex);
+			}
+		}
+
+		void release() {
+			DataBuffer buffer = this.buffer;
+			if (buffer != null) {
+				this.buffer = null;
+				DataBufferUtils.release(buffer);
+			}
+		}
+	}
+
+
+	/**
+	 * {@link MultipartFile} for a part that has been buffered in memory.
+	 */
+	@SuppressWarnings("serial")
+	private static class ByteArrayMultipartFile implements MultipartFile, Serializable {
+
+		private final String name;
+
+		private final String originalFilename;
+
+		@Nullable
+		private final String contentType;
+
+		private final byte[] content;
+
+		ByteArrayMultipartFile(String name, String originalFilename, @Nullable String contentType, byte[] content) {
+			this.name = name;
+			this.originalFilename = originalFilename;
+			this.contentType = contentType;
+			this.content = content;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public String getOriginalFilename() {
+			return this.originalFilename;
+		}
+
+		@Override
+		@Nullable
+		public String getContentType() {
+			return this.contentType;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return (this.content.length == 0);
+		}
+
+		@Override
+		public long getSize() {
+			return this.content.length;
+		}
+
+		@Override
+		public byte[] getBytes() {
+			return this.content;
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return new ByteArrayInputStream(this.content);
+		}
+
+		@Override
+		public void transferTo(File dest) throws IOException {
+			FileCopyUtils.copy(this.content, dest);
+		}
+	}
+
+
+	/**
+	 * {@link MultipartFile} for a part that has been buffered in a temporary file.
+	 */
+	private static class PathMultipartFile implements MultipartFile {
+
+		private final String name;
+
+		private final String originalFilename;
+
+		@Nullable
+		private final String contentType;
+
+		private final Path file;
+
+		private final long size;
+
+		PathMultipartFile(String name, String originalFilename, @Nullable String contentType, Path file, long size) {
+			this.name = name;
+			this.originalFilename = originalFilename;
+			this.contentType = contentType;
+			this.file = file;
+			this.size = size;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public String getOriginalFilename() {
+			return this.originalFilename;
+		}
+
+		@Override
+		@Nullable
+		public String getContentType() {
+			return this.contentType;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return (this.size == 0);
+		}
+
+		@Override
+		public long getSize() {
+			return this.size;
+		}
+
+		@Override
+		public byte[] getBytes() throws IOException {
+			return Files.readAllBytes(this.file);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return Files.newInputStream(this.file);
+		}
+
+		@Override
+		public void transferTo(File dest) throws IOException {
+			Files.copy(this.file, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		@Override
+		public void transferTo(Path dest) throws IOException {
+			Files.copy(this.file, dest, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.multipart.support;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.PartEventHttpMessageReader;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.MultipartResolver;
+
+/**
+ * {@link MultipartResolver} that parses "multipart/form-data" requests
+ * itself, with the {@link PartEventHttpMessageReader} also used in WebFlux,
+ * rather than relying on the Servlet container's {@code getParts()}.
+ * Requires Reactor on the classpath.
+ *
+ * <p>The resolved {@link StreamingMultipartHttpServletRequest} reads the
+ * request body lazily: controllers can iterate over
+ * {@linkplain StreamingMultipartHttpServletRequest#getPartStream() a stream of parts},
+ * and copy each one to its destination, such as an object store, while it is
+ * being received, without it being stored in memory or in a temporary file
+ * first. The regular {@link MultipartHttpServletRequest} accessors remain
+ * available, in which case all parts are buffered: file parts are kept in
+ * memory up to {@link #setMaxInMemorySize maxInMemorySize}, and are written
+ * to temporary files in the {@link #setFileStorageDirectory fileStorageDirectory}
+ * beyond that.
+ *
+ * <p><strong>Note:</strong> both styles of access are mutually exclusive for a
+ * given request. Multipart form fields are exposed as request parameters, so
+ * any request parameter access, e.g. by a filter or for data binding, buffers
+ * all parts, after which the part stream is no longer available. Conversely,
+ * once the part stream has been obtained, request parameter and file access
+ * fails with an {@link IllegalStateException}. Applications that stream parts
+ * therefore need to make sure that no filter accesses request parameters for
+ * such requests, and need to read form fields from the part stream.
+ *
+ * <p>Note that the Servlet must not be configured with a
+ * {@link jakarta.servlet.MultipartConfigElement}, as the container would
+ * otherwise consume the request body.
+ *
+ * @since 6.2
+ * @see StreamingMultipartHttpServletRequest
+ */
+public class StreamingMultipartResolver implements MultipartResolver {
+
+	private int maxInMemorySize = 256 * 1024;
+
+	private int maxHeadersSize = 10 * 1024;
+
+	private int maxParts = -1;
+
+	private long maxPartSize = -1;
+
+	private Charset headersCharset = StandardCharsets.UTF_8;
+
+	@Nullable
+	private Path fileStorageDirectory;
+
+
+	/**
+	 * Configure the maximum amount of memory allowed per part when the parts
+	 * are buffered, and for form fields, which are always aggregated.
+	 * When the limit is exceeded:
+	 * <ul>
+	 * <li>buffered file parts are written to a temporary file.
+	 * <li>form fields are rejected with a
+	 * {@link org.springframework.web.multipart.MaxUploadSizeExceededException}.
+	 * </ul>
+	 * <p>By default this is set to 256K.
+	 * @param maxInMemorySize the in-memory limit in bytes; if set to -1 the
+	 * entire contents will be stored in memory
+	 */
+	public void setMaxInMemorySize(int maxInMemorySize) {
+		this.maxInMemorySize = maxInMemorySize;
+	}
+
+	/**
+	 * Configure the maximum amount of memory that is allowed per headers section of each part.
+	 * <p>By default this is set to 10K.
+	 * @param byteCount the maximum amount of memory for headers
+	 */
+	public void setMaxHeadersSize(int byteCount) {
+		this.maxHeadersSize = byteCount;
+	}
+
+	/**
+	 * Specify the maximum number of parts allowed in a given multipart request.
+	 * <p>By default this is set to -1, meaning that there is no maximum.
+	 */
+	public void setMaxParts(int maxParts) {
+		this.maxParts = maxParts;
+	}
+
+	/**
+	 * Configure the maximum size allowed for any part.
+	 * <p>By default this is set to -1, meaning that there is no maximum.
+	 */
+	public void setMaxPartSize(long maxPartSize) {
+		this.maxPartSize = maxPartSize;
+	}
+
+	/**
+	 * Set the directory used to store buffered file parts larger than
+	 * {@link #setMaxInMemorySize(int) maxInMemorySize}. By default, temporary
+	 * files are created in the default temporary-file directory.
+	 * <p>Note that this property is ignored when
+	 * {@link #setMaxInMemorySize(int) maxInMemorySize} is set to -1.
+	 * @throws IOException if an I/O error occurs, or the parent directory
+	 * does not exist
+	 */
+	public void setFileStorageDirectory(Path fileStorageDirectory) throws IOException {
+		Assert.notNull(fileStorageDirectory, "FileStorageDirectory must not be null");
+		if (!Files.exists(fileStorageDirectory)) {
+			Files.createDirectory(fileStorageDirectory);
+		}
+		this.fileStorageDirectory = fileStorageDirectory;
+	}
+
+	/**
+	 * Set the character set used to decode headers.
+	 * <p>Defaults to UTF-8 as per RFC 7578.
+	 * @param headersCharset the charset to use for decoding headers
+	 */
+	public void setHeadersCharset(Charset headersCharset) {
+		Assert.notNull(headersCharset, "Charset must not be null");
+		this.headersCharset = headersCharset;
+	}
+
+
+	@Override
+	public boolean isMultipart(HttpServletRequest request) {
+		return StringUtils.startsWithIgnoreCase(request.getContentType(), MediaType.MULTIPART_FORM_DATA_VALUE);
+	}
+
+	@Override
+	public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) throws MultipartException {
+		PartEventHttpMessageReader reader = new PartEventHttpMessageReader();
+		reader.setMaxInMemorySize(this.maxInMemorySize);
+		reader.setMaxHeadersSize(this.maxHeadersSize);
+		reader.setMaxParts(this.maxParts);
+		reader.setMaxPartSize(this.maxPartSize);
+		reader.setHeadersCharset(this.headersCharset);
+		return new StreamingMultipartHttpServletRequest(
+				request, reader, this.maxInMemorySize, this.fileStorageDirectory);
+	}
+
+	@Override
+	public void cleanupMultipart(MultipartHttpServletRequest request) {
+		if (request instanceof StreamingMultipartHttpServletRequest streamingRequest) {
+			streamingRequest.close();
+		}
+	}
+
+}
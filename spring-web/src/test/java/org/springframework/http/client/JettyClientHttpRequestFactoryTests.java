@@ -16,9 +16,16 @@
 
 package org.springframework.http.client;
 
+import java.net.URI;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * @author Arjen Poutsma
@@ -37,4 +44,21 @@ class JettyClientHttpRequestFactoryTests extends AbstractHttpRequestFactoryTests
 		assertHttpMethod("patch", HttpMethod.PATCH);
 	}
 
+	@Test
+	void connectionAcquisitionObservation() throws Exception {
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		JettyClientHttpRequestFactory requestFactory = (JettyClientHttpRequestFactory) this.factory;
+		requestFactory.setObservationRegistry(observationRegistry);
+
+		URI uri = URI.create(baseUrl + "/status/ok");
+		try (ClientHttpResponse response = requestFactory.createRequest(uri, HttpMethod.GET).execute()) {
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		}
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasObservationWithNameEqualTo("http.client.connections.acquire").that()
+				.hasLowCardinalityKeyValue("client.name", "localhost")
+				.hasLowCardinalityKeyValue("exception", "none")
+				.hasBeenStopped();
+	}
+
 }
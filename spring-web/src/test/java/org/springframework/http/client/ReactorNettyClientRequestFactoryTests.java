@@ -16,12 +16,16 @@
 
 package org.springframework.http.client;
 
+import java.net.URI;
 import java.util.function.Function;
 
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.junit.jupiter.api.Test;
 import reactor.netty.http.client.HttpClient;
 
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -99,4 +103,21 @@ class ReactorNettyClientRequestFactoryTests extends AbstractHttpRequestFactoryTe
 		assertThat(requestFactory.isRunning()).isTrue();
 	}
 
+	@Test
+	void connectionAcquisitionObservation() throws Exception {
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		ReactorNettyClientRequestFactory requestFactory = (ReactorNettyClientRequestFactory) this.factory;
+		requestFactory.setObservationRegistry(observationRegistry);
+
+		URI uri = URI.create(baseUrl + "/status/ok");
+		try (ClientHttpResponse response = requestFactory.createRequest(uri, HttpMethod.GET).execute()) {
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		}
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasObservationWithNameEqualTo("http.client.connections.acquire").that()
+				.hasLowCardinalityKeyValue("client.name", "localhost")
+				.hasLowCardinalityKeyValue("exception", "none")
+				.hasBeenStopped();
+	}
+
 }
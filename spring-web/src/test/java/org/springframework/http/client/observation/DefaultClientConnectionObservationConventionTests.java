@@ -0,0 +1,70 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client.observation;
+
+import java.net.ConnectException;
+import java.net.URI;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DefaultClientConnectionObservationConvention}.
+ */
+class DefaultClientConnectionObservationConventionTests {
+
+	private final DefaultClientConnectionObservationConvention observationConvention =
+			new DefaultClientConnectionObservationConvention();
+
+
+	@Test
+	void shouldHaveName() {
+		assertThat(this.observationConvention.getName()).isEqualTo("http.client.connections.acquire");
+	}
+
+	@Test
+	void supportsOnlyClientConnectionObservationContext() {
+		ClientConnectionObservationContext context = createContext("https://example.org/resource");
+		assertThat(this.observationConvention.supportsContext(context)).isTrue();
+		assertThat(this.observationConvention.supportsContext(new Observation.Context())).isFalse();
+	}
+
+	@Test
+	void addsKeyValuesForAcquiredConnection() {
+		ClientConnectionObservationContext context = createContext("https://example.org/resource");
+		assertThat(this.observationConvention.getLowCardinalityKeyValues(context))
+				.containsExactly(KeyValue.of("client.name", "example.org"), KeyValue.of("exception", "none"));
+	}
+
+	@Test
+	void addsKeyValuesForFailedAcquisition() {
+		ClientConnectionObservationContext context = createContext("/resource");
+		context.setError(new ConnectException());
+		assertThat(this.observationConvention.getLowCardinalityKeyValues(context))
+				.containsExactly(KeyValue.of("client.name", "none"), KeyValue.of("exception", "ConnectException"));
+	}
+
+	private ClientConnectionObservationContext createContext(String uri) {
+		return new ClientConnectionObservationContext(URI.create(uri), HttpMethod.GET);
+	}
+
+}
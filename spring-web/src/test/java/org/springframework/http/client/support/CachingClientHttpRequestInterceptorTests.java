@@ -0,0 +1,253 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.client.support;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.testfixture.http.client.MockClientHttpRequest;
+import org.springframework.web.testfixture.http.client.MockClientHttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link CachingClientHttpRequestInterceptor}.
+ */
+class CachingClientHttpRequestInterceptorTests {
+
+	private static final URI URL = URI.create("https://example.org/resource");
+
+	private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+	private final ConcurrentMapCache cache = new ConcurrentMapCache("http");
+
+	private final CachingClientHttpRequestInterceptor interceptor = new CachingClientHttpRequestInterceptor(this.cache);
+
+	private final StubExecution execution = new StubExecution();
+
+
+	@BeforeEach
+	void setup() {
+		advanceClock(0);
+	}
+
+
+	@Test
+	void freshResponseIsServedFromCache() throws IOException {
+		this.execution.respond(response(HttpStatus.OK, "first", "max-age=60"));
+
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("first");
+		advanceClock(30);
+		ClientHttpResponse response = execute(HttpMethod.GET);
+
+		assertThat(body(response)).isEqualTo("first");
+		assertThat(response.getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("30");
+		assertThat(this.execution.requests).hasSize(1);
+	}
+
+	@Test
+	void staleResponseIsRevalidated() throws IOException {
+		MockClientHttpResponse first = response(HttpStatus.OK, "first", "max-age=10");
+		first.getHeaders().setETag("\"v1\"");
+		this.execution.respond(first);
+		this.execution.respond(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+
+		execute(HttpMethod.GET);
+		advanceClock(20);
+		ClientHttpResponse response = execute(HttpMethod.GET);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(body(response)).isEqualTo("first");
+		assertThat(this.execution.requests).hasSize(2);
+		assertThat(this.execution.requests.get(1).getHeaders().getIfNoneMatch()).containsExactly("\"v1\"");
+
+		execute(HttpMethod.GET);
+		assertThat(this.execution.requests).hasSize(2);
+	}
+
+	@Test
+	void staleResponseIsReplaced() throws IOException {
+		MockClientHttpResponse first = response(HttpStatus.OK, "first", "max-age=10");
+		first.getHeaders().setETag("\"v1\"");
+		this.execution.respond(first);
+		this.execution.respond(response(HttpStatus.OK, "second", "max-age=10"));
+
+		execute(HttpMethod.GET);
+		advanceClock(20);
+
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("second");
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("second");
+		assertThat(this.execution.requests).hasSize(2);
+	}
+
+	@Test
+	void noStoreResponseIsNotCached() throws IOException {
+		this.execution.respond(response(HttpStatus.OK, "first", "no-store"));
+		this.execution.respond(response(HttpStatus.OK, "second", "no-store"));
+
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("first");
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("second");
+		assertThat(this.cache.getNativeCache()).isEmpty();
+	}
+
+	@Test
+	void responseWithContentLengthOverMaxEntrySizeIsNotCached() throws IOException {
+		this.interceptor.setMaxEntrySize(4);
+		MockClientHttpResponse first = response(HttpStatus.OK, "first", "max-age=60");
+		first.getHeaders().setContentLength(5);
+		this.execution.respond(first);
+		this.execution.respond(response(HttpStatus.OK, "second", "max-age=60"));
+
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("first");
+		assertThat(this.cache.getNativeCache()).isEmpty();
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("second");
+		assertThat(this.execution.requests).hasSize(2);
+	}
+
+	@Test
+	void responseWithBodyOverMaxEntrySizeIsNotCached() throws IOException {
+		this.interceptor.setMaxEntrySize(4);
+		this.execution.respond(response(HttpStatus.OK, "first", "max-age=60"));
+		this.execution.respond(response(HttpStatus.OK, "next", "max-age=60"));
+
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("first");
+		assertThat(this.cache.getNativeCache()).isEmpty();
+
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("next");
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("next");
+		assertThat(this.execution.requests).hasSize(2);
+	}
+
+	@Test
+	void staleIfErrorOnServerError() throws IOException {
+		this.execution.respond(response(HttpStatus.OK, "first", "max-age=10, stale-if-error=60"));
+		this.execution.respond(new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+
+		execute(HttpMethod.GET);
+		advanceClock(30);
+		ClientHttpResponse response = execute(HttpMethod.GET);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(body(response)).isEqualTo("first");
+	}
+
+	@Test
+	void staleIfErrorOnIOException() throws IOException {
+		this.execution.respond(response(HttpStatus.OK, "first", "max-age=10, stale-if-error=60"));
+
+		execute(HttpMethod.GET);
+		advanceClock(30);
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("first");
+
+		advanceClock(60);
+		assertThatIOException().isThrownBy(() -> execute(HttpMethod.GET));
+	}
+
+	@Test
+	void unsafeMethodInvalidatesEntry() throws IOException {
+		this.execution.respond(response(HttpStatus.OK, "first", "max-age=60"));
+		this.execution.respond(new MockClientHttpResponse(new byte[0], HttpStatus.NO_CONTENT));
+		this.execution.respond(response(HttpStatus.OK, "second", "max-age=60"));
+
+		execute(HttpMethod.GET);
+		execute(HttpMethod.POST);
+
+		assertThat(body(execute(HttpMethod.GET))).isEqualTo("second");
+		assertThat(this.execution.requests).hasSize(3);
+	}
+
+	@Test
+	void varyMismatchBypassesEntry() throws IOException {
+		MockClientHttpResponse first = response(HttpStatus.OK, "english", "max-age=60");
+		first.getHeaders().setVary(List.of(HttpHeaders.ACCEPT_LANGUAGE));
+		this.execution.respond(first);
+		this.execution.respond(response(HttpStatus.OK, "french", "max-age=60"));
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URL);
+		request.getHeaders().set(HttpHeaders.ACCEPT_LANGUAGE, "en");
+		assertThat(body(this.interceptor.intercept(request, new byte[0], this.execution))).isEqualTo("english");
+		assertThat(body(this.interceptor.intercept(request, new byte[0], this.execution))).isEqualTo("english");
+
+		request = new MockClientHttpRequest(HttpMethod.GET, URL);
+		request.getHeaders().set(HttpHeaders.ACCEPT_LANGUAGE, "fr");
+		assertThat(body(this.interceptor.intercept(request, new byte[0], this.execution))).isEqualTo("french");
+		assertThat(this.execution.requests).hasSize(2);
+	}
+
+
+	private ClientHttpResponse execute(HttpMethod method) throws IOException {
+		return this.interceptor.intercept(new MockClientHttpRequest(method, URL), new byte[0], this.execution);
+	}
+
+	private void advanceClock(long seconds) {
+		this.interceptor.setClock(Clock.fixed(START.plusSeconds(seconds), ZoneOffset.UTC));
+	}
+
+	private static MockClientHttpResponse response(HttpStatus status, String body, String cacheControl) {
+		MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status);
+		response.getHeaders().setCacheControl(cacheControl);
+		return response;
+	}
+
+	private static String body(ClientHttpResponse response) throws IOException {
+		return StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+	}
+
+
+	private static class StubExecution implements ClientHttpRequestExecution {
+
+		private final Deque<ClientHttpResponse> responses = new ArrayDeque<>();
+
+		private final List<HttpRequest> requests = new ArrayList<>();
+
+		void respond(ClientHttpResponse response) {
+			this.responses.add(response);
+		}
+
+		@Override
+		public ClientHttpResponse execute(HttpRequest request, byte[] body) throws IOException {
+			this.requests.add(request);
+			ClientHttpResponse response = this.responses.poll();
+			if (response == null) {
+				throw new SocketTimeoutException("No response");
+			}
+			return response;
+		}
+	}
+
+}
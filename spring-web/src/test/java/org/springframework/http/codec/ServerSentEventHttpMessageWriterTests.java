@@ -19,7 +19,9 @@ package org.springframework.http.codec;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +31,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.testfixture.io.buffer.AbstractDataBufferAllocatingTests;
@@ -209,6 +212,47 @@ class ServerSentEventHttpMessageWriterTests extends AbstractDataBufferAllocating
 				.verify();
 	}
 
+	@ParameterizedDataBufferAllocatingTest
+	void writeWithFlushBatching(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+		this.messageWriter.setFlushBatching(2, Duration.ofSeconds(5));
+
+		FlushRecordingResponse outputMessage = new FlushRecordingResponse(super.bufferFactory);
+		Flux<String> source = Flux.just("foo", "bar", "baz");
+		testWrite(source, outputMessage, String.class);
+
+		assertThat(outputMessage.flushes).containsExactly(
+				List.of("data:foo\n\n", "data:bar\n\n"), List.of("data:baz\n\n"));
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void writeWithFlushBatchingCoalescesHeartbeats(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+		this.messageWriter.setFlushBatching(3, Duration.ofSeconds(5));
+
+		FlushRecordingResponse outputMessage = new FlushRecordingResponse(super.bufferFactory);
+		ServerSentEvent<String> heartbeat = ServerSentEvent.<String>builder().comment("").build();
+		Flux<ServerSentEvent> source = Flux.just(
+				ServerSentEvent.builder("foo").build(), heartbeat, ServerSentEvent.builder("bar").build(),
+				heartbeat, heartbeat);
+		testWrite(source, outputMessage, ServerSentEvent.class);
+
+		assertThat(outputMessage.flushes).containsExactly(
+				List.of("data:foo\n\n", "data:bar\n\n"), List.of(":\n\n"));
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void writeWithFlushBatchingAfterDelay(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+		this.messageWriter.setFlushBatching(10, Duration.ofMillis(50));
+
+		FlushRecordingResponse outputMessage = new FlushRecordingResponse(super.bufferFactory);
+		Flux<String> source = Flux.concat(Flux.just("foo"), Mono.just("bar").delayElement(Duration.ofMillis(500)));
+		testWrite(source, outputMessage, String.class);
+
+		assertThat(outputMessage.flushes).containsExactly(List.of("data:foo\n\n"), List.of("data:bar\n\n"));
+	}
+
 
 	private <T> void testWrite(Publisher<T> source, MockServerHttpResponse response, Class<T> clazz) {
 		testWrite(source, MediaType.TEXT_EVENT_STREAM, response, clazz);
@@ -223,4 +267,29 @@ class ServerSentEventHttpMessageWriterTests extends AbstractDataBufferAllocating
 		StepVerifier.create(result).verifyComplete();
 	}
 
+
+
+	private static class FlushRecordingResponse extends MockServerHttpResponse {
+
+		private final List<List<String>> flushes = new ArrayList<>();
+
+		FlushRecordingResponse(DataBufferFactory bufferFactory) {
+			super(bufferFactory);
+		}
+
+		@Override
+		protected Mono<Void> writeAndFlushWithInternal(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+			return Flux.from(body)
+					.concatMap(publisher -> Flux.from(publisher)
+							.map(buffer -> {
+								String value = buffer.toString(StandardCharsets.UTF_8);
+								DataBufferUtils.release(buffer);
+								return value;
+							})
+							.collectList())
+					.doOnNext(this.flushes::add)
+					.then();
+		}
+	}
+
 }
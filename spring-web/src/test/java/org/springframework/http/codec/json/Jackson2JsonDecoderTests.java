@@ -41,6 +41,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.CodecException;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.core.testfixture.codec.AbstractDecoderTests;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.json.JacksonViewBean.MyJacksonView1;
@@ -173,6 +174,32 @@ class Jackson2JsonDecoderTests extends AbstractDecoderTests<Jackson2JsonDecoder>
 				.verify(), null, null);
 	}
 
+	@Test
+	void decodeToMonoWithMultipleBuffers() {
+		Flux<DataBuffer> input = Flux.concat(
+				stringBuffer("{\"bar\":"),
+				stringBuffer("\"b1\",\"fo"),
+				stringBuffer("o\":\"f1\"}"));
+
+		testDecodeToMonoAll(input, ResolvableType.forClass(Pojo.class), step -> step
+				.expectNext(pojo1)
+				.verifyComplete(), null, null);
+	}
+
+	@Test
+	void decodeToMonoExceedingMaxInMemorySize() {
+		Flux<DataBuffer> input = Flux.concat(
+				stringBuffer("{\"bar\":\"b1\","),
+				stringBuffer("\"foo\":\"f1\""),
+				stringBuffer("}"));
+
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.setMaxInMemorySize(16);
+		Mono<Object> result = decoder.decodeToMono(input, ResolvableType.forClass(Pojo.class), null, null);
+
+		StepVerifier.create(result).verifyError(DataBufferLimitException.class);
+	}
+
 	@Test
 	protected void decodeToFluxWithListElements() {
 		Flux<DataBuffer> input = Flux.concat(
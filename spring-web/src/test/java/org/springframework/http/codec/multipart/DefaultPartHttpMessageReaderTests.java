@@ -16,6 +16,7 @@
 
 package org.springframework.http.codec.multipart;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -219,6 +220,35 @@ class DefaultPartHttpMessageReaderTests {
 				"----WebKitFormBoundaryG8fJ50opQOML0oGD");
 	}
 
+	@ParameterizedDefaultPartHttpMessageReaderTest
+	void moveTo(DefaultPartHttpMessageReader reader) throws IOException {
+		String contents = LOREM_IPSUM.repeat(1000);
+		String body = "--boundary\r\n" +
+				"Content-Disposition: form-data; name=\"file\"; filename=\"lorem.txt\"\r\n" +
+				"Content-Type: text/plain\r\n\r\n" +
+				contents + "\r\n--boundary--\r\n";
+		Flux<DataBuffer> buffers = DataBufferUtils.readInputStream(
+				() -> new ByteArrayInputStream(body.getBytes(UTF_8)), bufferFactory, BUFFER_SIZE);
+		MockServerHttpRequest request = MockServerHttpRequest.post("/")
+				.contentType(new MediaType("multipart", "form-data", singletonMap("boundary", "boundary")))
+				.body(buffers);
+
+		Part part = reader.read(forClass(Part.class), request, emptyMap()).single().block();
+		assertThat(part).isInstanceOf(FilePart.class);
+
+		Path tempFile = Files.createTempFile("DefaultPartHttpMessageReaderTests", null);
+		try {
+			((FilePart) part).moveTo(tempFile).block();
+			assertThat(Files.readString(tempFile)).isEqualTo(contents);
+
+			part.delete().block();
+			assertThat(tempFile).exists();
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
 	@Test
 	void tooManyParts() throws InterruptedException {
 		MockServerHttpRequest request = createRequest(
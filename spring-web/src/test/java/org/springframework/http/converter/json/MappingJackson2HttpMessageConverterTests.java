@@ -22,9 +22,12 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
@@ -373,6 +376,70 @@ class MappingJackson2HttpMessageConverterTests {
 			}""");
 	}
 
+	@Test
+	void prettyPrintAfterWrite() throws Exception {
+		PrettyPrintBean bean = new PrettyPrintBean();
+		bean.setName("Jason");
+
+		MockHttpOutputMessage outputMessage1 = new MockHttpOutputMessage();
+		this.converter.writeInternal(bean, null, outputMessage1);
+		assertThat(outputMessage1.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"Jason\"}");
+
+		MockHttpOutputMessage outputMessage2 = new MockHttpOutputMessage();
+		this.converter.setPrettyPrint(true);
+		this.converter.writeInternal(bean, null, outputMessage2);
+		assertThat(outputMessage2.getBodyAsString(StandardCharsets.UTF_8)).isEqualToNormalizingNewlines("""
+			{
+			\s "name" : "Jason"
+			}""");
+	}
+
+	@Test
+	void registerObjectMappersForTypeAfterWrite() throws Exception {
+		PrettyPrintBean bean = new PrettyPrintBean();
+		bean.setName("Jason");
+
+		MockHttpOutputMessage outputMessage1 = new MockHttpOutputMessage();
+		this.converter.writeInternal(bean, null, outputMessage1);
+		assertThat(outputMessage1.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"Jason\"}");
+
+		ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+		this.converter.registerObjectMappersForType(PrettyPrintBean.class, map -> map.put(MediaType.APPLICATION_JSON, mapper));
+		MockHttpOutputMessage outputMessage2 = new MockHttpOutputMessage();
+		this.converter.write(bean, MediaType.APPLICATION_JSON, outputMessage2);
+		assertThat(outputMessage2.getBodyAsString(StandardCharsets.UTF_8)).isEqualToNormalizingNewlines("""
+			{
+			\s "name" : "Jason"
+			}""");
+	}
+
+	@Test
+	void reconfigureObjectMapperAfterUse() throws Exception {
+		ObjectMapper mapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(mapper);
+		PrettyPrintBean bean = new PrettyPrintBean();
+		bean.setName("Jason");
+		String body = "{\"name\":\"Jason\",\"unknown\":\"value\"}";
+
+		MockHttpOutputMessage outputMessage1 = new MockHttpOutputMessage();
+		converter.writeInternal(bean, null, outputMessage1);
+		assertThat(outputMessage1.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"Jason\"}");
+		MockHttpInputMessage inputMessage1 = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+		assertThat(converter.read(PrettyPrintBean.class, inputMessage1)).isInstanceOf(PrettyPrintBean.class);
+
+		mapper.enable(SerializationFeature.INDENT_OUTPUT);
+		mapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		MockHttpOutputMessage outputMessage2 = new MockHttpOutputMessage();
+		converter.writeInternal(bean, null, outputMessage2);
+		assertThat(outputMessage2.getBodyAsString(StandardCharsets.UTF_8)).isEqualToNormalizingNewlines("""
+			{
+			\s "name" : "Jason"
+			}""");
+		MockHttpInputMessage inputMessage2 = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+		assertThatExceptionOfType(HttpMessageNotReadableException.class)
+				.isThrownBy(() -> converter.read(PrettyPrintBean.class, inputMessage2));
+	}
+
 	@Test
 	void prettyPrintWithSse() throws Exception {
 		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
@@ -497,6 +564,59 @@ class MappingJackson2HttpMessageConverterTests {
 		assertThat(result).contains("\"number\":123");
 	}
 
+	@Test
+	void writeStream() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		MyBean foo = new MyBean();
+		foo.setString("Foo");
+		MyBean bar = new MyBean();
+		bar.setString("Bar");
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<MyBean> stream = Stream.of(foo, bar).onClose(() -> closed.set(true));
+		ParameterizedTypeReference<Stream<MyInterface>> typeReference = new ParameterizedTypeReference<>() {};
+
+		this.converter.setStreamingFlushThreshold(1);
+		this.converter.writeInternal(stream, typeReference.getType(), outputMessage);
+
+		String result = outputMessage.getBodyAsString(StandardCharsets.UTF_8);
+		assertThat(result).startsWith("[").endsWith("]");
+		assertThat(result).contains("\"string\":\"Foo\"");
+		assertThat(result).contains("\"string\":\"Bar\"");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void writeEmptyStream() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		this.converter.writeInternal(Stream.empty(), null, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("[]");
+	}
+
+	@Test
+	void writeIterator() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		MappingJacksonValue jacksonValue = new MappingJacksonValue(List.of("foo", "bar").iterator());
+		this.converter.writeInternal(jacksonValue, null, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("[\"foo\",\"bar\"]");
+		assertThat(this.converter.supportsRepeatableWrites(jacksonValue)).isFalse();
+	}
+
+	@Test
+	void writeIteratorSubtypeWithOtherTypeParameter() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		MyBean foo = new MyBean();
+		foo.setString("Foo");
+		KeyedIterator<String> iterator = new KeyedIterator<>("key", List.of(foo).iterator());
+		ParameterizedTypeReference<KeyedIterator<String>> typeReference = new ParameterizedTypeReference<>() {};
+		this.converter.writeInternal(iterator, typeReference.getType(), outputMessage);
+
+		String result = outputMessage.getBodyAsString(StandardCharsets.UTF_8);
+		assertThat(result).startsWith("[{").endsWith("}]");
+		assertThat(result).contains("\"string\":\"Foo\"");
+	}
+
 	@Test // gh-27511
 	void readWithNoDefaultConstructor() throws Exception {
 		String body = "{\"property1\":\"foo\",\"property2\":\"bar\"}";
@@ -815,6 +935,32 @@ class MappingJackson2HttpMessageConverterTests {
 	public static class Impl2 implements MyParent {
 	}
 
+	static class KeyedIterator<K> implements Iterator<MyBean> {
+
+		private final K key;
+
+		private final Iterator<MyBean> delegate;
+
+		KeyedIterator(K key, Iterator<MyBean> delegate) {
+			this.key = key;
+			this.delegate = delegate;
+		}
+
+		K getKey() {
+			return this.key;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.delegate.hasNext();
+		}
+
+		@Override
+		public MyBean next() {
+			return this.delegate.next();
+		}
+	}
+
 	private static class MappingJackson2HttpMessageConverterWithCustomization extends MappingJackson2HttpMessageConverter {
 
 		@Override
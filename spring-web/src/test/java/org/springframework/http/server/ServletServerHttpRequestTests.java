@@ -31,6 +31,7 @@ import org.springframework.util.FileCopyUtils;
 import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * @author Arjen Poutsma
@@ -158,6 +159,25 @@ class ServletServerHttpRequestTests {
 		assertThat(request.getHeaders()).as("Invalid content-type should not raise exception").isEmpty();
 	}
 
+	@Test
+	void getHeadersReadsThroughToServletRequest() {
+		HttpHeaders headers = request.getHeaders();
+		mockRequest.addHeader("MyHeader", "value1");
+		mockRequest.setContentType("text/plain");
+		mockRequest.setCharacterEncoding("UTF-8");
+
+		assertThat(headers.getFirst("myheader")).isEqualTo("value1");
+		assertThat(headers.containsKey("MYHEADER")).isTrue();
+		assertThat(headers.get("OtherHeader")).isNull();
+		assertThat(headers.getContentType()).isEqualTo(new MediaType("text", "plain", StandardCharsets.UTF_8));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> headers.get("MyHeader").add("value2"));
+
+		headers.add("OtherHeader", "value2");
+		assertThat(headers.keySet()).containsExactlyInAnyOrder("MyHeader", "Content-Type", "OtherHeader");
+		assertThat(mockRequest.getHeader("OtherHeader")).isNull();
+	}
+
 	@Test
 	void getBody() throws IOException {
 		byte[] content = "Hello World".getBytes(StandardCharsets.UTF_8);
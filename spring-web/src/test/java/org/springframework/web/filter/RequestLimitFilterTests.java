@@ -0,0 +1,117 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.testfixture.servlet.MockFilterChain;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link RequestLimitFilter}.
+ */
+class RequestLimitFilterTests {
+
+	private final ConcurrencyRequestLimiter limiter = new ConcurrencyRequestLimiter(1);
+
+	private final RequestLimitFilter filter = new RequestLimitFilter();
+
+
+	@Test
+	void requestWithinLimit() throws Exception {
+		this.filter.addRequestLimiter("/api/**", this.limiter);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/api/resource"), response, chain);
+
+		assertThat(chain.getRequest()).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+		assertThat(this.limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void requestRejectedWhenLimitReached() throws Exception {
+		this.filter.addRequestLimiter("/api/**", this.limiter);
+		this.limiter.tryAcquire();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/api/resource"), response, chain);
+
+		assertThat(chain.getRequest()).isNull();
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	@Test
+	void rejectedStatus() throws Exception {
+		this.filter.addRequestLimiter("/api/**", this.limiter);
+		this.filter.setRejectedStatus(HttpStatus.SERVICE_UNAVAILABLE);
+		this.limiter.tryAcquire();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/api/resource"), response, new MockFilterChain());
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+	}
+
+	@Test
+	void requestNotMatched() throws Exception {
+		this.filter.addRequestLimiter("/api/**", this.limiter);
+		this.limiter.tryAcquire();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		this.filter.doFilter(new MockHttpServletRequest("GET", "/static/app.js"), response, chain);
+
+		assertThat(chain.getRequest()).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+	}
+
+	@Test
+	void permitReleasedOnException() {
+		this.filter.addRequestLimiter("/api/**", this.limiter);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resource");
+
+		assertThatIllegalStateException().isThrownBy(() ->
+				this.filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+					throw new IllegalStateException("Failure");
+				}));
+		assertThat(this.limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void permitReleasedAfterAsyncCompletion() throws Exception {
+		this.filter.addRequestLimiter("/api/**", this.limiter);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resource");
+		request.setAsyncSupported(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		this.filter.doFilter(request, response, (req, res) -> req.startAsync());
+		assertThat(this.limiter.getInFlight()).isEqualTo(1);
+
+		request.getAsyncContext().complete();
+		assertThat(this.limiter.getInFlight()).isZero();
+	}
+
+}
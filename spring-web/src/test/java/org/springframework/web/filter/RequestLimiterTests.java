@@ -0,0 +1,115 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link RequestLimiter} implementations.
+ */
+class RequestLimiterTests {
+
+	@Test
+	void concurrencyLimit() {
+		RequestLimiter limiter = RequestLimiter.concurrency(2);
+
+		RequestLimiter.Permit first = limiter.tryAcquire();
+		RequestLimiter.Permit second = limiter.tryAcquire();
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		assertThat(limiter.tryAcquire()).isNull();
+
+		first.onSuccess();
+		assertThat(limiter.tryAcquire()).isNotNull();
+	}
+
+	@Test
+	void tokenBucketAllowsBurstAndRefills() {
+		AtomicLong nanoTime = new AtomicLong();
+		RequestLimiter limiter = new TokenBucketRequestLimiter(3, 1, Duration.ofSeconds(1), nanoTime::get);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire()).isNotNull();
+		}
+		assertThat(limiter.tryAcquire()).isNull();
+
+		nanoTime.addAndGet(Duration.ofMillis(500).toNanos());
+		assertThat(limiter.tryAcquire()).isNull();
+
+		nanoTime.addAndGet(Duration.ofMillis(500).toNanos());
+		assertThat(limiter.tryAcquire()).isNotNull();
+		assertThat(limiter.tryAcquire()).isNull();
+
+		nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire()).isNotNull();
+		}
+		assertThat(limiter.tryAcquire()).isNull();
+	}
+
+	@Test
+	void adaptiveLimitIncreasesWhenSaturated() {
+		AtomicLong nanoTime = new AtomicLong();
+		AdaptiveRequestLimiter limiter =
+				new AdaptiveRequestLimiter(2, 1, 4, Duration.ofMillis(100), nanoTime::get);
+
+		RequestLimiter.Permit first = limiter.tryAcquire();
+		RequestLimiter.Permit second = limiter.tryAcquire();
+		assertThat(limiter.tryAcquire()).isNull();
+
+		nanoTime.addAndGet(Duration.ofMillis(10).toNanos());
+		first.onSuccess();
+		second.onSuccess();
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	void adaptiveLimitDecreasesOnLatencyAndDrops() {
+		AtomicLong nanoTime = new AtomicLong();
+		AdaptiveRequestLimiter limiter =
+				new AdaptiveRequestLimiter(10, 5, 20, Duration.ofMillis(100), nanoTime::get);
+
+		RequestLimiter.Permit slow = limiter.tryAcquire();
+		nanoTime.addAndGet(Duration.ofMillis(200).toNanos());
+		slow.onSuccess();
+		assertThat(limiter.getLimit()).isEqualTo(9);
+
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire().onDropped();
+		}
+		assertThat(limiter.getLimit()).isEqualTo(5);
+	}
+
+	@Test
+	void adaptivePermitReleasedOnlyOnce() {
+		AdaptiveRequestLimiter limiter =
+				new AdaptiveRequestLimiter(1, 1, 1, Duration.ofMillis(100), System::nanoTime);
+
+		RequestLimiter.Permit permit = limiter.tryAcquire();
+		permit.onSuccess();
+		permit.onDropped();
+
+		assertThat(limiter.tryAcquire()).isNotNull();
+		assertThat(limiter.tryAcquire()).isNull();
+	}
+
+}
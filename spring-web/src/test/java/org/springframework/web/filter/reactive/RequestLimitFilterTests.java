@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.filter.reactive;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.RequestLimiter;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.testfixture.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.testfixture.server.MockServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RequestLimitFilter}.
+ */
+class RequestLimitFilterTests {
+
+	private final RequestLimitFilter filter = new RequestLimitFilter();
+
+	private final AtomicInteger invocations = new AtomicInteger();
+
+	private final WebFilterChain chain = exchange -> Mono.fromRunnable(this.invocations::incrementAndGet);
+
+
+	@Test
+	void requestWithinLimit() {
+		RequestLimiter limiter = RequestLimiter.concurrency(1);
+		this.filter.addRequestLimiter("/api/**", limiter);
+		ServerWebExchange exchange = exchange("/api/resource");
+
+		this.filter.filter(exchange, this.chain).block(Duration.ZERO);
+
+		assertThat(this.invocations).hasValue(1);
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+		assertThat(limiter.tryAcquire()).isNotNull();
+	}
+
+	@Test
+	void requestRejectedWhenLimitReached() {
+		RequestLimiter limiter = RequestLimiter.concurrency(1);
+		this.filter.addRequestLimiter("/api/**", limiter);
+		limiter.tryAcquire();
+		ServerWebExchange exchange = exchange("/api/resource");
+
+		this.filter.filter(exchange, this.chain).block(Duration.ZERO);
+
+		assertThat(this.invocations).hasValue(0);
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	@Test
+	void requestNotMatched() {
+		RequestLimiter limiter = RequestLimiter.concurrency(1);
+		this.filter.addRequestLimiter("/api/**", limiter);
+		limiter.tryAcquire();
+
+		this.filter.filter(exchange("/static/app.js"), this.chain).block(Duration.ZERO);
+
+		assertThat(this.invocations).hasValue(1);
+	}
+
+	@Test
+	void permitAcquiredOnSubscription() {
+		RequestLimiter limiter = RequestLimiter.concurrency(1);
+		this.filter.addRequestLimiter("/api/**", limiter);
+		Mono<Void> result = this.filter.filter(exchange("/api/resource"), this.chain);
+
+		RequestLimiter.Permit permit = limiter.tryAcquire();
+		assertThat(permit).isNotNull();
+		permit.onSuccess();
+		result.block(Duration.ZERO);
+		assertThat(this.invocations).hasValue(1);
+	}
+
+	@Test
+	void permitReleasedOnError() {
+		RequestLimiter limiter = RequestLimiter.concurrency(1);
+		this.filter.addRequestLimiter("/api/**", limiter);
+
+		StepVerifier.create(this.filter.filter(exchange("/api/resource"),
+						exchange -> Mono.error(new IllegalStateException("Failure"))))
+				.verifyError(IllegalStateException.class);
+		assertThat(limiter.tryAcquire()).isNotNull();
+	}
+
+
+	private static ServerWebExchange exchange(String path) {
+		return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+	}
+
+}
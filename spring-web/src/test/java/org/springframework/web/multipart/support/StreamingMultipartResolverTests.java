@@ -0,0 +1,218 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.multipart.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.ServletRequestDataBinder;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.support.StreamingMultipartHttpServletRequest.StreamingPart;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link StreamingMultipartResolver}.
+ */
+class StreamingMultipartResolverTests {
+
+	private static final String BOUNDARY = "simple-boundary";
+
+	private final StreamingMultipartResolver resolver = new StreamingMultipartResolver();
+
+
+	@Test
+	void isMultipart() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+		assertThat(this.resolver.isMultipart(request)).isFalse();
+
+		request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		assertThat(this.resolver.isMultipart(request)).isTrue();
+
+		request.setContentType("multipart/mixed; boundary=" + BOUNDARY);
+		assertThat(this.resolver.isMultipart(request)).isFalse();
+	}
+
+	@Test
+	void streamParts() throws IOException {
+		StreamingMultipartHttpServletRequest request = resolve(createRequest());
+
+		try (Stream<StreamingPart> parts = request.getPartStream()) {
+			List<String> contents = parts.map(part -> {
+				try {
+					if (part.getOriginalFilename() == null) {
+						return part.getName() + "=" + part.getContentAsString();
+					}
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					part.transferTo(out);
+					return part.getName() + ":" + part.getOriginalFilename() + ":" + part.getContentType() +
+							"=" + out.toString(StandardCharsets.UTF_8);
+				}
+				catch (IOException ex) {
+					throw new IllegalStateException(ex);
+				}
+			}).toList();
+
+			assertThat(contents).containsExactly("field=value", "file:foo.txt:text/plain=file content");
+		}
+
+		assertThatIllegalStateException().isThrownBy(() -> request.getParameter("field"));
+		assertThatIllegalStateException().isThrownBy(() -> request.getFile("file"));
+	}
+
+	@Test
+	void streamSkipsUnreadContent() {
+		StreamingMultipartHttpServletRequest request = resolve(createRequest());
+
+		try (Stream<StreamingPart> parts = request.getPartStream()) {
+			assertThat(parts.map(StreamingPart::getName)).containsExactly("field", "file");
+		}
+	}
+
+	@Test
+	void bufferParts() throws IOException {
+		StreamingMultipartHttpServletRequest request = resolve(createRequest());
+
+		MultipartFile file = request.getFile("file");
+		assertThat(file).isNotNull();
+		assertThat(file.getOriginalFilename()).isEqualTo("foo.txt");
+		assertThat(file.getContentType()).isEqualTo("text/plain");
+		assertThat(new String(file.getBytes(), StandardCharsets.UTF_8)).isEqualTo("file content");
+		assertThat(request.getParameter("field")).isEqualTo("value");
+		assertThatIllegalStateException().isThrownBy(request::getPartStream);
+	}
+
+	@Test
+	void bufferPartsOnParameterAccess() {
+		StreamingMultipartHttpServletRequest request = resolve(createRequest());
+
+		assertThat(request.getParameter("field")).isEqualTo("value");
+		assertThat(request.isResolved()).isTrue();
+		assertThat(request.getFile("file")).isNotNull();
+		assertThatIllegalStateException().isThrownBy(request::getPartStream);
+	}
+
+	@Test
+	void bindBufferedParts() throws IOException {
+		StreamingMultipartHttpServletRequest request = resolve(createRequest());
+		UploadForm form = new UploadForm();
+
+		new ServletRequestDataBinder(form).bind(request);
+
+		assertThat(form.getField()).isEqualTo("value");
+		assertThat(form.getFile()).isNotNull();
+		assertThat(new String(form.getFile().getBytes(), StandardCharsets.UTF_8)).isEqualTo("file content");
+	}
+
+	@Test
+	void bufferPartsExceedingLimitToTempFile(@TempDir Path tempDir) throws IOException {
+		this.resolver.setMaxInMemorySize(8);
+		this.resolver.setFileStorageDirectory(tempDir);
+		StreamingMultipartHttpServletRequest request = resolve(createRequest());
+
+		MultipartFile file = request.getFile("file");
+		assertThat(file).isNotNull();
+		assertThat(file.getSize()).isEqualTo(12);
+		assertThat(new String(file.getBytes(), StandardCharsets.UTF_8)).isEqualTo("file content");
+		assertThat(request.getParameter("field")).isEqualTo("value");
+		try (Stream<Path> files = Files.list(tempDir)) {
+			assertThat(files).hasSize(1);
+		}
+
+		this.resolver.cleanupMultipart(request);
+		try (Stream<Path> files = Files.list(tempDir)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void formFieldExceedingLimit() {
+		this.resolver.setMaxInMemorySize(4);
+		StreamingMultipartHttpServletRequest request = resolve(createRequest());
+
+		assertThatExceptionOfType(MaxUploadSizeExceededException.class).isThrownBy(request::getFileMap);
+	}
+
+
+	private StreamingMultipartHttpServletRequest resolve(MockHttpServletRequest request) {
+		MultipartHttpServletRequest multipartRequest = this.resolver.resolveMultipart(request);
+		assertThat(multipartRequest).isInstanceOf(StreamingMultipartHttpServletRequest.class);
+		return (StreamingMultipartHttpServletRequest) multipartRequest;
+	}
+
+	private static MockHttpServletRequest createRequest() {
+		String body = """
+				--simple-boundary\r
+				Content-Disposition: form-data; name="field"\r
+				\r
+				value\r
+				--simple-boundary\r
+				Content-Disposition: form-data; name="file"; filename="foo.txt"\r
+				Content-Type: text/plain\r
+				\r
+				file content\r
+				--simple-boundary--\r
+				""";
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+		request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+
+	public static class UploadForm {
+
+		@Nullable
+		private String field;
+
+		@Nullable
+		private MultipartFile file;
+
+		@Nullable
+		public String getField() {
+			return this.field;
+		}
+
+		public void setField(@Nullable String field) {
+			this.field = field;
+		}
+
+		@Nullable
+		public MultipartFile getFile() {
+			return this.file;
+		}
+
+		public void setFile(@Nullable MultipartFile file) {
+			this.file = file;
+		}
+	}
+
+}
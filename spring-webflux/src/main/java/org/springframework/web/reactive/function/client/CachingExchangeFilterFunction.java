@@ -0,0 +1,206 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive.function.client;
+
+import java.io.IOException;
+import java.time.Clock;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cache.Cache;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.support.HttpCacheEntry;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ExchangeFilterFunction} that acts as a private HTTP cache,
+ * following the rules of <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+ * This is the {@link WebClient} counterpart of
+ * {@link org.springframework.http.client.support.CachingClientHttpRequestInterceptor},
+ * and stores the same {@link HttpCacheEntry} instances, keyed by request URL.
+ *
+ * <p>Fresh entries are served without contacting the server; stale entries
+ * with validators are revalidated with a conditional request, and may be
+ * served in place of a {@code 5xx} response or of a request or I/O failure
+ * ({@link WebClientRequestException} or {@link IOException}) if
+ * {@code stale-if-error} allows it. Other errors, such as decoding
+ * failures, are propagated. Bodies of stored responses are
+ * aggregated in memory, subject to the
+ * {@linkplain org.springframework.http.codec.CodecConfigurer.DefaultCodecs#maxInMemorySize(int)
+ * maximum in-memory size} of the configured codecs.
+ *
+ * <p>The {@link Cache} is accessed synchronously, so it should be backed by
+ * a non-blocking, in-memory store.
+ *
+ * @since 6.2
+ * @see HttpCacheEntry
+ */
+public class CachingExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private static final byte[] EMPTY_BODY = new byte[0];
+
+
+	private final Cache cache;
+
+	private final ExchangeStrategies strategies;
+
+	private Clock clock = Clock.systemUTC();
+
+
+	/**
+	 * Create a new filter that stores responses in the given cache.
+	 * @param cache the cache to use
+	 */
+	public CachingExchangeFilterFunction(Cache cache) {
+		this(cache, ExchangeStrategies.withDefaults());
+	}
+
+	/**
+	 * Create a new filter that stores responses in the given cache, and
+	 * uses the given strategies for responses served from the cache.
+	 * @param cache the cache to use
+	 * @param strategies the strategies for responses served from the cache
+	 */
+	public CachingExchangeFilterFunction(Cache cache, ExchangeStrategies strategies) {
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.notNull(strategies, "ExchangeStrategies must not be null");
+		this.cache = cache;
+		this.strategies = strategies;
+	}
+
+
+	/**
+	 * Set the {@link Clock} to use to compute the age of stored responses.
+	 * <p>By default, this is {@link Clock#systemUTC()}.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Return the configured {@link Clock}.
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		HttpMethod method = request.method();
+		HttpHeaders requestHeaders = request.headers();
+		String key = request.url().toString();
+
+		if (!HttpCacheEntry.isCacheableRequest(method, requestHeaders)) {
+			return next.exchange(request).doOnNext(response -> {
+				if (isUnsafe(method) && !response.statusCode().isError()) {
+					this.cache.evict(key);
+				}
+			});
+		}
+
+		return Mono.defer(() -> {
+			HttpCacheEntry entry = this.cache.get(key, HttpCacheEntry.class);
+			if (entry != null && !entry.matches(requestHeaders)) {
+				entry = null;
+			}
+			if (entry != null && entry.isFresh(requestHeaders, this.clock.millis())) {
+				return Mono.just(createResponse(entry, this.clock.millis(), this.strategies));
+			}
+
+			ClientRequest requestToUse = request;
+			if (entry != null && entry.hasValidators()) {
+				requestToUse = ClientRequest.from(request).headers(entry::applyConditionalHeaders).build();
+			}
+
+			HttpCacheEntry stored = entry;
+			long requestTime = this.clock.millis();
+			return next.exchange(requestToUse)
+					.flatMap(response -> handleResponse(key, requestHeaders, stored, response, requestTime))
+					.onErrorResume(ex -> {
+						if (stored != null && isStaleIfErrorException(ex) &&
+								stored.isStaleIfErrorAllowed(requestHeaders, this.clock.millis())) {
+							return Mono.just(createResponse(stored, this.clock.millis(), this.strategies));
+						}
+						return Mono.error(ex);
+					});
+		});
+	}
+
+	private Mono<ClientResponse> handleResponse(String key, HttpHeaders requestHeaders,
+			@Nullable HttpCacheEntry entry, ClientResponse response, long requestTime) {
+
+		long responseTime = this.clock.millis();
+		int statusCode = response.statusCode().value();
+		HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+
+		if (entry != null) {
+			if (statusCode == HttpStatus.NOT_MODIFIED.value()) {
+				return response.releaseBody().then(Mono.fromSupplier(() -> {
+					HttpCacheEntry updated = entry.revalidate(responseHeaders, requestTime, responseTime);
+					this.cache.put(key, updated);
+					return createResponse(updated, responseTime, response.strategies());
+				}));
+			}
+			if (HttpCacheEntry.isStaleIfErrorStatus(statusCode) &&
+					entry.isStaleIfErrorAllowed(requestHeaders, responseTime)) {
+				return response.releaseBody().then(Mono.fromSupplier(() ->
+						createResponse(entry, responseTime, response.strategies())));
+			}
+		}
+
+		if (HttpCacheEntry.isCacheableResponse(statusCode, responseHeaders)) {
+			return response.bodyToMono(byte[].class)
+					.defaultIfEmpty(EMPTY_BODY)
+					.map(body -> {
+						HttpCacheEntry created = HttpCacheEntry.create(
+								requestHeaders, statusCode, responseHeaders, body, requestTime, responseTime);
+						this.cache.put(key, created);
+						return createResponse(created, responseTime, response.strategies());
+					});
+		}
+
+		if (entry != null) {
+			this.cache.evict(key);
+		}
+		return Mono.just(response);
+	}
+
+	private static ClientResponse createResponse(HttpCacheEntry entry, long now, ExchangeStrategies strategies) {
+		HttpHeaders headers = entry.getResponseHeaders(now);
+		return ClientResponse.create(entry.getStatusCode(), strategies)
+				.headers(httpHeaders -> httpHeaders.putAll(headers))
+				.body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(entry.getBody()))))
+				.build();
+	}
+
+	private static boolean isStaleIfErrorException(Throwable ex) {
+		return (ex instanceof WebClientRequestException || ex instanceof IOException);
+	}
+
+	private static boolean isUnsafe(HttpMethod method) {
+		return !(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) ||
+				HttpMethod.OPTIONS.equals(method) || HttpMethod.TRACE.equals(method));
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive.function.client;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CachingExchangeFilterFunction}.
+ */
+class CachingExchangeFilterFunctionTests {
+
+	private static final URI URL = URI.create("https://example.org/resource");
+
+	private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+	private final ConcurrentMapCache cache = new ConcurrentMapCache("http");
+
+	private final CachingExchangeFilterFunction filter = new CachingExchangeFilterFunction(this.cache);
+
+	private final Deque<Mono<ClientResponse>> responses = new ArrayDeque<>();
+
+	private final List<ClientRequest> requests = new ArrayList<>();
+
+	private final ExchangeFunction exchange = request -> {
+		this.requests.add(request);
+		Mono<ClientResponse> response = this.responses.poll();
+		return (response != null ? response : Mono.error(new WebClientRequestException(
+				new ConnectException("No response"), request.method(), request.url(), request.headers())));
+	};
+
+
+	@BeforeEach
+	void setup() {
+		advanceClock(0);
+	}
+
+
+	@Test
+	void freshResponseIsServedFromCache() {
+		respond(HttpStatus.OK, "first", "max-age=60");
+
+		assertBody(HttpMethod.GET, "first");
+		advanceClock(30);
+		ClientResponse response = execute(HttpMethod.GET).block();
+
+		assertThat(response).isNotNull();
+		assertThat(response.headers().asHttpHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("30");
+		StepVerifier.create(response.bodyToMono(String.class)).expectNext("first").verifyComplete();
+		assertThat(this.requests).hasSize(1);
+	}
+
+	@Test
+	void staleResponseIsRevalidated() {
+		this.responses.add(Mono.just(ClientResponse.create(HttpStatus.OK)
+				.header(HttpHeaders.CACHE_CONTROL, "max-age=10")
+				.header(HttpHeaders.ETAG, "\"v1\"")
+				.body("first")
+				.build()));
+		this.responses.add(Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build()));
+
+		assertBody(HttpMethod.GET, "first");
+		advanceClock(20);
+		assertBody(HttpMethod.GET, "first");
+
+		assertThat(this.requests).hasSize(2);
+		assertThat(this.requests.get(1).headers().getIfNoneMatch()).containsExactly("\"v1\"");
+		assertBody(HttpMethod.GET, "first");
+		assertThat(this.requests).hasSize(2);
+	}
+
+	@Test
+	void noStoreResponseIsNotCached() {
+		respond(HttpStatus.OK, "first", "no-store");
+		respond(HttpStatus.OK, "second", "no-store");
+
+		assertBody(HttpMethod.GET, "first");
+		assertBody(HttpMethod.GET, "second");
+		assertThat(this.cache.getNativeCache()).isEmpty();
+	}
+
+	@Test
+	void staleIfErrorOnServerError() {
+		respond(HttpStatus.OK, "first", "max-age=10, stale-if-error=60");
+		this.responses.add(Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build()));
+
+		assertBody(HttpMethod.GET, "first");
+		advanceClock(30);
+		assertBody(HttpMethod.GET, "first");
+	}
+
+	@Test
+	void staleIfErrorOnRequestFailure() {
+		respond(HttpStatus.OK, "first", "max-age=10, stale-if-error=60");
+
+		assertBody(HttpMethod.GET, "first");
+		advanceClock(30);
+		assertBody(HttpMethod.GET, "first");
+
+		advanceClock(60);
+		StepVerifier.create(execute(HttpMethod.GET)).verifyError(WebClientRequestException.class);
+	}
+
+	@Test
+	void staleIfErrorNotAppliedToOtherErrors() {
+		respond(HttpStatus.OK, "first", "max-age=10, stale-if-error=60");
+		this.responses.add(Mono.error(new IllegalStateException("Decoding failed")));
+
+		assertBody(HttpMethod.GET, "first");
+		advanceClock(30);
+		StepVerifier.create(execute(HttpMethod.GET)).verifyError(IllegalStateException.class);
+	}
+
+	@Test
+	void unsafeMethodInvalidatesEntry() {
+		respond(HttpStatus.OK, "first", "max-age=60");
+		this.responses.add(Mono.just(ClientResponse.create(HttpStatus.NO_CONTENT).build()));
+		respond(HttpStatus.OK, "second", "max-age=60");
+
+		assertBody(HttpMethod.GET, "first");
+		execute(HttpMethod.POST).block();
+		assertBody(HttpMethod.GET, "second");
+		assertThat(this.requests).hasSize(3);
+	}
+
+
+	private Mono<ClientResponse> execute(HttpMethod method) {
+		return this.filter.filter(ClientRequest.create(method, URL).build(), this.exchange);
+	}
+
+	private void assertBody(HttpMethod method, String expected) {
+		StepVerifier.create(execute(method).flatMap(response -> response.bodyToMono(String.class)))
+				.expectNext(expected)
+				.verifyComplete();
+	}
+
+	private void respond(HttpStatus status, String body, String cacheControl) {
+		this.responses.add(Mono.just(ClientResponse.create(status)
+				.header(HttpHeaders.CACHE_CONTROL, cacheControl)
+				.body(body)
+				.build()));
+	}
+
+	private void advanceClock(long seconds) {
+		this.filter.setClock(Clock.fixed(START.plusSeconds(seconds), ZoneOffset.UTC));
+	}
+
+}
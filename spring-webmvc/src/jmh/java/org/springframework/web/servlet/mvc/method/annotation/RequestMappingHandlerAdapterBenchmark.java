@@ -0,0 +1,112 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.mvc.method.annotation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
+
+/**
+ * Benchmarks for dispatching requests to annotated controller methods
+ * through {@link RequestMappingHandlerAdapter}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RequestMappingHandlerAdapterBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public RequestMappingHandlerAdapter handlerAdapter;
+
+		public HandlerMethod restMethod;
+
+		public HandlerMethod modelMethod;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.handlerAdapter = new RequestMappingHandlerAdapter();
+			this.handlerAdapter.setApplicationContext(new StaticWebApplicationContext());
+			this.handlerAdapter.afterPropertiesSet();
+
+			Method restHandler = RestController.class.getMethod("greet", String.class, String.class);
+			this.restMethod = new HandlerMethod(new RestController(), restHandler);
+			Method modelHandler = ModelController.class.getMethod("show", Model.class);
+			this.modelMethod = new HandlerMethod(new ModelController(), modelHandler);
+		}
+	}
+
+
+	@Benchmark
+	public MockHttpServletResponse restController(BenchmarkData data) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/greet/spring");
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("name", "spring"));
+		request.setParameter("greeting", "Hello");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		data.handlerAdapter.handle(request, response, data.restMethod);
+		return response;
+	}
+
+	@Benchmark
+	public ModelAndView modelController(BenchmarkData data) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/show");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		return data.handlerAdapter.handle(request, response, data.modelMethod);
+	}
+
+
+	public static class RestController {
+
+		@ResponseBody
+		public String greet(@PathVariable("name") String name, @RequestParam("greeting") String greeting) {
+			return greeting + " " + name;
+		}
+	}
+
+
+	public static class ModelController {
+
+		@ModelAttribute
+		public void addAttributes(Model model) {
+			model.addAttribute("attr", "value");
+		}
+
+		public String show(Model model) {
+			model.addAttribute("other", "value");
+			return "view";
+		}
+	}
+
+}
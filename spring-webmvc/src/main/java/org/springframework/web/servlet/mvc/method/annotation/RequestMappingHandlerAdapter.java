@@ -18,6 +18,7 @@ package org.springframework.web.servlet.mvc.method.annotation;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -206,6 +207,9 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 
 	private final Map<ControllerAdviceBean, Set<Method>> modelAttributeAdviceCache = new LinkedHashMap<>();
 
+	// Bounded by the number of handler methods, as the per-type caches above are by handler types
+	private final Map<InvocationPlanKey, InvocationPlan> invocationPlanCache = new ConcurrentHashMap<>(64);
+
 
 	/**
 	 * Provide resolvers for custom argument types. Custom resolvers are ordered
@@ -915,8 +919,9 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		ServletWebRequest webRequest = (asyncWebRequest instanceof ServletWebRequest ?
 				(ServletWebRequest) asyncWebRequest : new ServletWebRequest(request, response));
 
-		WebDataBinderFactory binderFactory = getDataBinderFactory(handlerMethod);
-		ModelFactory modelFactory = getModelFactory(handlerMethod, binderFactory);
+		InvocationPlan plan = getInvocationPlan(handlerMethod);
+		WebDataBinderFactory binderFactory = plan.getDataBinderFactory(handlerMethod);
+		ModelFactory modelFactory = plan.getModelFactory(handlerMethod, binderFactory);
 
 		ServletInvocableHandlerMethod invocableMethod = createInvocableHandlerMethod(handlerMethod);
 		if (this.argumentResolvers != null) {
@@ -965,29 +970,30 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		return new ServletInvocableHandlerMethod(handlerMethod);
 	}
 
-	private ModelFactory getModelFactory(HandlerMethod handlerMethod, WebDataBinderFactory binderFactory) {
-		SessionAttributesHandler sessionAttrHandler = getSessionAttributesHandler(handlerMethod);
-		Class<?> handlerType = handlerMethod.getBeanType();
-		Set<Method> methods = this.modelAttributeCache.get(handlerType);
-		if (methods == null) {
-			methods = MethodIntrospector.selectMethods(handlerType, MODEL_ATTRIBUTE_METHODS);
-			this.modelAttributeCache.put(handlerType, methods);
+	/**
+	 * Return the {@link InvocationPlan} for the given handler method, creating
+	 * it on first use.
+	 */
+	private InvocationPlan getInvocationPlan(HandlerMethod handlerMethod) {
+		InvocationPlanKey key = new InvocationPlanKey(handlerMethod.getBeanType(), handlerMethod.getMethod());
+		InvocationPlan plan = this.invocationPlanCache.get(key);
+		if (plan == null) {
+			plan = new InvocationPlan(handlerMethod);
+			this.invocationPlanCache.put(key, plan);
 		}
-		List<InvocableHandlerMethod> attrMethods = new ArrayList<>();
-		// Global methods first
-		this.modelAttributeAdviceCache.forEach((controllerAdviceBean, methodSet) -> {
-			if (controllerAdviceBean.isApplicableToBeanType(handlerType)) {
-				Object bean = controllerAdviceBean.resolveBean();
-				for (Method method : methodSet) {
-					attrMethods.add(createModelAttributeMethod(binderFactory, bean, method));
-				}
+		return plan;
+	}
+
+	private Map<ControllerAdviceBean, Set<Method>> getApplicableAdviceMethods(
+			Map<ControllerAdviceBean, Set<Method>> adviceCache, Class<?> handlerType) {
+
+		Map<ControllerAdviceBean, Set<Method>> result = new LinkedHashMap<>();
+		adviceCache.forEach((controllerAdviceBean, methodSet) -> {
+			if (!methodSet.isEmpty() && controllerAdviceBean.isApplicableToBeanType(handlerType)) {
+				result.put(controllerAdviceBean, methodSet);
 			}
 		});
-		for (Method method : methods) {
-			Object bean = handlerMethod.getBean();
-			attrMethods.add(createModelAttributeMethod(binderFactory, bean, method));
-		}
-		return new ModelFactory(attrMethods, binderFactory, sessionAttrHandler);
+		return (result.isEmpty() ? Collections.emptyMap() : result);
 	}
 
 	private InvocableHandlerMethod createModelAttributeMethod(WebDataBinderFactory factory, Object bean, Method method) {
@@ -1000,32 +1006,6 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		return attrMethod;
 	}
 
-	private WebDataBinderFactory getDataBinderFactory(HandlerMethod handlerMethod) throws Exception {
-		Class<?> handlerType = handlerMethod.getBeanType();
-		Set<Method> methods = this.initBinderCache.get(handlerType);
-		if (methods == null) {
-			methods = MethodIntrospector.selectMethods(handlerType, INIT_BINDER_METHODS);
-			this.initBinderCache.put(handlerType, methods);
-		}
-		List<InvocableHandlerMethod> initBinderMethods = new ArrayList<>();
-		// Global methods first
-		this.initBinderAdviceCache.forEach((controllerAdviceBean, methodSet) -> {
-			if (controllerAdviceBean.isApplicableToBeanType(handlerType)) {
-				Object bean = controllerAdviceBean.resolveBean();
-				for (Method method : methodSet) {
-					initBinderMethods.add(createInitBinderMethod(bean, method));
-				}
-			}
-		});
-		for (Method method : methods) {
-			Object bean = handlerMethod.getBean();
-			initBinderMethods.add(createInitBinderMethod(bean, method));
-		}
-		DefaultDataBinderFactory factory = createDataBinderFactory(initBinderMethods);
-		factory.setMethodValidationApplicable(this.methodValidator != null && handlerMethod.shouldValidateArguments());
-		return factory;
-	}
-
 	private InvocableHandlerMethod createInitBinderMethod(Object bean, Method method) {
 		InvocableHandlerMethod binderMethod = new InvocableHandlerMethod(bean, method);
 		if (this.initBinderArgumentResolvers != null) {
@@ -1074,6 +1054,94 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 	}
 
 
+	/**
+	 * Key for the {@link InvocationPlan} cache: the same method may be
+	 * invoked on beans of different types that inherit it.
+	 */
+	private record InvocationPlanKey(Class<?> beanType, Method method) {
+	}
+
+
+	/**
+	 * Invocation plan for a handler method, computed once per handler type and
+	 * method: the applicable {@code @InitBinder} and {@code @ModelAttribute}
+	 * methods, the {@link SessionAttributesHandler}, and the argument resolvers
+	 * for the method parameters.
+	 * <p>The {@link WebDataBinderFactory}, the {@link ModelFactory} and the
+	 * {@link ServletInvocableHandlerMethod} are still created for each request,
+	 * through {@link #createDataBinderFactory} and
+	 * {@link #createInvocableHandlerMethod}, as subclasses may return per-request
+	 * or otherwise stateful instances from these template methods.
+	 */
+	private final class InvocationPlan {
+
+		private final Map<ControllerAdviceBean, Set<Method>> initBinderAdviceMethods;
+
+		private final Set<Method> initBinderMethods;
+
+		private final Map<ControllerAdviceBean, Set<Method>> modelAttributeAdviceMethods;
+
+		private final Set<Method> modelAttributeMethods;
+
+		private final SessionAttributesHandler sessionAttributesHandler;
+
+		private final boolean methodValidationApplicable;
+
+		InvocationPlan(HandlerMethod handlerMethod) {
+			Class<?> handlerType = handlerMethod.getBeanType();
+			this.initBinderAdviceMethods = getApplicableAdviceMethods(initBinderAdviceCache, handlerType);
+			this.initBinderMethods = initBinderCache.computeIfAbsent(handlerType,
+					type -> MethodIntrospector.selectMethods(type, INIT_BINDER_METHODS));
+			this.modelAttributeAdviceMethods = getApplicableAdviceMethods(modelAttributeAdviceCache, handlerType);
+			this.modelAttributeMethods = modelAttributeCache.computeIfAbsent(handlerType,
+					type -> MethodIntrospector.selectMethods(type, MODEL_ATTRIBUTE_METHODS));
+			this.sessionAttributesHandler = getSessionAttributesHandler(handlerMethod);
+			this.methodValidationApplicable = (methodValidator != null && handlerMethod.shouldValidateArguments());
+
+			// Bind each parameter to its resolver upfront
+			if (argumentResolvers != null) {
+				for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+					argumentResolvers.supportsParameter(parameter);
+				}
+			}
+		}
+
+		WebDataBinderFactory getDataBinderFactory(HandlerMethod handlerMethod) throws Exception {
+			List<InvocableHandlerMethod> binderMethods = new ArrayList<>();
+			// Global methods first
+			this.initBinderAdviceMethods.forEach((controllerAdviceBean, methodSet) -> {
+				Object bean = controllerAdviceBean.resolveBean();
+				for (Method method : methodSet) {
+					binderMethods.add(createInitBinderMethod(bean, method));
+				}
+			});
+			for (Method method : this.initBinderMethods) {
+				Object bean = handlerMethod.getBean();
+				binderMethods.add(createInitBinderMethod(bean, method));
+			}
+			DefaultDataBinderFactory factory = createDataBinderFactory(binderMethods);
+			factory.setMethodValidationApplicable(this.methodValidationApplicable);
+			return factory;
+		}
+
+		ModelFactory getModelFactory(HandlerMethod handlerMethod, WebDataBinderFactory binderFactory) {
+			List<InvocableHandlerMethod> attrMethods = new ArrayList<>();
+			// Global methods first
+			this.modelAttributeAdviceMethods.forEach((controllerAdviceBean, methodSet) -> {
+				Object bean = controllerAdviceBean.resolveBean();
+				for (Method method : methodSet) {
+					attrMethods.add(createModelAttributeMethod(binderFactory, bean, method));
+				}
+			});
+			for (Method method : this.modelAttributeMethods) {
+				Object bean = handlerMethod.getBean();
+				attrMethods.add(createModelAttributeMethod(binderFactory, bean, method));
+			}
+			return new ModelFactory(attrMethods, binderFactory, this.sessionAttributesHandler);
+		}
+	}
+
+
 	/**
 	 * A default Spring MVC AsyncTaskExecutor that warns if used.
 	 */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package org.springframework.web.servlet.mvc.method.annotation;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -24,6 +25,7 @@ import java.util.function.Consumer;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
@@ -85,6 +87,8 @@ public class ResponseBodyEmitter {
 
 	private final DefaultCallback completionCallback = new DefaultCallback();
 
+	private FlushPolicy flushPolicy = FlushPolicy.immediate();
+
 
 	/**
 	 * Create a new ResponseBodyEmitter instance.
@@ -113,6 +117,30 @@ public class ResponseBodyEmitter {
 		return this.timeout;
 	}
 
+	/**
+	 * Set the policy that decides when sent data is flushed to the network.
+	 * <p>By default, this is {@link FlushPolicy#immediate()}, flushing after
+	 * every send operation. A {@linkplain FlushPolicy#batched batched} policy
+	 * reduces the number of flushes, and therefore of network writes, when
+	 * sending many small items to many clients.
+	 * <p>This must be set before the emitter is returned from the controller
+	 * method.
+	 * @param flushPolicy the flush policy to use
+	 * @since 6.2
+	 */
+	public void setFlushPolicy(FlushPolicy flushPolicy) {
+		Assert.notNull(flushPolicy, "FlushPolicy must not be null");
+		this.flushPolicy = flushPolicy;
+	}
+
+	/**
+	 * Return the configured flush policy.
+	 * @since 6.2
+	 */
+	public FlushPolicy getFlushPolicy() {
+		return this.flushPolicy;
+	}
+
 
 	synchronized void initialize(Handler handler) throws IOException {
 		this.handler = handler;
@@ -214,13 +242,44 @@ public class ResponseBodyEmitter {
 		sendInternal(items);
 	}
 
+	/**
+	 * Write data that only serves to keep the connection alive, which the
+	 * handler may skip if other data is waiting to be flushed.
+	 * @since 6.2
+	 */
+	synchronized void sendHeartbeat(Set<DataWithMediaType> items) throws IOException {
+		Assert.state(!this.complete, () -> "ResponseBodyEmitter has already completed" +
+				(this.failure != null ? " with error: " + this.failure : ""));
+		sendInternal(items, true);
+	}
+
+	/**
+	 * Run the given action, typically a delayed flush from a scheduler thread,
+	 * unless this emitter has completed in the meantime.
+	 * @since 6.2
+	 */
+	synchronized void runIfNotComplete(Runnable action) {
+		if (!this.complete) {
+			action.run();
+		}
+	}
+
 	private void sendInternal(Set<DataWithMediaType> items) throws IOException {
+		sendInternal(items, false);
+	}
+
+	private void sendInternal(Set<DataWithMediaType> items, boolean heartbeat) throws IOException {
 		if (items.isEmpty()) {
 			return;
 		}
 		if (this.handler != null) {
 			try {
-				this.handler.send(items);
+				if (heartbeat) {
+					this.handler.sendHeartbeat(items);
+				}
+				else {
+					this.handler.send(items);
+				}
 			}
 			catch (IOException ex) {
 				throw ex;
@@ -312,16 +371,28 @@ public class ResponseBodyEmitter {
 	interface Handler {
 
 		/**
-		 * Immediately write and flush the given data to the network.
+		 * Immediately write the given data, and flush it to the network
+		 * according to the emitter's {@link FlushPolicy}.
 		 */
 		void send(Object data, @Nullable MediaType mediaType) throws IOException;
 
 		/**
-		 * Immediately write all data items then flush to the network.
+		 * Immediately write all data items, then flush to the network
+		 * according to the emitter's {@link FlushPolicy}.
 		 * @since 6.0.12
 		 */
 		void send(Set<DataWithMediaType> items) throws IOException;
 
+		/**
+		 * Write data items that only keep the connection alive. Handlers that
+		 * batch flushes may skip the items, and flush instead, if other data is
+		 * waiting to be flushed.
+		 * @since 6.2
+		 */
+		default void sendHeartbeat(Set<DataWithMediaType> items) throws IOException {
+			send(items);
+		}
+
 		void complete();
 
 		void completeWithError(Throwable failure);
@@ -361,6 +432,117 @@ public class ResponseBodyEmitter {
 	}
 
 
+	/**
+	 * Policy that decides when data written by a {@link ResponseBodyEmitter}
+	 * is flushed to the network: after a number of send operations, once a
+	 * number of bytes has been written, or after a maximum delay, whichever
+	 * comes first. Data is also flushed on {@link #complete()}.
+	 * @since 6.2
+	 */
+	public static final class FlushPolicy {
+
+		private static final FlushPolicy IMMEDIATE = new FlushPolicy(1, 0, null, null);
+
+		private final int maxSends;
+
+		private final int maxBytes;
+
+		@Nullable
+		private final Duration maxDelay;
+
+		@Nullable
+		private final TaskScheduler scheduler;
+
+		private FlushPolicy(int maxSends, int maxBytes, @Nullable Duration maxDelay, @Nullable TaskScheduler scheduler) {
+			this.maxSends = maxSends;
+			this.maxBytes = maxBytes;
+			this.maxDelay = maxDelay;
+			this.scheduler = scheduler;
+		}
+
+		/**
+		 * Return the number of send operations after which to flush.
+		 */
+		public int getMaxSends() {
+			return this.maxSends;
+		}
+
+		/**
+		 * Return the number of written bytes after which to flush,
+		 * or 0 if not limited.
+		 */
+		public int getMaxBytes() {
+			return this.maxBytes;
+		}
+
+		/**
+		 * Return the maximum time that written data is held back, if any.
+		 */
+		@Nullable
+		public Duration getMaxDelay() {
+			return this.maxDelay;
+		}
+
+		/**
+		 * Return the scheduler for delayed flushes, if any.
+		 */
+		@Nullable
+		public TaskScheduler getScheduler() {
+			return this.scheduler;
+		}
+
+		/**
+		 * Whether the given number of pending send operations or bytes
+		 * requires a flush.
+		 */
+		boolean shouldFlush(int pendingSends, long pendingBytes) {
+			return (pendingSends >= this.maxSends || (this.maxBytes > 0 && pendingBytes >= this.maxBytes));
+		}
+
+		/**
+		 * Flush after every send operation. This is the default.
+		 */
+		public static FlushPolicy immediate() {
+			return IMMEDIATE;
+		}
+
+		/**
+		 * Flush after the given number of send operations, or once the given
+		 * number of bytes has been written.
+		 * <p>Note that without a maximum delay, data is held back until one
+		 * of the limits is reached, or until the emitter completes. Use
+		 * {@link #batched(int, int, Duration, TaskScheduler)} to bound latency.
+		 * @param maxSends the number of send operations after which to flush
+		 * @param maxBytes the number of bytes after which to flush,
+		 * or 0 for no limit
+		 */
+		public static FlushPolicy batched(int maxSends, int maxBytes) {
+			Assert.isTrue(maxSends > 0, "maxSends must be greater than 0");
+			Assert.isTrue(maxBytes >= 0, "maxBytes must not be negative");
+			return new FlushPolicy(maxSends, maxBytes, null, null);
+		}
+
+		/**
+		 * Flush after the given number of send operations, once the given
+		 * number of bytes has been written, or when written data has been
+		 * held back for the given delay.
+		 * @param maxSends the number of send operations after which to flush
+		 * @param maxBytes the number of bytes after which to flush,
+		 * or 0 for no limit
+		 * @param maxDelay the maximum time to hold back written data
+		 * @param scheduler the scheduler to perform delayed flushes with
+		 */
+		public static FlushPolicy batched(int maxSends, int maxBytes, Duration maxDelay, TaskScheduler scheduler) {
+			Assert.isTrue(maxSends > 0, "maxSends must be greater than 0");
+			Assert.isTrue(maxBytes >= 0, "maxBytes must not be negative");
+			Assert.notNull(maxDelay, "maxDelay must not be null");
+			Assert.isTrue(!maxDelay.isNegative() && !maxDelay.isZero(), "maxDelay must be positive");
+			Assert.notNull(scheduler, "TaskScheduler must not be null");
+			return new FlushPolicy(maxSends, maxBytes, maxDelay, scheduler);
+		}
+	}
+
+
 	private class DefaultCallback implements Runnable {
 
 		@Nullable
@@ -16,11 +16,16 @@
 
 package org.springframework.web.servlet.mvc.method.annotation;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
 import java.util.function.Consumer;
 
 import jakarta.servlet.ServletRequest;
@@ -39,6 +44,7 @@ import org.springframework.http.server.DelegatingServerHttpResponse;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -169,13 +175,13 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 
 		// Wrap the response to ignore further header changes
 		// Headers will be flushed at the first write
-		outputMessage = new StreamingServletServerHttpResponse(outputMessage);
+		StreamingServletServerHttpResponse streamingResponse = new StreamingServletServerHttpResponse(outputMessage);
 
 		HttpMessageConvertingHandler handler;
 		try {
 			DeferredResult<?> deferredResult = new DeferredResult<>(emitter.getTimeout());
 			WebAsyncUtils.getAsyncManager(webRequest).startDeferredResultProcessing(deferredResult, mavContainer);
-			handler = new HttpMessageConvertingHandler(outputMessage, deferredResult);
+			handler = new HttpMessageConvertingHandler(streamingResponse, deferredResult, emitter);
 		}
 		catch (Throwable ex) {
 			emitter.initializeWithError(ex);
@@ -187,33 +193,110 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 
 
 	/**
-	 * ResponseBodyEmitter.Handler that writes with HttpMessageConverter's.
+	 * ResponseBodyEmitter.Handler that writes with HttpMessageConverter's,
+	 * and flushes according to the emitter's FlushPolicy.
 	 */
 	private class HttpMessageConvertingHandler implements ResponseBodyEmitter.Handler {
 
-		private final ServerHttpResponse outputMessage;
+		private final StreamingServletServerHttpResponse outputMessage;
 
 		private final DeferredResult<?> deferredResult;
 
-		public HttpMessageConvertingHandler(ServerHttpResponse outputMessage, DeferredResult<?> deferredResult) {
+		private final ResponseBodyEmitter emitter;
+
+		private final ResponseBodyEmitter.FlushPolicy flushPolicy;
+
+		private int pendingSends;
+
+		private long flushedBytes;
+
+		@Nullable
+		private ScheduledFuture<?> scheduledFlush;
+
+		public HttpMessageConvertingHandler(StreamingServletServerHttpResponse outputMessage,
+				DeferredResult<?> deferredResult, ResponseBodyEmitter emitter) {
+
 			this.outputMessage = outputMessage;
 			this.deferredResult = deferredResult;
+			this.emitter = emitter;
+			this.flushPolicy = emitter.getFlushPolicy();
 		}
 
 		@Override
-		public void send(Object data, @Nullable MediaType mediaType) throws IOException {
+		public synchronized void send(Object data, @Nullable MediaType mediaType) throws IOException {
 			sendInternal(data, mediaType);
-			this.outputMessage.flush();
+			afterSend();
 		}
 
 		@Override
-		public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+		public synchronized void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
 			for (ResponseBodyEmitter.DataWithMediaType item : items) {
 				sendInternal(item.getData(), item.getMediaType());
 			}
+			afterSend();
+		}
+
+		@Override
+		public synchronized void sendHeartbeat(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+			if (this.pendingSends > 0) {
+				// Data waiting to be flushed keeps the connection alive as well
+				flush();
+			}
+			else {
+				for (ResponseBodyEmitter.DataWithMediaType item : items) {
+					sendInternal(item.getData(), item.getMediaType());
+				}
+				flush();
+			}
+		}
+
+		private void afterSend() throws IOException {
+			this.pendingSends++;
+			long pendingBytes = this.outputMessage.getBytesWritten() - this.flushedBytes;
+			if (this.flushPolicy.shouldFlush(this.pendingSends, pendingBytes)) {
+				flush();
+			}
+			else if (this.pendingSends == 1) {
+				Duration maxDelay = this.flushPolicy.getMaxDelay();
+				TaskScheduler scheduler = this.flushPolicy.getScheduler();
+				if (maxDelay != null && scheduler != null) {
+					this.scheduledFlush = scheduler.schedule(
+							() -> this.emitter.runIfNotComplete(this::scheduledFlush), Instant.now().plus(maxDelay));
+				}
+			}
+		}
+
+		private void flush() throws IOException {
+			cancelScheduledFlush();
+			this.pendingSends = 0;
+			this.flushedBytes = this.outputMessage.getBytesWritten();
 			this.outputMessage.flush();
 		}
 
+		/**
+		 * Flush pending data from the scheduler thread, run under the lock of
+		 * the emitter, and only if the emitter has not completed.
+		 */
+		private synchronized void scheduledFlush() {
+			this.scheduledFlush = null;
+			if (this.pendingSends == 0 || this.deferredResult.isSetOrExpired()) {
+				return;
+			}
+			try {
+				flush();
+			}
+			catch (IOException ex) {
+				this.deferredResult.setErrorResult(ex);
+			}
+		}
+
+		private void cancelScheduledFlush() {
+			if (this.scheduledFlush != null) {
+				this.scheduledFlush.cancel(false);
+				this.scheduledFlush = null;
+			}
+		}
+
 		@SuppressWarnings("unchecked")
 		private <T> void sendInternal(T data, @Nullable MediaType mediaType) throws IOException {
 			for (HttpMessageConverter<?> converter : ResponseBodyEmitterReturnValueHandler.this.sseMessageConverters) {
@@ -226,9 +309,9 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 		}
 
 		@Override
-		public void complete() {
+		public synchronized void complete() {
 			try {
-				this.outputMessage.flush();
+				flush();
 				this.deferredResult.setResult(null);
 			}
 			catch (IOException ex) {
@@ -237,7 +320,8 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 		}
 
 		@Override
-		public void completeWithError(Throwable failure) {
+		public synchronized void completeWithError(Throwable failure) {
+			cancelScheduledFlush();
 			this.deferredResult.setErrorResult(failure);
 		}
 
@@ -260,12 +344,16 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 
 	/**
 	 * Wrap to silently ignore header changes HttpMessageConverter's that would
-	 * otherwise cause HttpHeaders to raise exceptions.
+	 * otherwise cause HttpHeaders to raise exceptions, and to count the bytes
+	 * written to the body while leaving flushes to the FlushPolicy.
 	 */
 	private static class StreamingServletServerHttpResponse extends DelegatingServerHttpResponse {
 
 		private final HttpHeaders mutableHeaders = new HttpHeaders();
 
+		@Nullable
+		private CountingOutputStream body;
+
 		public StreamingServletServerHttpResponse(ServerHttpResponse delegate) {
 			super(delegate);
 			this.mutableHeaders.putAll(delegate.getHeaders());
@@ -276,6 +364,45 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 			return this.mutableHeaders;
 		}
 
+		@Override
+		public OutputStream getBody() throws IOException {
+			if (this.body == null) {
+				this.body = new CountingOutputStream(super.getBody());
+			}
+			return this.body;
+		}
+
+		public long getBytesWritten() {
+			return (this.body != null ? this.body.count : 0);
+		}
+	}
+
+
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		public CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.out.write(b);
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.out.write(b, off, len);
+			this.count += len;
+		}
+
+		@Override
+		public void flush() {
+			// HttpMessageConverter's flush after every write: ignore that, and
+			// flush through ServerHttpResponse#flush according to the FlushPolicy
+		}
 	}
 
 }
@@ -128,10 +128,16 @@ public class SseEmitter extends ResponseBodyEmitter {
 	 * @throws IOException raised when an I/O error occurs
 	 */
 	public void send(SseEventBuilder builder) throws IOException {
+		boolean heartbeat = (builder instanceof SseEventBuilderImpl impl && impl.isCommentOnly());
 		Set<DataWithMediaType> dataToSend = builder.build();
 		this.writeLock.lock();
 		try {
-			super.send(dataToSend);
+			if (heartbeat) {
+				super.sendHeartbeat(dataToSend);
+			}
+			else {
+				super.send(dataToSend);
+			}
 		}
 		finally {
 			this.writeLock.unlock();
@@ -203,26 +209,34 @@ public class SseEmitter extends ResponseBodyEmitter {
 		@Nullable
 		private StringBuilder sb;
 
+		private boolean hasComment;
+
+		private boolean hasFields;
+
 		@Override
 		public SseEventBuilder id(String id) {
+			this.hasFields = true;
 			append("id:").append(id).append('\n');
 			return this;
 		}
 
 		@Override
 		public SseEventBuilder name(String name) {
+			this.hasFields = true;
 			append("event:").append(name).append('\n');
 			return this;
 		}
 
 		@Override
 		public SseEventBuilder reconnectTime(long reconnectTimeMillis) {
+			this.hasFields = true;
 			append("retry:").append(String.valueOf(reconnectTimeMillis)).append('\n');
 			return this;
 		}
 
 		@Override
 		public SseEventBuilder comment(String comment) {
+			this.hasComment = true;
 			append(':').append(comment).append('\n');
 			return this;
 		}
@@ -234,6 +248,7 @@ public class SseEmitter extends ResponseBodyEmitter {
 
 		@Override
 		public SseEventBuilder data(Object object, @Nullable MediaType mediaType) {
+			this.hasFields = true;
 			append("data:");
 			saveAppendedText();
 			if (object instanceof String text) {
@@ -244,6 +259,14 @@ public class SseEmitter extends ResponseBodyEmitter {
 			return this;
 		}
 
+		/**
+		 * Whether the event only consists of comments, as typically sent to
+		 * keep the connection alive.
+		 */
+		boolean isCommentOnly() {
+			return (this.hasComment && !this.hasFields);
+		}
+
 		SseEventBuilderImpl append(String text) {
 			if (this.sb == null) {
 				this.sb = new StringBuilder();
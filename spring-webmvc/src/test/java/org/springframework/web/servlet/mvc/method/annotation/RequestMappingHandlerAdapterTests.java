@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.servlet.AsyncEvent;
 import org.apache.groovy.util.Maps;
@@ -51,6 +52,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.SessionAttributes;
 import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
@@ -59,6 +61,7 @@ import org.springframework.web.context.request.async.WebAsyncManager;
 import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.annotation.InitBinderDataBinderFactory;
 import org.springframework.web.method.annotation.ModelMethodProcessor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
@@ -218,6 +221,58 @@ class RequestMappingHandlerAdapterTests {
 		assertThat(mav.getModel().get("attr2")).isEqualTo("gAttr2");
 	}
 
+	@Test
+	void modelAttributeMethodsInvokedForEachRequest() throws Exception {
+		HandlerMethod handlerMethod = handlerMethod(new TestController(), "handle");
+		this.handlerAdapter.afterPropertiesSet();
+
+		ModelAndView mav1 = this.handlerAdapter.handle(this.request, this.response, handlerMethod);
+		ModelAndView mav2 = this.handlerAdapter.handle(this.request, new MockHttpServletResponse(), handlerMethod);
+
+		assertThat(mav1.getModel().get("attr1")).isEqualTo("lAttr1");
+		assertThat(mav2.getModel().get("attr1")).isEqualTo("lAttr1");
+	}
+
+	@Test
+	void handlerWithoutModelMethodsInvokedRepeatedly() throws Exception {
+		HandlerMethod handlerMethod = handlerMethod(new SimpleController(), "handle", String.class);
+		this.handlerAdapter.afterPropertiesSet();
+
+		for (int i = 0; i < 3; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+			request.setParameter("name", "name" + i);
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			ModelAndView mav = this.handlerAdapter.handle(request, response, handlerMethod);
+			assertThat(mav).isNull();
+			assertThat(response.getContentAsString()).isEqualTo("Hello name" + i);
+		}
+	}
+
+	@Test
+	void dataBinderFactoryCreatedForEachRequest() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		RequestMappingHandlerAdapter adapter = new RequestMappingHandlerAdapter() {
+			@Override
+			protected InitBinderDataBinderFactory createDataBinderFactory(List<InvocableHandlerMethod> binderMethods)
+					throws Exception {
+
+				count.incrementAndGet();
+				return super.createDataBinderFactory(binderMethods);
+			}
+		};
+		adapter.setApplicationContext(this.webAppContext);
+		adapter.afterPropertiesSet();
+		HandlerMethod handlerMethod = handlerMethod(new SimpleController(), "handle", String.class);
+
+		for (int i = 0; i < 3; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+			request.setParameter("name", "name" + i);
+			adapter.handle(request, new MockHttpServletResponse(), handlerMethod);
+		}
+		assertThat(count).hasValue(3);
+	}
+
 	@Test
 	void prototypeControllerAdvice() throws Exception {
 		this.webAppContext.registerPrototype("maa", ModelAttributeAdvice.class);
@@ -358,6 +413,16 @@ class RequestMappingHandlerAdapterTests {
 	}
 
 
+	private static class SimpleController {
+
+		@ResponseBody
+		@SuppressWarnings("unused")
+		public String handle(@RequestParam("name") String name) {
+			return "Hello " + name;
+		}
+	}
+
+
 	@SessionAttributes("attr1")
 	private static class SessionAttributeController {
 
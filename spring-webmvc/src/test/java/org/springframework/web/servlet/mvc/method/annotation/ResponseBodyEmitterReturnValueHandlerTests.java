@@ -16,9 +16,12 @@
 
 package org.springframework.web.servlet.mvc.method.annotation;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -36,6 +39,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.async.AsyncWebRequest;
@@ -49,6 +53,7 @@ import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -67,7 +72,7 @@ class ResponseBodyEmitterReturnValueHandlerTests {
 
 	private MockHttpServletRequest request = new MockHttpServletRequest();
 
-	private MockHttpServletResponse response = new MockHttpServletResponse();
+	private FlushCountingResponse response = new FlushCountingResponse();
 
 	private NativeWebRequest webRequest = new ServletWebRequest(this.request, this.response);
 
@@ -218,6 +223,95 @@ class ResponseBodyEmitterReturnValueHandlerTests {
 				"""));
 	}
 
+	@Test
+	void sseEmitterWithBatchedFlushPolicy() throws Exception {
+		MethodParameter type = on(TestController.class).resolveReturnType(SseEmitter.class);
+		SseEmitter emitter = new SseEmitter();
+		emitter.setFlushPolicy(ResponseBodyEmitter.FlushPolicy.batched(3, 0));
+		this.handler.handleReturnValue(emitter, type, this.mavContainer, this.webRequest);
+
+		emitter.send(SseEmitter.event().data("a"));
+		emitter.send(SseEmitter.event().data("b"));
+		assertThat(this.response.flushCount).isEqualTo(0);
+
+		emitter.send(SseEmitter.event().comment("heartbeat"));
+		assertThat(this.response.flushCount).isEqualTo(1);
+
+		emitter.send(SseEmitter.event().data("c"));
+		emitter.send(SseEmitter.event().data("d"));
+		emitter.send(SseEmitter.event().data("e"));
+		assertThat(this.response.flushCount).isEqualTo(2);
+
+		emitter.send(SseEmitter.event().comment("heartbeat"));
+		assertThat(this.response.flushCount).isEqualTo(3);
+
+		emitter.send(SseEmitter.event().data("f"));
+		emitter.complete();
+		assertThat(this.response.flushCount).isEqualTo(4);
+		assertThat(this.response.getContentAsString()).isEqualTo(
+				"data:a\n\ndata:b\n\ndata:c\n\ndata:d\n\ndata:e\n\n:heartbeat\n\ndata:f\n\n");
+	}
+
+	@Test
+	void responseBodyEmitterWithMaxBytesFlushPolicy() throws Exception {
+		MethodParameter type = on(TestController.class).resolveReturnType(ResponseBodyEmitter.class);
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+		emitter.setFlushPolicy(ResponseBodyEmitter.FlushPolicy.batched(100, 10));
+		this.handler.handleReturnValue(emitter, type, this.mavContainer, this.webRequest);
+
+		emitter.send("12345");
+		assertThat(this.response.flushCount).isEqualTo(0);
+		emitter.send("67890");
+		assertThat(this.response.flushCount).isEqualTo(1);
+	}
+
+	@Test
+	void responseBodyEmitterWithDelayedFlushPolicy() throws Exception {
+		TaskScheduler scheduler = mock();
+		AtomicReference<Runnable> scheduledTask = new AtomicReference<>();
+		given(scheduler.schedule(any(Runnable.class), any(Instant.class))).willAnswer(invocation -> {
+			scheduledTask.set(invocation.getArgument(0));
+			return mock(ScheduledFuture.class);
+		});
+
+		MethodParameter type = on(TestController.class).resolveReturnType(ResponseBodyEmitter.class);
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+		emitter.setFlushPolicy(ResponseBodyEmitter.FlushPolicy.batched(100, 0, Duration.ofMillis(50), scheduler));
+		this.handler.handleReturnValue(emitter, type, this.mavContainer, this.webRequest);
+
+		emitter.send("foo");
+		emitter.send("bar");
+		assertThat(this.response.flushCount).isEqualTo(0);
+		verify(scheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+
+		scheduledTask.get().run();
+		assertThat(this.response.flushCount).isEqualTo(1);
+		assertThat(this.response.getContentAsString()).isEqualTo("foobar");
+	}
+
+	@Test
+	void responseBodyEmitterWithDelayedFlushAfterCompletion() throws Exception {
+		TaskScheduler scheduler = mock();
+		AtomicReference<Runnable> scheduledTask = new AtomicReference<>();
+		given(scheduler.schedule(any(Runnable.class), any(Instant.class))).willAnswer(invocation -> {
+			scheduledTask.set(invocation.getArgument(0));
+			return mock(ScheduledFuture.class);
+		});
+
+		MethodParameter type = on(TestController.class).resolveReturnType(ResponseBodyEmitter.class);
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+		emitter.setFlushPolicy(ResponseBodyEmitter.FlushPolicy.batched(100, 0, Duration.ofMillis(50), scheduler));
+		this.handler.handleReturnValue(emitter, type, this.mavContainer, this.webRequest);
+
+		emitter.send("foo");
+		emitter.complete();
+		assertThat(this.response.flushCount).isEqualTo(1);
+
+		scheduledTask.get().run();
+		assertThat(this.response.flushCount).isEqualTo(1);
+		assertThat(this.response.getContentAsString()).isEqualTo("foo");
+	}
+
 	@Test
 	void responseBodyFlux() throws Exception {
 		this.request.addHeader("Accept", "text/event-stream");
@@ -340,6 +434,18 @@ class ResponseBodyEmitterReturnValueHandlerTests {
 	}
 
 
+	private static class FlushCountingResponse extends MockHttpServletResponse {
+
+		private int flushCount;
+
+		@Override
+		public void flushBuffer() {
+			this.flushCount++;
+			super.flushBuffer();
+		}
+	}
+
+
 	@SuppressWarnings({"unused", "ConstantConditions"})
 	private static class TestController {
 